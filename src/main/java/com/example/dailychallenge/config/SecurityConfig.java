@@ -68,7 +68,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                         "/challenge/new", "/challenge/{challengeId:[\\d+]}/**",
                         "/{challengeId:[\\d+]}/comment/new", "/{challengeId:[\\d+]}/comment/{\\d+}",
                         "/{commentId:[\\d+]}/like",
-                        "/{challengeId:[\\d+]}/bookmark/new", "/user/badges").authenticated()
+                        "/{challengeId:[\\d+]}/bookmark/new", "/user/badges/**", "/admin/**").authenticated()
 //                .antMatchers("/user/login","/user/new","/**.html","/images/**","/","/token/**","/login/**","/oauth2/**","/api/user").permitAll()
                 .anyRequest().permitAll()
                 .and()
@@ -2,9 +2,7 @@ package com.example.dailychallenge.controller;
 
 import com.example.dailychallenge.dto.ChallengeDto;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
-import com.example.dailychallenge.dto.HashtagChallengesDto;
 import com.example.dailychallenge.dto.HashtagDto;
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
 import com.example.dailychallenge.entity.challenge.ChallengeDuration;
@@ -14,25 +12,23 @@ import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
 import com.example.dailychallenge.entity.hashtag.Hashtag;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.exception.users.UserNotFound;
-import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
 import com.example.dailychallenge.service.challenge.ChallengeService;
 import com.example.dailychallenge.service.challenge.UserChallengeService;
 import com.example.dailychallenge.service.hashtag.ChallengeHashtagService;
+import com.example.dailychallenge.service.hashtag.HashtagLeaderboard;
 import com.example.dailychallenge.service.hashtag.HashtagService;
 import com.example.dailychallenge.service.users.UserService;
-import com.example.dailychallenge.vo.badge.ResponseCreateChallengeBadge;
 import com.example.dailychallenge.vo.challenge.RequestCreateChallenge;
 import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeSlice;
 import com.example.dailychallenge.vo.challenge.ResponseChallengeWithParticipatedUsersInfo;
 import com.example.dailychallenge.vo.challenge.ResponseCreateChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseUpdateChallenge;
-import com.example.dailychallenge.vo.challenge.ResponseUserChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
 import com.example.dailychallenge.vo.hashtag.ResponseChallengeHashtag;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +36,7 @@ import org.hibernate.validator.constraints.Range;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -65,13 +62,13 @@ public class ChallengeController {
     private final UserChallengeService userChallengeService;
     private final HashtagService hashtagService;
     private final ChallengeHashtagService challengeHashtagService;
+    private final HashtagLeaderboard hashtagLeaderboard;
     private final UserService userService;
-    private final UserBadgeEvaluationService userBadgeEvaluationService;
 
 
     @PostMapping(value = "/challenge/new", consumes = {MediaType.APPLICATION_JSON_VALUE,
             MediaType.MULTIPART_FORM_DATA_VALUE})
-    public ResponseEntity<Object> createChallenge(
+    public ResponseEntity<ResponseCreateChallenge> createChallenge(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
             @RequestPart @Valid RequestCreateChallenge requestCreateChallenge,
             @RequestPart(required = false) List<MultipartFile> challengeImgFiles,
@@ -90,63 +87,81 @@ public class ChallengeController {
             challengeHashtagService.saveChallengeHashtag(challenge, hashtags);
         }
 
-        Optional<ResponseCreateChallengeBadge> responseCreateChallengeBadge = isBadgeCreated(findUser, challenge,
-                userChallenge);
-        if (responseCreateChallengeBadge.isPresent()) {
-            return ResponseEntity.status(HttpStatus.CREATED).body(responseCreateChallengeBadge);
-        }
-
         ResponseCreateChallenge responseCreateChallenge = ResponseCreateChallenge.create(challenge, userChallenge);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseCreateChallenge);
     }
 
-    private Optional<ResponseCreateChallengeBadge> isBadgeCreated(User user, Challenge challenge,
-                                                                  UserChallenge userChallenge) {
-
-        Optional<Badge> optionalBadge = userBadgeEvaluationService.createChallengeCreateBadgeIfFollowStandard(user);
-        if (optionalBadge.isPresent()) {
-            Badge badge = optionalBadge.get();
-            ResponseCreateChallengeBadge responseCreateChallengeBadge = ResponseCreateChallengeBadge.create(challenge,
-                    userChallenge, badge);
-            return Optional.of(responseCreateChallengeBadge);
-        }
-        return Optional.empty();
-    }
-
     @GetMapping("/challenge/{challengeId}")
     public ResponseEntity<ResponseChallengeWithParticipatedUsersInfo> findChallengeById(
             @PathVariable Long challengeId) {
-        ResponseChallenge responseChallenge = challengeService.searchById(challengeId);
-        List<ResponseUserChallenge> responseUserChallenges = userChallengeService.searchByChallengeId(challengeId);
-
         ResponseChallengeWithParticipatedUsersInfo responseChallengeWithParticipatedUsersInfo =
-                ResponseChallengeWithParticipatedUsersInfo.builder()
-                        .responseChallenge(responseChallenge)
-                        .responseUserChallenges(responseUserChallenges)
-                        .build();
+                challengeService.searchDetailById(challengeId);
+
         return ResponseEntity.status(HttpStatus.OK).body(responseChallengeWithParticipatedUsersInfo);
     }
 
+    @GetMapping("/challenge/{challengeId}/participants")
+    public ResponseEntity<ResponseUserChallengeSlice> searchParticipants(
+            @PathVariable Long challengeId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) Integer size) {
+
+        ResponseUserChallengeSlice participants = userChallengeService.searchParticipants(challengeId, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(participants);
+    }
+
     @GetMapping("/challenge")
-    public ResponseEntity<Page<ResponseChallenge>> searchAllChallengesSortByPopular(
-            @PageableDefault(page = 0, size = 10, sort = "popular", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<Slice<ResponseChallenge>> searchAllChallengesSortByPopular(
+            @PageableDefault(page = 0, size = 10, sort = "popular", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotalCount) {
 
-        Page<ResponseChallenge> responseChallenges = userChallengeService.searchAll(pageable);
+        Slice<ResponseChallenge> responseChallenges = withTotalCount
+                ? userChallengeService.searchAll(pageable)
+                : userChallengeService.sliceAll(pageable);
 
         return ResponseEntity.status(HttpStatus.OK).body(responseChallenges);
     }
 
     @GetMapping("/challenge/condition")
-    public ResponseEntity<Page<ResponseChallenge>> searchChallengesByConditionSortByPopular(
+    public ResponseEntity<Slice<ResponseChallenge>> searchChallengesByConditionSortByPopular(
             ChallengeSearchCondition condition,
-            @PageableDefault(page = 0, size = 10, sort = "popular", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(page = 0, size = 10, sort = "popular", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotalCount) {
 
-        Page<ResponseChallenge> responseChallenges = userChallengeService.searchByCondition(condition, pageable);
+        Slice<ResponseChallenge> responseChallenges = withTotalCount
+                ? userChallengeService.searchByCondition(condition, pageable)
+                : userChallengeService.sliceByCondition(condition, pageable);
 
         return ResponseEntity.status(HttpStatus.OK).body(responseChallenges);
     }
 
+    @GetMapping("/challenge/cursor")
+    public ResponseEntity<ResponseChallengeSlice> searchAllChallengesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "popular") String sort,
+            @RequestParam(defaultValue = "10") @Range(min = 1, max = 100) Integer size) {
+
+        ResponseChallengeSlice responseChallengeSlice = userChallengeService.searchByCursor(
+                new ChallengeSearchCondition(), sort, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseChallengeSlice);
+    }
+
+    @GetMapping("/challenge/condition/cursor")
+    public ResponseEntity<ResponseChallengeSlice> searchChallengesByConditionAndCursor(
+            ChallengeSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "popular") String sort,
+            @RequestParam(defaultValue = "10") @Range(min = 1, max = 100) Integer size) {
+
+        ResponseChallengeSlice responseChallengeSlice = userChallengeService.searchByCursor(
+                condition, sort, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseChallengeSlice);
+    }
+
     @GetMapping("/challenge/question")
     public ResponseEntity<List<ResponseRecommendedChallenge>> searchChallengesByQuestion(
             @RequestParam @Range(min = 0, max = 1) Integer challengeLocationIndex,
@@ -166,23 +181,17 @@ public class ChallengeController {
     @GetMapping("/challenge/hashtags")
     public ResponseEntity<List<ResponseChallengeHashtag>> searchChallengesByHashtags() {
 
-        List<Hashtag> hashtags = hashtagService.searchThreeMostWrittenHashtags();
-        List<HashtagChallengesDto> hashtagChallengesDtos = challengeHashtagService.searchByHashtags(hashtags);
-
-        List<ResponseChallengeHashtag> responseChallengeHashtags = new ArrayList<>();
-        for (HashtagChallengesDto hashtagChallengesDto : hashtagChallengesDtos) {
-            responseChallengeHashtags.add(
-                    ResponseChallengeHashtag.create(
-                            hashtagChallengesDto.getHashtag(), hashtagChallengesDto.getChallenges()));
-        }
+        List<ResponseChallengeHashtag> responseChallengeHashtags = hashtagLeaderboard.top()
+                .orElseGet(hashtagService::searchChallengesByThreeMostWrittenHashtags);
 
         return ResponseEntity.status(HttpStatus.OK).body(responseChallengeHashtags);
     }
 
     @GetMapping("/challenge/random")
-    public ResponseEntity<ResponseRecommendedChallenge> searchChallengeByRandom() {
+    public ResponseEntity<ResponseRecommendedChallenge> searchChallengeByRandom(
+            @RequestParam(defaultValue = "false") boolean weighted) {
 
-        ResponseRecommendedChallenge recommendedChallenge = challengeService.searchByRandom();
+        ResponseRecommendedChallenge recommendedChallenge = challengeService.searchByRandom(weighted);
 
         return ResponseEntity.status(HttpStatus.OK).body(recommendedChallenge);
     }
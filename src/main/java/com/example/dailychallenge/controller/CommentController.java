@@ -1,13 +1,11 @@
 package com.example.dailychallenge.controller;
 
 import com.example.dailychallenge.dto.CommentDto;
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.comment.Comment;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.exception.users.UserNotFound;
 import com.example.dailychallenge.service.HeartService;
-import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
 import com.example.dailychallenge.service.challenge.ChallengeService;
 import com.example.dailychallenge.service.comment.CommentService;
 import com.example.dailychallenge.service.users.UserService;
@@ -15,16 +13,14 @@ import com.example.dailychallenge.vo.ResponseChallengeComment;
 import com.example.dailychallenge.vo.ResponseChallengeCommentImg;
 import com.example.dailychallenge.vo.ResponseComment;
 import com.example.dailychallenge.vo.ResponseUserComment;
-import com.example.dailychallenge.vo.badge.ResponseCommentWriteBadge;
-import com.example.dailychallenge.vo.badge.ResponseCreateBadge;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -45,11 +41,10 @@ public class CommentController {
     private final CommentService commentService;
     private final UserService userService;
     private final ChallengeService challengeService;
-    private final UserBadgeEvaluationService userBadgeEvaluationService;
     private final HeartService heartService;
 
     @PostMapping(value = "/{challengeId}/comment/new")
-    public ResponseEntity<Object> createComment(
+    public ResponseEntity<ResponseComment> createComment(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
             @PathVariable("challengeId") Long challengeId,
             @RequestPart(required = false) @Valid CommentDto commentDto,
@@ -62,11 +57,6 @@ public class CommentController {
 
         Comment comment = commentService.saveComment(commentDto, commentImgFiles, findUser, challenge);
 
-        Optional<ResponseCommentWriteBadge> optionalResponseCommentWriteBadge = isBadgeCreated(findUser, comment);
-        if (optionalResponseCommentWriteBadge.isPresent()) {
-            return ResponseEntity.status(HttpStatus.CREATED).body(optionalResponseCommentWriteBadge);
-        }
-
         ResponseComment responseComment = ResponseComment.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
@@ -77,23 +67,6 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseComment);
     }
 
-    private Optional<ResponseCommentWriteBadge> isBadgeCreated(User user, Comment comment) {
-
-        Optional<Badge> optionalBadge = userBadgeEvaluationService.createCommentWriteBadgeIfFollowStandard(user);
-        if (optionalBadge.isPresent()) {
-            Badge badge = optionalBadge.get();
-            ResponseCommentWriteBadge responseCommentWriteBadge = ResponseCommentWriteBadge.builder()
-                    .id(comment.getId())
-                    .content(comment.getContent())
-                    .createdAt(comment.getSpecificCreatedAt())
-                    .userId(comment.getUsers().getId())
-                    .responseCreateBadge(ResponseCreateBadge.create(badge))
-                    .build();
-            return Optional.of(responseCommentWriteBadge);
-        }
-        return Optional.empty();
-    }
-
     @PostMapping("/{challengeId}/comment/{commentId}")
     public void updateComment(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
@@ -135,12 +108,15 @@ public class CommentController {
     }
 
     @GetMapping("/{challengeId}/comment")
-    public ResponseEntity<Page<ResponseChallengeComment>> searchCommentsByChallengeId(
+    public ResponseEntity<Slice<ResponseChallengeComment>> searchCommentsByChallengeId(
             @PathVariable Long challengeId,
-            @PageableDefault(page = 0, size = 10, sort = "time", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(page = 0, size = 10, sort = "time", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotalCount) {
 
         Challenge challenge = challengeService.findById(challengeId);
-        Page<ResponseChallengeComment> result = commentService.searchCommentsByChallengeId(challenge, pageable);
+        Slice<ResponseChallengeComment> result = withTotalCount
+                ? commentService.searchCommentsByChallengeId(challenge, pageable)
+                : commentService.sliceCommentsByChallengeId(challenge, pageable);
 
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
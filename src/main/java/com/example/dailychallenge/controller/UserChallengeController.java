@@ -1,38 +1,44 @@
 package com.example.dailychallenge.controller;
 
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.exception.users.UserNotFound;
-import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
+import com.example.dailychallenge.service.challenge.ChallengeCheckInService;
 import com.example.dailychallenge.service.challenge.ChallengeService;
+import com.example.dailychallenge.service.challenge.UserChallengeHistoryService;
 import com.example.dailychallenge.service.challenge.UserChallengeService;
 import com.example.dailychallenge.service.users.UserService;
 import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
 import com.example.dailychallenge.vo.ResponseMessage;
-import com.example.dailychallenge.vo.badge.ResponseAchievementBadgeMessage;
-import com.example.dailychallenge.vo.badge.ResponseCreateBadge;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementCalendar;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementStreak;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Range;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class UserChallengeController {
 
     private final ChallengeService challengeService;
     private final UserChallengeService userChallengeService;
     private final UserService userService;
-    private final UserBadgeEvaluationService userBadgeEvaluationService;
+    private final ChallengeCheckInService challengeCheckInService;
+    private final UserChallengeHistoryService userChallengeHistoryService;
 
     @PostMapping("/challenge/{challengeId}/participate")
     public ResponseEntity<ResponseMessage> participateInChallenge(
@@ -75,17 +81,10 @@ public class UserChallengeController {
 
 
     @PostMapping("/challenge/{challengeId}/success")
-    public ResponseEntity<Object> succeedInChallenge(
+    public ResponseEntity<ResponseMessage> succeedInChallenge(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
             @PathVariable Long challengeId){
-        String userEmail = user.getUsername();
-        User findUser = userService.findByEmail(userEmail).orElseThrow(UserNotFound::new);
-        userChallengeService.succeedInChallenge(findUser.getId(), challengeId);
-
-        Optional<ResponseAchievementBadgeMessage> responseAchievementBadgeMessage = isBadgeCreated(findUser);
-        if (responseAchievementBadgeMessage.isPresent()) {
-            return ResponseEntity.status(HttpStatus.OK).body(responseAchievementBadgeMessage);
-        }
+        challengeCheckInService.succeed(user.getUsername(), challengeId);
 
         ResponseMessage responseMessage = ResponseMessage.builder()
                 .code(200)
@@ -95,27 +94,11 @@ public class UserChallengeController {
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
 
-    private Optional<ResponseAchievementBadgeMessage> isBadgeCreated(User user) {
-        Optional<Badge> optionalBadge = userBadgeEvaluationService.createAchievementBadgeIfFollowStandard(user);
-        if (optionalBadge.isPresent()) {
-            Badge badge = optionalBadge.get();
-            ResponseAchievementBadgeMessage responseAchievementBadgeMessage = ResponseAchievementBadgeMessage.builder()
-                    .code(200)
-                    .message("챌린지 달성 완료!")
-                    .responseCreateBadge(ResponseCreateBadge.create(badge))
-                    .build();
-            return Optional.of(responseAchievementBadgeMessage);
-        }
-        return Optional.empty();
-    }
-
     @PostMapping("/challenge/{challengeId}/pause")
     public ResponseEntity<ResponseMessage> pauseChallenge(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
             @PathVariable Long challengeId){
-        String userEmail = user.getUsername();
-        User findUser = userService.findByEmail(userEmail).orElseThrow(UserNotFound::new);
-        userChallengeService.pauseChallenge(findUser.getId(), challengeId);
+        challengeCheckInService.pause(user.getUsername(), challengeId);
 
         ResponseMessage responseMessage = ResponseMessage.builder()
                 .code(200)
@@ -125,6 +108,33 @@ public class UserChallengeController {
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
 
+    @GetMapping("/challenge/{challengeId}/streak")
+    public ResponseEntity<ResponseAchievementStreak> getAchievementStreak(
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
+            @PathVariable Long challengeId) {
+        User findUser = userService.findByEmail(user.getUsername()).orElseThrow(UserNotFound::new);
+        ResponseAchievementStreak streak
+                = userChallengeHistoryService.getStreak(findUser.getId(), challengeId, LocalDate.now());
+
+        return ResponseEntity.status(HttpStatus.OK).body(streak);
+    }
+
+    @GetMapping("/challenge/{challengeId}/calendar")
+    public ResponseEntity<ResponseAchievementCalendar> getAchievementCalendar(
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
+            @PathVariable Long challengeId,
+            @RequestParam(required = false) @Range(min = 2000, max = 9999) Integer year,
+            @RequestParam(required = false) @Range(min = 1, max = 12) Integer month) {
+        User findUser = userService.findByEmail(user.getUsername()).orElseThrow(UserNotFound::new);
+        YearMonth thisMonth = YearMonth.now();
+        YearMonth yearMonth = YearMonth.of(year == null ? thisMonth.getYear() : year,
+                month == null ? thisMonth.getMonthValue() : month);
+        ResponseAchievementCalendar calendar
+                = userChallengeHistoryService.getCalendar(findUser.getId(), challengeId, yearMonth);
+
+        return ResponseEntity.status(HttpStatus.OK).body(calendar);
+    }
+
     @GetMapping("/user/done") // 오늘 수행한 챌린지
     public ResponseEntity<List<ResponseChallengeByUserChallenge>> getTodayUserChallenge(
             @AuthenticationPrincipal org.springframework.security.core.userdetails.User user
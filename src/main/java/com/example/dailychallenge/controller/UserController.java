@@ -9,7 +9,6 @@ import com.example.dailychallenge.exception.users.UserLoginFailure;
 import com.example.dailychallenge.exception.users.UserNotFound;
 import com.example.dailychallenge.exception.users.UserPasswordCheck;
 import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
-import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.service.email.EmailService;
 import com.example.dailychallenge.service.users.UserService;
 import com.example.dailychallenge.utils.JwtTokenUtil;
@@ -23,14 +22,12 @@ import com.example.dailychallenge.vo.ResponseLoginUser;
 import com.example.dailychallenge.vo.ResponseUser;
 import com.example.dailychallenge.vo.ResponseUserInfo;
 import com.example.dailychallenge.vo.challenge.ResponseInProgressChallenge;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallengeSlice;
 import java.util.List;
-import java.util.Set;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.validator.constraints.Range;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -42,6 +39,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -55,11 +53,11 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 @RequiredArgsConstructor
 @Slf4j
+@Validated
 public class UserController {
 
     private final UserService userService;
     private final UserBadgeEvaluationService userBadgeEvaluationService;
-    private final UserBadgeService userBadgeService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenUtil jwtTokenUtil;
@@ -75,7 +73,6 @@ public class UserController {
         responseUser.setUserId(savedUser.getId());
 
         userBadgeEvaluationService.createUserBadgeEvaluation(savedUser);
-        userBadgeService.saveUserBadges(savedUser);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseUser);
     }
@@ -180,23 +177,15 @@ public class UserController {
     }
 
     @GetMapping("/user/participate") // 내가 작성한 챌린지 + 내가 참여한 챌린지 조회
-    public ResponseEntity<List<ResponseChallengeByUserChallenge>> getParticipateChallenge(
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user){
+    public ResponseEntity<ResponseMyChallengeSlice> getParticipateChallenge(
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) Integer size){
 
         User getUser = userService.findByEmail(user.getUsername()).orElseThrow(UserNotFound::new);
-        List<ResponseChallengeByUserChallenge> participateChallenges = userService.getParticipateChallenge(getUser.getId());
-
-        List<ResponseChallengeByUserChallenge> challengesCreatedByMe = userService.getChallengeByUser(getUser.getId());
-
-        List<ResponseChallengeByUserChallenge> concat = new ArrayList<>();
-        concat.addAll(participateChallenges);
-        concat.addAll(challengesCreatedByMe);
-
-        Set<ResponseChallengeByUserChallenge> set = new HashSet<>(concat);
-        List<ResponseChallengeByUserChallenge> result = new ArrayList<>(set);
-        result.sort(Comparator.comparing(ResponseChallengeByUserChallenge::getCreatedAt));
+        ResponseMyChallengeSlice myChallenges = userService.getMyChallenges(getUser.getId(), cursor, size);
 
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+        return ResponseEntity.status(HttpStatus.OK).body(myChallenges);
     }
 
     @GetMapping("/user/inProgress") // 내가 진행중인 챌린지 조회
@@ -1,28 +1,62 @@
 package com.example.dailychallenge.controller.badge;
 
-import com.example.dailychallenge.entity.badge.Badge;
+import com.example.dailychallenge.service.badge.BadgeCatalog;
+import com.example.dailychallenge.service.badge.BadgeCounterRecomputeService;
 import com.example.dailychallenge.service.badge.BadgeService;
-import com.example.dailychallenge.vo.badge.ResponseBadge;
-import java.util.List;
+import com.example.dailychallenge.utils.ETags;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 @Validated
 public class BadgeController {
+    private static final CacheControl BADGES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final BadgeService badgeService;
+    private final BadgeCounterRecomputeService badgeCounterRecomputeService;
+
+    @GetMapping(value = "/badges", produces = MediaType.APPLICATION_JSON_VALUE) // 미리 직렬화해 둔 뱃지 목록
+    public ResponseEntity<byte[]> getAllBadges(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        BadgeCatalog catalog = badgeService.getCatalog();
+
+        if (ETags.matches(ifNoneMatch, catalog.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(BADGES_CACHE_CONTROL)
+                    .eTag(catalog.getETag())
+                    .build();
+        }
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(BADGES_CACHE_CONTROL)
+                .eTag(catalog.getETag())
+                .body(catalog.getBadgesJson());
+    }
+
+    @PostMapping("/admin/badges/recompute") // 관리자만, 뱃지 평가 카운터와 얻은 뱃지를 원본 테이블에서 다시 계산하는 작업을 시작
+    public ResponseEntity<ResponseBadgeRecompute> recomputeBadgeCounters(@AuthenticationPrincipal User user) {
+        ResponseBadgeRecompute responseBadgeRecompute = badgeCounterRecomputeService.start(user.getUsername());
 
-    @GetMapping("/badges")
-    public ResponseEntity<List<ResponseBadge>> getAllBadges() {
-        List<Badge> badges = badgeService.getAll();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responseBadgeRecompute);
+    }
 
-        List<ResponseBadge> responseBadges = ResponseBadge.create(badges);
+    @GetMapping("/admin/badges/recompute") // 관리자만, 진행 중이거나 마지막으로 끝난 재계산 결과
+    public ResponseEntity<ResponseBadgeRecompute> getBadgeRecomputeStatus(@AuthenticationPrincipal User user) {
+        ResponseBadgeRecompute responseBadgeRecompute = badgeCounterRecomputeService.getStatus(user.getUsername());
 
-        return ResponseEntity.status(HttpStatus.OK).body(responseBadges);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBadgeRecompute);
     }
-}
\ No newline at end of file
+}
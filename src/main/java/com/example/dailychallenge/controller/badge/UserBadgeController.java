@@ -5,34 +5,85 @@ import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.exception.users.UserNotFound;
 import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.service.users.UserService;
+import com.example.dailychallenge.utils.ETags;
+import com.example.dailychallenge.vo.ResponseMessage;
+import com.example.dailychallenge.vo.badge.ResponseCreateBadge;
 import com.example.dailychallenge.vo.badge.ResponseUserBadge;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 @Validated
 public class UserBadgeController {
+    private static final CacheControl USER_BADGES_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
     private final UserBadgeService userBadgeService;
 
-    @GetMapping("/user/badges")
+    @GetMapping("/user/badges") // 뱃지 버전이 그대로면 얻은 뱃지를 조회하지 않고 304
     public ResponseEntity<List<ResponseUserBadge>> getAllUserBadges(
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user) {
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         String userEmail = user.getUsername();
         User findUser = userService.findByEmail(userEmail).orElseThrow(UserNotFound::new);
-        Long userId = findUser.getId();
+        String eTag = userBadgeService.getUserBadgesETag(findUser);
+
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(USER_BADGES_CACHE_CONTROL)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        List<ResponseUserBadge> responseUserBadges = userBadgeService.getUserBadges(findUser.getId());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(USER_BADGES_CACHE_CONTROL)
+                .eTag(eTag)
+                .body(responseUserBadges);
+    }
+
+    @GetMapping("/user/badges/new") // 확인하지 않은 새로 얻은 뱃지 조회, 확인 표시는 하지 않는다
+    public ResponseEntity<List<ResponseCreateBadge>> getNewUserBadges(
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user) {
+
+        User findUser = userService.findByEmail(user.getUsername()).orElseThrow(UserNotFound::new);
+
+        List<ResponseCreateBadge> responseCreateBadges = new ArrayList<>();
+        for (UserBadge userBadge : userBadgeService.findNewBadges(findUser.getId())) {
+            responseCreateBadges.add(ResponseCreateBadge.create(userBadge));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseCreateBadges);
+    }
+
+    @PostMapping("/user/badges/new/acknowledge") // 마지막으로 받은 유저 뱃지 id 까지 확인한 것으로 표시
+    public ResponseEntity<ResponseMessage> acknowledgeNewUserBadges(
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.User user,
+            @RequestParam Long lastUserBadgeId) {
+
+        User findUser = userService.findByEmail(user.getUsername()).orElseThrow(UserNotFound::new);
+        userBadgeService.acknowledgeNewBadges(findUser.getId(), lastUserBadgeId);
 
-        List<UserBadge> userBadges =  userBadgeService.findAllByUserId(userId);
-        List<ResponseUserBadge> responseUserBadges = ResponseUserBadge.create(userBadges);
+        ResponseMessage responseMessage = ResponseMessage.builder()
+                .code(200)
+                .message("새 뱃지 확인 완료")
+                .build();
 
-        return ResponseEntity.status(HttpStatus.OK).body(responseUserBadges);
+        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,13 @@ package com.example.dailychallenge.controller.exception;
 import com.example.dailychallenge.exception.AuthorizationException;
 import com.example.dailychallenge.exception.CommonException;
 import com.example.dailychallenge.exception.FileNotUpload;
+import com.example.dailychallenge.exception.badge.BadgeNotFound;
+import com.example.dailychallenge.exception.badge.BadgeRecomputeInProgress;
 import com.example.dailychallenge.exception.badge.UserBadgeNotFound;
 import com.example.dailychallenge.exception.bookmark.BookmarkDuplicate;
 import com.example.dailychallenge.exception.bookmark.BookmarkNotFound;
 import com.example.dailychallenge.exception.challenge.ChallengeCategoryNotFound;
+import com.example.dailychallenge.exception.challenge.ChallengeCursorNotValid;
 import com.example.dailychallenge.exception.challenge.ChallengeNotFound;
 import com.example.dailychallenge.exception.comment.CommentCreateNotValid;
 import com.example.dailychallenge.exception.comment.CommentDateDuplicateCheck;
@@ -256,6 +259,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(responseError.getCode()).body(responseError);
     }
 
+    @ExceptionHandler(BadgeNotFound.class)
+    protected ResponseEntity<ResponseError> handlerBadgeNotFound(
+            BadgeNotFound badgeNotFound) {
+        final ResponseError responseError = ResponseError.builder()
+                .code(badgeNotFound.getStatusCode())
+                .message(badgeNotFound.getMessage())
+                .build();
+
+        return ResponseEntity.status(responseError.getCode()).body(responseError);
+    }
+
+    @ExceptionHandler(BadgeRecomputeInProgress.class)
+    protected ResponseEntity<ResponseError> handlerBadgeRecomputeInProgress(
+            BadgeRecomputeInProgress badgeRecomputeInProgress) {
+        final ResponseError responseError = ResponseError.builder()
+                .code(badgeRecomputeInProgress.getStatusCode())
+                .message(badgeRecomputeInProgress.getMessage())
+                .build();
+
+        return ResponseEntity.status(responseError.getCode()).body(responseError);
+    }
+
     @ExceptionHandler(UserBadgeNotFound.class)
     protected ResponseEntity<ResponseError> handlerUserBadgeNotFound(
             UserBadgeNotFound userBadgeNotFound) {
@@ -310,4 +335,15 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(responseError.getCode()).body(responseError);
     }
+
+    @ExceptionHandler(ChallengeCursorNotValid.class)
+    protected ResponseEntity<ResponseError> handlerChallengeCursorNotValid(
+            ChallengeCursorNotValid challengeCursorNotValid) {
+        final ResponseError responseError = ResponseError.builder()
+                .code(challengeCursorNotValid.getStatusCode())
+                .message(challengeCursorNotValid.getMessage())
+                .build();
+
+        return ResponseEntity.status(responseError.getCode()).body(responseError);
+    }
 }
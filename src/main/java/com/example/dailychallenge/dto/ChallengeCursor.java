@@ -0,0 +1,80 @@
+package com.example.dailychallenge.dto;
+
+import com.example.dailychallenge.exception.challenge.ChallengeCursorNotValid;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 챌린지 목록 keyset 페이지네이션의 다음 위치 (정렬 기준, 정렬 키, 챌린지 id)
+ * 클라이언트에게는 Base64 로 인코딩한 불투명 토큰으로만 노출한다.
+ */
+@Getter
+public class ChallengeCursor {
+    public static final String POPULAR = "popular";
+    public static final String TIME = "time";
+    private static final String DELIMITER = ",";
+
+    private final String sort;
+    private final Long participantCount;
+    private final LocalDateTime createdAt;
+    private final Long challengeId;
+
+    private ChallengeCursor(String sort, Long participantCount, LocalDateTime createdAt, Long challengeId) {
+        this.sort = sort;
+        this.participantCount = participantCount;
+        this.createdAt = createdAt;
+        this.challengeId = challengeId;
+    }
+
+    public static ChallengeCursor popular(Long participantCount, Long challengeId) {
+        return new ChallengeCursor(POPULAR, participantCount, null, challengeId);
+    }
+
+    public static ChallengeCursor time(LocalDateTime createdAt, Long challengeId) {
+        return new ChallengeCursor(TIME, null, createdAt, challengeId);
+    }
+
+    public static void validateSort(String sort) {
+        if (!POPULAR.equals(sort) && !TIME.equals(sort)) {
+            throw new ChallengeCursorNotValid();
+        }
+    }
+
+    public boolean isPopular() {
+        return POPULAR.equals(sort);
+    }
+
+    public String encode() {
+        String sortKey = isPopular() ? String.valueOf(participantCount) : createdAt.toString();
+        String raw = String.join(DELIMITER, sort, sortKey, String.valueOf(challengeId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰이 비어 있으면 첫 페이지를 뜻하므로 null 을 반환
+     */
+    public static ChallengeCursor decode(String token, String sort) {
+        validateSort(sort);
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] split = raw.split(DELIMITER);
+            if (split.length != 3 || !split[0].equals(sort)) {
+                throw new ChallengeCursorNotValid();
+            }
+            Long challengeId = Long.valueOf(split[2]);
+            if (POPULAR.equals(sort)) {
+                return popular(Long.valueOf(split[1]), challengeId);
+            }
+            return time(LocalDateTime.parse(split[1]), challengeId);
+        } catch (ChallengeCursorNotValid e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ChallengeCursorNotValid(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.dailychallenge.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class ChallengeHashtagLink {
+    private final Long id;
+    private final Long hashtagId;
+    private final Long challengeId;
+
+    @QueryProjection
+    public ChallengeHashtagLink(Long id, Long hashtagId, Long challengeId) {
+        this.id = id;
+        this.hashtagId = hashtagId;
+        this.challengeId = challengeId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.dailychallenge.dto;
+
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.challenge.ChallengeDuration;
+import com.example.dailychallenge.entity.challenge.ChallengeLocation;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 추천 챌린지 테이블 재구성에 필요한 컬럼과 이미지 url 만 담는다.
+ */
+@Getter
+public class ChallengeRecommendationDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final ChallengeCategory challengeCategory;
+    private final ChallengeDuration challengeDuration;
+    private final ChallengeLocation challengeLocation;
+    private final List<String> challengeImgUrls;
+
+    public ChallengeRecommendationDocument(Long id, String title, String content,
+                                           ChallengeCategory challengeCategory,
+                                           ChallengeDuration challengeDuration,
+                                           ChallengeLocation challengeLocation,
+                                           List<String> challengeImgUrls) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.challengeCategory = challengeCategory;
+        this.challengeDuration = challengeDuration;
+        this.challengeLocation = challengeLocation;
+        this.challengeImgUrls = List.copyOf(challengeImgUrls);
+    }
+}
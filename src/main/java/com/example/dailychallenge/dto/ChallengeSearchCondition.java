@@ -1,19 +1,44 @@
 package com.example.dailychallenge.dto;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Data
 @NoArgsConstructor
 public class ChallengeSearchCondition {
 
     private String title;
+    private String content;
     private String category;
 
+    /**
+     * 검색 인덱스로 좁힌 후보 챌린지 id (요청 파라미터로는 바인딩되지 않는다)
+     */
+    @Setter(AccessLevel.NONE)
+    private Set<Long> challengeIds;
+
     @Builder
-    public ChallengeSearchCondition(String title, String category) {
+    public ChallengeSearchCondition(String title, String content, String category) {
         this.title = title;
+        this.content = content;
         this.category = category;
     }
+
+    public boolean hasKeyword() {
+        return (title != null && !title.isEmpty()) || (content != null && !content.isEmpty());
+    }
+
+    public void narrowChallengeIds(Collection<Long> candidateIds) {
+        if (challengeIds == null) {
+            challengeIds = new TreeSet<>(candidateIds);
+            return;
+        }
+        challengeIds.retainAll(candidateIds);
+    }
 }
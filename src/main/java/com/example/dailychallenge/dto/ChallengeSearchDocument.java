@@ -0,0 +1,18 @@
+package com.example.dailychallenge.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class ChallengeSearchDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+
+    @QueryProjection
+    public ChallengeSearchDocument(Long id, String title, String content) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.dailychallenge.dto;
+
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import lombok.Getter;
+
+/**
+ * 달성, 중지 처리에 필요한 엔티티를 한 번에 읽은 결과. 올해 달성 기록이 아직 없으면 history 는 null
+ */
+@Getter
+public class CheckInTarget {
+    private final UserChallenge userChallenge;
+    private final UserChallengeHistory history;
+
+    public CheckInTarget(UserChallenge userChallenge, UserChallengeHistory history) {
+        this.userChallenge = userChallenge;
+        this.history = history;
+    }
+}
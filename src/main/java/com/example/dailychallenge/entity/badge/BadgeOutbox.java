@@ -0,0 +1,79 @@
+package com.example.dailychallenge.entity.badge;
+
+import com.example.dailychallenge.entity.BaseEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뱃지 평가가 필요한 도메인 이벤트. 챌린지 생성, 후기 작성, 챌린지 달성과 같은 트랜잭션에서 저장되므로
+ * 커밋된 이벤트는 비동기 처리 전에 서버가 내려가도 남아 있다가 다시 처리된다.
+ * MAX_ATTEMPTS 번 실패한 이벤트는 parked 로 빼 두고 재처리하지 않는다.
+ */
+@Entity
+@Table(name = "badge_outbox", indexes = @Index(name = "idx_badge_outbox_pending",
+        columnList = "processed, parked, badge_outbox_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BadgeOutbox extends BaseEntity {
+    public static final int MAX_ATTEMPTS = 5;
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "badge_outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BadgeOutboxType type;
+
+    @Column(nullable = false)
+    private boolean processed;
+
+    @Column(nullable = false)
+    private boolean parked;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public BadgeOutbox(Long userId, BadgeOutboxType type) {
+        this.userId = userId;
+        this.type = type;
+        this.processed = false;
+        this.parked = false;
+        this.attempts = 0;
+    }
+
+    public void markProcessed() {
+        this.processed = true;
+    }
+
+    /**
+     * 실패 횟수와 마지막 오류를 남기고, MAX_ATTEMPTS 번째 실패면 parked 로 뺀다
+     */
+    public void markFailed(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > LAST_ERROR_LENGTH
+                ? error.substring(0, LAST_ERROR_LENGTH)
+                : error;
+        this.parked = attempts >= MAX_ATTEMPTS;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.dailychallenge.entity.badge;
+
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+
+public enum BadgeOutboxType {
+    CHALLENGE_CREATED(BadgeMetric.CHALLENGE_CREATE),
+    COMMENT_WRITTEN(BadgeMetric.COMMENT_WRITE),
+    CHALLENGE_SUCCEEDED(BadgeMetric.ACHIEVEMENT);
+
+    private final BadgeMetric metric;
+
+    BadgeOutboxType(BadgeMetric metric) {
+        this.metric = metric;
+    }
+
+    public BadgeMetric getMetric() {
+        return metric;
+    }
+}
@@ -11,7 +11,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "user_badge")
+@Table(name = "user_badge", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_badge_user_badge", columnNames = {"user_id", "badge_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserBadge extends BaseEntity {
@@ -20,9 +22,18 @@ public class UserBadge extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * 얻은 뱃지만 저장하므로 새로 만드는 행은 항상 true
+     */
     @Column
     private Boolean status;
 
+    /**
+     * 얻은 뱃지를 유저가 새 뱃지 조회로 확인했는지 여부
+     */
+    @Column(nullable = false)
+    private boolean notified;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User users;
@@ -31,30 +42,13 @@ public class UserBadge extends BaseEntity {
     @JoinColumn(name = "badge_id")
     private Badge badge;
 
+    /**
+     * 얻은 뱃지만 저장하므로 유저, 뱃지 쪽 컬렉션은 건드리지 않는다
+     */
     @Builder
     public UserBadge(Boolean status, User users, Badge badge) {
         this.status = status;
-        setUser(users);
-        setBadge(badge);
-    }
-
-    public void setUser(User users) {
-        if (users.getUserBadges().contains(this)) {
-            users.getUserBadges().remove(this);
-        }
         this.users = users;
-        users.getUserBadges().add(this);
-    }
-
-    public void setBadge(Badge badge) {
-        if (badge.getUserBadges().contains(this)) {
-            badge.getUserBadges().remove(this);
-        }
         this.badge = badge;
-        badge.getUserBadges().add(this);
-    }
-
-    public void setStatusToTrue() {
-        this.status = true;
     }
 }
@@ -47,15 +47,4 @@ public class UserBadgeEvaluation extends BaseEntity {
         users.saveUserBadgeEvaluation(this);
         this.users = users;
     }
-
-    public void addNumberOfAchievement() {
-        this.numberOfAchievement++;
-    }
-    public void addNumberOfChallengeCreate() {
-        this.numberOfChallengeCreate++;
-    }
-
-    public void addNumberOfCommentWrite() {
-        this.numberOfCommentWrite++;
-    }
 }
@@ -1,11 +1,5 @@
 package com.example.dailychallenge.entity.badge.type;
 
-import com.example.dailychallenge.dto.BadgeDto;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 // 챌린지 N개 달성
 public enum AchievementBadgeType implements BadgeType{
 
@@ -26,15 +20,14 @@ public enum AchievementBadgeType implements BadgeType{
         this.imgFileName = imgFileName;
     }
 
-    public static Optional<AchievementBadgeType> findByNumber(int number) {
-        return Arrays.stream(values())
-                .filter(badgeType -> badgeType.isSameNumber(number))
-                .findAny();
+    @Override
+    public BadgeMetric getMetric() {
+        return BadgeMetric.ACHIEVEMENT;
     }
 
     @Override
-    public boolean isSameNumber(int number) {
-        return this.number == number;
+    public int getNumber() {
+        return this.number;
     }
 
     @Override
@@ -42,21 +35,8 @@ public enum AchievementBadgeType implements BadgeType{
         return String.format("챌린지 %d개 " + ACHIEVEMENT, this.number);
     }
 
+    @Override
     public String getImgFileName() {
-        return this.imgFileName;
-    }
-
-    public static List<BadgeDto> getBadgeDtos() {
-        return Arrays.stream(values())
-                .map(challengeCreateBadgeType -> BadgeDto.builder()
-                        .badgeName(challengeCreateBadgeType.getName())
-                        .badgeImgFileName(DIRECTORY + challengeCreateBadgeType.getImgFileName())
-                        .build())
-                .collect(Collectors.toUnmodifiableList());
-    }
-
-
-    public static boolean isSameType(String badgeName) {
-        return badgeName.contains(ACHIEVEMENT);
+        return DIRECTORY + this.imgFileName;
     }
 }
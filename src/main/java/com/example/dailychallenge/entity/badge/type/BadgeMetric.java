@@ -0,0 +1,10 @@
+package com.example.dailychallenge.entity.badge.type;
+
+/**
+ * 뱃지 기준이 되는 활동 지표. 지표마다 유저 뱃지 평가에 누적 카운터가 하나씩 있다.
+ */
+public enum BadgeMetric {
+    ACHIEVEMENT,        // 챌린지 달성 횟수
+    CHALLENGE_CREATE,   // 챌린지 생성 횟수
+    COMMENT_WRITE,      // 후기 작성 횟수
+}
@@ -1,7 +1,17 @@
 package com.example.dailychallenge.entity.badge.type;
 
+/**
+ * 뱃지 하나의 규칙. 지표가 기준 값에 닿으면 얻는다.
+ */
 public interface BadgeType {
-    boolean isSameNumber(int number);
+    BadgeMetric getMetric();
+
+    int getNumber();
 
     String getName();
+
+    /**
+     * 뱃지 이미지 디렉터리를 포함한 파일 이름
+     */
+    String getImgFileName();
 }
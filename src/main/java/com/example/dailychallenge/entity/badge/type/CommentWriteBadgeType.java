@@ -1,11 +1,5 @@
 package com.example.dailychallenge.entity.badge.type;
 
-import com.example.dailychallenge.dto.BadgeDto;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 // 후기 N개 작성
 public enum CommentWriteBadgeType implements BadgeType{
 
@@ -26,15 +20,14 @@ public enum CommentWriteBadgeType implements BadgeType{
         this.imgFileName = imgFileName;
     }
 
-    public static Optional<CommentWriteBadgeType> findByNumber(int number) {
-        return Arrays.stream(values())
-                .filter(badgeType -> badgeType.isSameNumber(number))
-                .findAny();
+    @Override
+    public BadgeMetric getMetric() {
+        return BadgeMetric.COMMENT_WRITE;
     }
 
     @Override
-    public boolean isSameNumber(int number) {
-        return this.number == number;
+    public int getNumber() {
+        return this.number;
     }
 
     @Override
@@ -42,16 +35,8 @@ public enum CommentWriteBadgeType implements BadgeType{
         return String.format("후기 %d개 " + CREATE, this.number);
     }
 
+    @Override
     public String getImgFileName() {
-        return this.imgFileName;
-    }
-
-    public static List<BadgeDto> getBadgeDtos() {
-        return Arrays.stream(values())
-                .map(challengeCreateBadgeType -> BadgeDto.builder()
-                        .badgeName(challengeCreateBadgeType.getName())
-                        .badgeImgFileName(DIRECTORY + challengeCreateBadgeType.getImgFileName())
-                        .build())
-                .collect(Collectors.toUnmodifiableList());
+        return DIRECTORY + this.imgFileName;
     }
 }
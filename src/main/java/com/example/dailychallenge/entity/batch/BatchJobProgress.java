@@ -0,0 +1,59 @@
+package com.example.dailychallenge.entity.batch;
+
+import com.example.dailychallenge.entity.BaseEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업의 회차(runKey)별 진행 위치. 구간 하나를 처리할 때마다 같은 트랜잭션에서 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class BatchJobProgress extends BaseEntity {
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(nullable = false)
+    private String runKey;
+
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    private long rowsTouched;
+
+    private boolean completed;
+
+    @Builder
+    public BatchJobProgress(String jobName, String runKey, Long lastProcessedId) {
+        this.jobName = jobName;
+        this.runKey = runKey;
+        this.lastProcessedId = lastProcessedId == null ? 0L : lastProcessedId;
+    }
+
+    public boolean isRunOf(String runKey) {
+        return this.runKey.equals(runKey);
+    }
+
+    public void restart(String runKey) {
+        this.runKey = runKey;
+        this.lastProcessedId = 0L;
+        this.rowsTouched = 0;
+        this.completed = false;
+    }
+
+    public void advance(Long lastProcessedId, long rows) {
+        this.lastProcessedId = lastProcessedId;
+        this.rowsTouched += rows;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
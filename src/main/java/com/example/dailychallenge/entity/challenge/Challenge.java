@@ -16,6 +16,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -25,7 +26,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "challenge")
+@Table(name = "challenge", indexes = {
+        @Index(name = "idx_challenge_participant_count", columnList = "participant_count, challenge_id"),
+        @Index(name = "idx_challenge_created_at", columnList = "created_at, challenge_id")
+})
 @Getter
 @NoArgsConstructor
 public class Challenge extends BaseEntity {
@@ -44,6 +48,11 @@ public class Challenge extends BaseEntity {
     private ChallengeLocation challengeLocation;
     @Enumerated(value = EnumType.STRING)
     private ChallengeDuration challengeDuration;
+    /**
+     * 참여자 수 비정규화 컬럼, 변경은 ChallengeRepository 의 원자적 update 쿼리로만 반영한다.
+     */
+    @Column(name = "participant_count", nullable = false, updatable = false)
+    private Long participantCount = 0L;
 
     @OneToMany(mappedBy = "challenge", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChallengeImg> challengeImgs = new ArrayList<>();
@@ -129,4 +138,17 @@ public class Challenge extends BaseEntity {
     public void clearChallengeImgs() {
         this.challengeImgs.clear();
     }
+
+    /**
+     * DB 에 반영된 원자적 증감을 영속성 컨텍스트의 엔티티에도 맞춰주는 용도
+     */
+    public void increaseParticipantCount() {
+        this.participantCount++;
+    }
+
+    public void decreaseParticipantCount() {
+        if (this.participantCount > 0) {
+            this.participantCount--;
+        }
+    }
 }
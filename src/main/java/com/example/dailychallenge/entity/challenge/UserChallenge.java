@@ -4,9 +4,8 @@ import com.example.dailychallenge.entity.BaseEntity;
 import com.example.dailychallenge.entity.users.User;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -16,17 +15,24 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "user_challenge", uniqueConstraints = {
+        @UniqueConstraint(name = UserChallenge.UNIQUE_PARTICIPATION, columnNames = {"user_id", "challenge_id"})
+})
 @Getter
 @NoArgsConstructor
 public class UserChallenge extends BaseEntity {
-    private static final Boolean NOT_ACHIEVED = false;
-    private static final Boolean ACHIEVED = true;
-    private static final String DELIMITER = ",";
+    public static final String UNIQUE_PARTICIPATION = "uk_user_challenge_participation";
+    private static final int DAYS_OF_WEEK = 7;
+    public static final int EMPTY_WEEKLY_ACHIEVEMENT = 0;
+    private static final List<List<Boolean>> WEEKS = weeks();
 
     @Id
     @Column(name = "user_challenge_id")
@@ -39,8 +45,11 @@ public class UserChallenge extends BaseEntity {
 
     private boolean isParticipated;
 
+    /**
+     * 월요일이 0번 비트, 일요일이 6번 비트
+     */
     @Column(nullable = false)
-    private String weeklyAchievement;
+    private int weeklyAchievement;
 
     @ManyToOne
     @JoinColumn(name = "user_id")
@@ -50,13 +59,16 @@ public class UserChallenge extends BaseEntity {
     @JoinColumn(name = "challenge_id")
     private Challenge challenge;
 
+    @OneToMany(mappedBy = "userChallenge", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<UserChallengeHistory> histories = new ArrayList<>();
+
     @Builder
     public UserChallenge(ChallengeStatus challengeStatus, User users, Challenge challenge) {
         this.challengeStatus = challengeStatus;
         this.users = users;
         this.challenge = challenge;
         this.isParticipated = false;
-        this.weeklyAchievement = "false,false,false,false,false,false,false"; // 월요일부터 일요일 순서
+        this.weeklyAchievement = EMPTY_WEEKLY_ACHIEVEMENT;
     }
 
     public void setUser(User users) {
@@ -93,6 +105,16 @@ public class UserChallenge extends BaseEntity {
         this.challengeStatus = ChallengeStatus.TRYING;
     }
 
+    public void succeedOn(LocalDate date) {
+        challengeSuccess();
+        updateWeeklyAchievement(date);
+    }
+
+    public void pauseOn(LocalDate date) {
+        challengePause();
+        updateWeeklyAchievementToFalse(date);
+    }
+
     public boolean isChallengeSuccess() {
         return this.challengeStatus == ChallengeStatus.SUCCESS;
     }
@@ -101,35 +123,42 @@ public class UserChallenge extends BaseEntity {
         return this.challengeStatus == ChallengeStatus.PAUSE;
     }
 
+    /**
+     * 월요일부터 일요일 순서의 달성 여부. 비트 조합별로 미리 만든 불변 리스트를 돌려준다.
+     */
     public List<Boolean> converWeeklyChallengeToList() {
-       return new ArrayList<>(Arrays.stream(weeklyAchievement.split(","))
-                .map(Boolean::valueOf)
-                .collect(Collectors.toUnmodifiableList()));
+        return WEEKS.get(weeklyAchievement);
+    }
+
+    public boolean isAchievedOn(LocalDate date) {
+        return (weeklyAchievement & dayBit(date)) != 0;
     }
 
     public void updateWeeklyAchievement(LocalDate date) {
-        int dayNumber = date.getDayOfWeek().getValue() - 1; // 월요일 0, 일요일 6
-        List<Boolean> week = converWeeklyChallengeToList();
-        if (week.get(dayNumber) == NOT_ACHIEVED) {
-            week.set(dayNumber, ACHIEVED);
-        }
-        weeklyAchievement = week.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
+        weeklyAchievement |= dayBit(date);
     }
 
     public void updateWeeklyAchievementToFalse(LocalDate date) {
-        int dayNumber = date.getDayOfWeek().getValue() - 1; // 월요일 0, 일요일 6
-        List<Boolean> week = converWeeklyChallengeToList();
-        if (week.get(dayNumber) == ACHIEVED) {
-            week.set(dayNumber, NOT_ACHIEVED);
-        }
-        weeklyAchievement = week.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
+        weeklyAchievement &= ~dayBit(date);
     }
 
     public void resetWeeklyAchievement(){
-        this.weeklyAchievement = "false,false,false,false,false,false,false";
+        this.weeklyAchievement = EMPTY_WEEKLY_ACHIEVEMENT;
+    }
+
+    private static int dayBit(LocalDate date) {
+        return 1 << (date.getDayOfWeek().getValue() - 1);
+    }
+
+    private static List<List<Boolean>> weeks() {
+        List<List<Boolean>> weeks = new ArrayList<>(1 << DAYS_OF_WEEK);
+        for (int bits = 0; bits < 1 << DAYS_OF_WEEK; bits++) {
+            Boolean[] week = new Boolean[DAYS_OF_WEEK];
+            for (int day = 0; day < DAYS_OF_WEEK; day++) {
+                week[day] = (bits & 1 << day) != 0;
+            }
+            weeks.add(List.of(week));
+        }
+        return List.copyOf(weeks);
     }
 }
@@ -0,0 +1,82 @@
+package com.example.dailychallenge.entity.challenge;
+
+import com.example.dailychallenge.entity.BaseEntity;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 챌린지의 1년치 달성 기록. 1월 1일이 0번 비트인 366비트 비트셋 하나로 저장한다.
+ */
+@Entity
+@Table(name = "user_challenge_history", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_challenge_history_year",
+                columnNames = {"user_challenge_id", "achievement_year"})
+})
+@Getter
+@NoArgsConstructor
+public class UserChallengeHistory extends BaseEntity {
+    private static final int DAYS_BYTES = 46;
+
+    @Id
+    @Column(name = "user_challenge_history_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_challenge_id", nullable = false)
+    private UserChallenge userChallenge;
+
+    @Column(name = "achievement_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false, length = DAYS_BYTES)
+    private byte[] days;
+
+    @Builder
+    public UserChallengeHistory(UserChallenge userChallenge, int year) {
+        this.userChallenge = userChallenge;
+        this.year = year;
+        this.days = new byte[DAYS_BYTES];
+    }
+
+    public void achieve(LocalDate date) {
+        BitSet bits = toBitSet();
+        bits.set(dayIndex(date));
+        this.days = toBytes(bits);
+    }
+
+    public void cancel(LocalDate date) {
+        BitSet bits = toBitSet();
+        bits.clear(dayIndex(date));
+        this.days = toBytes(bits);
+    }
+
+    public BitSet toBitSet() {
+        return BitSet.valueOf(days);
+    }
+
+    private int dayIndex(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException(year + "년 기록에 " + date + " 를 남길 수 없습니다.");
+        }
+        return date.getDayOfYear() - 1;
+    }
+
+    private static byte[] toBytes(BitSet bits) {
+        return Arrays.copyOf(bits.toByteArray(), DAYS_BYTES);
+    }
+}
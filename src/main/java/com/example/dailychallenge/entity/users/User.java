@@ -37,6 +37,12 @@ public class User extends BaseEntity {
 
     private String registrationId;
 
+    /**
+     * 얻은 뱃지가 바뀔 때마다 DB 에서 1 씩 올린다. /user/badges 의 ETag 에 쓴다
+     */
+    @Column(nullable = false)
+    private long badgeVersion;
+
     @OneToOne(mappedBy = "users", cascade = CascadeType.ALL, orphanRemoval = true)
     private UserImg userImg;
 
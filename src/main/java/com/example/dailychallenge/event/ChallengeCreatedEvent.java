@@ -0,0 +1,13 @@
+package com.example.dailychallenge.event;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import lombok.Getter;
+
+@Getter
+public class ChallengeCreatedEvent {
+    private final Challenge challenge;
+
+    public ChallengeCreatedEvent(Challenge challenge) {
+        this.challenge = challenge;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.dailychallenge.event;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ChallengeDeletedEvent {
+    private final Long challengeId;
+    private final List<Long> hashtagIds;
+
+    public ChallengeDeletedEvent(Long challengeId, List<Long> hashtagIds) {
+        this.challengeId = challengeId;
+        this.hashtagIds = List.copyOf(hashtagIds);
+    }
+}
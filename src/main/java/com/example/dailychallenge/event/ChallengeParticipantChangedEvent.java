@@ -0,0 +1,19 @@
+package com.example.dailychallenge.event;
+
+import lombok.Getter;
+
+/**
+ * 챌린지 참여(+1), 나가기(-1)
+ */
+@Getter
+public class ChallengeParticipantChangedEvent {
+    private final Long challengeId;
+    private final Long userId;
+    private final int delta;
+
+    public ChallengeParticipantChangedEvent(Long challengeId, Long userId, int delta) {
+        this.challengeId = challengeId;
+        this.userId = userId;
+        this.delta = delta;
+    }
+}
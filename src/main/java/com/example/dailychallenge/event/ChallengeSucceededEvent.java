@@ -0,0 +1,14 @@
+package com.example.dailychallenge.event;
+
+import lombok.Getter;
+
+@Getter
+public class ChallengeSucceededEvent {
+    private final Long userId;
+    private final Long challengeId;
+
+    public ChallengeSucceededEvent(Long userId, Long challengeId) {
+        this.userId = userId;
+        this.challengeId = challengeId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dailychallenge.event;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import lombok.Getter;
+
+@Getter
+public class ChallengeUpdatedEvent {
+    private final Challenge challenge;
+
+    public ChallengeUpdatedEvent(Challenge challenge) {
+        this.challenge = challenge;
+    }
+}
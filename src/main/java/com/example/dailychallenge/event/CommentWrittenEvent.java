@@ -0,0 +1,14 @@
+package com.example.dailychallenge.event;
+
+import lombok.Getter;
+
+@Getter
+public class CommentWrittenEvent {
+    private final Long userId;
+    private final Long commentId;
+
+    public CommentWrittenEvent(Long userId, Long commentId) {
+        this.userId = userId;
+        this.commentId = commentId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.dailychallenge.event;
+
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import lombok.Getter;
+
+@Getter
+public class UserChallengeStatusChangedEvent {
+    private final Long userId;
+    private final Long challengeId;
+    private final ChallengeStatus challengeStatus;
+
+    public UserChallengeStatusChangedEvent(Long userId, Long challengeId, ChallengeStatus challengeStatus) {
+        this.userId = userId;
+        this.challengeId = challengeId;
+        this.challengeStatus = challengeStatus;
+    }
+}
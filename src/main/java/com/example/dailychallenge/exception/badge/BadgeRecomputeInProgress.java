@@ -0,0 +1,26 @@
+package com.example.dailychallenge.exception.badge;
+
+import com.example.dailychallenge.exception.DailyChallengeException;
+
+public class BadgeRecomputeInProgress extends DailyChallengeException {
+
+    private static final String MESSAGE = "이미 뱃지 카운터를 재계산하고 있습니다.";
+
+    public BadgeRecomputeInProgress() {
+        super(MESSAGE);
+    }
+
+    public BadgeRecomputeInProgress(Throwable cause) {
+        super(MESSAGE, cause);
+    }
+
+    @Override
+    public String getMessage() {
+        return MESSAGE;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.dailychallenge.exception.challenge;
+
+import com.example.dailychallenge.exception.DailyChallengeException;
+
+public class ChallengeCursorNotValid extends DailyChallengeException {
+
+    private static final String MESSAGE = "유효하지 않은 커서입니다.";
+
+    public ChallengeCursorNotValid() {
+        super(MESSAGE);
+    }
+
+    public ChallengeCursorNotValid(Throwable cause) {
+        super(MESSAGE, cause);
+    }
+
+    @Override
+    public String getMessage() {
+        return MESSAGE;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
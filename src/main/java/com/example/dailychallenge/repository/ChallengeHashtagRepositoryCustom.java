@@ -1,5 +1,6 @@
 package com.example.dailychallenge.repository;
 
+import com.example.dailychallenge.dto.ChallengeHashtagLink;
 import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
 import com.example.dailychallenge.entity.hashtag.Hashtag;
 import java.util.List;
@@ -7,4 +8,6 @@ import java.util.List;
 public interface ChallengeHashtagRepositoryCustom {
 
     List<ChallengeHashtag> searchByHashtags(List<Hashtag> hashtags);
+
+    List<ChallengeHashtagLink> searchLinksAfter(Long lastChallengeHashtagId, int limit);
 }
@@ -3,6 +3,8 @@ package com.example.dailychallenge.repository;
 import static com.example.dailychallenge.entity.hashtag.QChallengeHashtag.challengeHashtag;
 import static com.example.dailychallenge.entity.hashtag.QHashtag.hashtag;
 
+import com.example.dailychallenge.dto.ChallengeHashtagLink;
+import com.example.dailychallenge.dto.QChallengeHashtagLink;
 import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
 import com.example.dailychallenge.entity.hashtag.Hashtag;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -27,4 +29,19 @@ public class ChallengeHashtagRepositoryCustomImpl implements
                 .where(challengeHashtag.hashtag.in(hashtagIds))
                 .fetch();
     }
+
+    /**
+     * 해시태그 순위표 재구성용, id 순으로 limit 개씩 끊어 읽는다.
+     */
+    @Override
+    public List<ChallengeHashtagLink> searchLinksAfter(Long lastChallengeHashtagId, int limit) {
+        return queryFactory
+                .select(new QChallengeHashtagLink(challengeHashtag.id, challengeHashtag.hashtag.id,
+                        challengeHashtag.challenge.id))
+                .from(challengeHashtag)
+                .where(lastChallengeHashtagId == null ? null : challengeHashtag.id.gt(lastChallengeHashtagId))
+                .orderBy(challengeHashtag.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -2,7 +2,13 @@ package com.example.dailychallenge.repository;
 
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.repository.challenge.UserChallengeRepositoryCustom;
+import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 public interface UserChallengeRepository extends JpaRepository<UserChallenge, Long>, UserChallengeRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserChallenge> findWithLockById(Long id);
 }
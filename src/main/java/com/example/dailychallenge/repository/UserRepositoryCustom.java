@@ -0,0 +1,6 @@
+package com.example.dailychallenge.repository;
+
+public interface UserRepositoryCustom {
+
+    long increaseBadgeVersion(Long userId);
+}
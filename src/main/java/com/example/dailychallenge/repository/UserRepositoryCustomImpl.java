@@ -0,0 +1,28 @@
+package com.example.dailychallenge.repository;
+
+import static com.example.dailychallenge.entity.users.QUser.user;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import javax.persistence.EntityManager;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public UserRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 동시에 뱃지를 얻어도 버전이 빠짐없이 오르도록 UPDATE ... SET badge_version = badge_version + 1 로 올린다.
+     * 영속성 컨텍스트에 올라와 있는 User 엔티티에는 반영되지 않는다.
+     */
+    @Override
+    public long increaseBadgeVersion(Long userId) {
+        return queryFactory
+                .update(user)
+                .set(user.badgeVersion, user.badgeVersion.add(1))
+                .where(user.id.eq(userId))
+                .execute();
+    }
+}
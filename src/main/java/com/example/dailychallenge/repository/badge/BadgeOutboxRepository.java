@@ -0,0 +1,17 @@
+package com.example.dailychallenge.repository.badge;
+
+import com.example.dailychallenge.entity.badge.BadgeOutbox;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface BadgeOutboxRepository extends JpaRepository<BadgeOutbox, Long>, BadgeOutboxRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BadgeOutbox> findWithLockById(Long id);
+
+    List<BadgeOutbox> findByProcessedFalseAndParkedFalseAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package com.example.dailychallenge.repository.badge;
+
+import java.time.LocalDateTime;
+
+public interface BadgeOutboxRepositoryCustom {
+
+    long deleteProcessedBefore(LocalDateTime before, int limit);
+}
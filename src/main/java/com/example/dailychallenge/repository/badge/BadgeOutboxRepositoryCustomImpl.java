@@ -0,0 +1,40 @@
+package com.example.dailychallenge.repository.badge;
+
+import static com.example.dailychallenge.entity.badge.QBadgeOutbox.badgeOutbox;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+public class BadgeOutboxRepositoryCustomImpl implements BadgeOutboxRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public BadgeOutboxRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * before 이전에 처리된 이벤트를 id 순으로 limit 개까지 지우고 지운 개수를 반환한다.
+     * DELETE 에는 LIMIT 를 걸 수 없어 id 를 먼저 읽는다.
+     */
+    @Override
+    public long deleteProcessedBefore(LocalDateTime before, int limit) {
+        List<Long> ids = queryFactory
+                .select(badgeOutbox.id)
+                .from(badgeOutbox)
+                .where(badgeOutbox.processed.isTrue(),
+                        badgeOutbox.updated_at.before(before))
+                .orderBy(badgeOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queryFactory
+                .delete(badgeOutbox)
+                .where(badgeOutbox.id.in(ids))
+                .execute();
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.dailychallenge.repository.badge;
 
 import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
-public interface UserBadgeEvaluationRepository extends JpaRepository<UserBadgeEvaluation, Long> {
+public interface UserBadgeEvaluationRepository extends JpaRepository<UserBadgeEvaluation, Long>,
+        UserBadgeEvaluationRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserBadgeEvaluation> findWithLockByUsersId(Long userId);
 }
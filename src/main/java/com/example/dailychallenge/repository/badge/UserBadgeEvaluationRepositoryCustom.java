@@ -0,0 +1,33 @@
+package com.example.dailychallenge.repository.badge;
+
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.users.User;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface UserBadgeEvaluationRepositoryCustom {
+
+    Optional<Integer> increase(Long userId, BadgeMetric metric, int delta);
+
+    // 카운터 재계산, 유저 id 구간 (fromUserIdExclusive, toUserIdInclusive] 단위로 읽고 쓴다
+
+    Long searchMaxUserId();
+
+    void lockEvaluationsBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    List<User> searchUsersWithoutEvaluationBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    Map<Long, Map<BadgeMetric, Integer>> searchCountersBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    Map<Long, Integer> countChallengeCreatesBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    Map<Long, Integer> countCommentWritesBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    Map<Long, Map<BadgeMetric, Integer>> countPendingOutboxBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    Map<Long, Set<Long>> searchEarnedBadgeIdsBetween(Long fromUserIdExclusive, Long toUserIdInclusive);
+
+    long updateCounters(Long userId, Map<BadgeMetric, Integer> counters);
+}
@@ -0,0 +1,222 @@
+package com.example.dailychallenge.repository.badge;
+
+import static com.example.dailychallenge.entity.badge.QBadgeOutbox.badgeOutbox;
+import static com.example.dailychallenge.entity.badge.QUserBadge.userBadge;
+import static com.example.dailychallenge.entity.badge.QUserBadgeEvaluation.userBadgeEvaluation;
+import static com.example.dailychallenge.entity.challenge.QChallenge.challenge;
+import static com.example.dailychallenge.entity.comment.QComment.comment;
+import static com.example.dailychallenge.entity.users.QUser.user;
+
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.users.User;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.persistence.EntityManager;
+
+/**
+ * 평가 카운터는 엔티티를 읽어 고치지 않고 UPDATE ... SET n = n + delta 로 올린다.
+ * UPDATE 로 잡은 행 잠금은 커밋까지 유지되므로 같은 트랜잭션에서 바로 읽은 값이 이번 요청이 만든 값이다.
+ * 영속성 컨텍스트에 올라와 있는 UserBadgeEvaluation 엔티티에는 반영되지 않는다.
+ * <p>
+ * 재계산용 조회는 원본 테이블을 유저별로 묶어 센다.
+ */
+public class UserBadgeEvaluationRepositoryCustomImpl implements UserBadgeEvaluationRepositoryCustom {
+
+    // 유저, 뱃지 행은 잠그지 않도록 user_badge_evaluation 만 읽는다
+    private static final String LOCK_EVALUATIONS_SQL = "select ube.user_badge_evaluation_id"
+            + " from user_badge_evaluation ube"
+            + " where ube.user_id > :fromUserId and ube.user_id <= :toUserId"
+            + " for update";
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public UserBadgeEvaluationRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 지표의 카운터를 delta 만큼 올리고 올린 뒤의 값을 반환한다. 뱃지 평가가 없는 유저면 empty
+     */
+    @Override
+    public Optional<Integer> increase(Long userId, BadgeMetric metric, int delta) {
+        NumberPath<Integer> counter = counterOf(metric);
+        long updated = queryFactory
+                .update(userBadgeEvaluation)
+                .set(counter, counter.add(delta))
+                .where(userBadgeEvaluation.users.id.eq(userId))
+                .execute();
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(queryFactory
+                .select(counter)
+                .from(userBadgeEvaluation)
+                .where(userBadgeEvaluation.users.id.eq(userId))
+                .fetchOne());
+    }
+
+    @Override
+    public Long searchMaxUserId() {
+        return queryFactory
+                .select(user.id.max())
+                .from(user)
+                .fetchOne();
+    }
+
+    /**
+     * 구간의 뱃지 평가 행을 SELECT ... FOR UPDATE 로 잠근다. 잠금은 커밋까지 유지되므로 그동안 increase 는 기다린다.
+     * 잠금 읽기는 스냅샷을 만들지 않으므로 트랜잭션의 첫 쿼리로 실행해야 뒤따르는 조회가 잠근 뒤의 값을 본다.
+     */
+    @Override
+    public void lockEvaluationsBetween(Long fromUserIdExclusive, Long toUserIdInclusive) {
+        em.createNativeQuery(LOCK_EVALUATIONS_SQL)
+                .setParameter("fromUserId", fromUserIdExclusive)
+                .setParameter("toUserId", toUserIdInclusive)
+                .getResultList();
+    }
+
+    @Override
+    public List<User> searchUsersWithoutEvaluationBetween(Long fromUserIdExclusive, Long toUserIdInclusive) {
+        return queryFactory
+                .selectFrom(user)
+                .leftJoin(user.userBadgeEvaluation, userBadgeEvaluation)
+                .where(user.id.gt(fromUserIdExclusive),
+                        user.id.loe(toUserIdInclusive),
+                        userBadgeEvaluation.id.isNull())
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Map<BadgeMetric, Integer>> searchCountersBetween(Long fromUserIdExclusive,
+                                                                      Long toUserIdInclusive) {
+        List<Tuple> tuples = queryFactory
+                .select(userBadgeEvaluation.users.id,
+                        userBadgeEvaluation.numberOfAchievement,
+                        userBadgeEvaluation.numberOfChallengeCreate,
+                        userBadgeEvaluation.numberOfCommentWrite)
+                .from(userBadgeEvaluation)
+                .where(userBadgeEvaluation.users.id.gt(fromUserIdExclusive),
+                        userBadgeEvaluation.users.id.loe(toUserIdInclusive))
+                .fetch();
+
+        Map<Long, Map<BadgeMetric, Integer>> counters = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            Map<BadgeMetric, Integer> userCounters = new EnumMap<>(BadgeMetric.class);
+            for (BadgeMetric metric : BadgeMetric.values()) {
+                userCounters.put(metric, tuple.get(counterOf(metric)));
+            }
+            counters.put(tuple.get(userBadgeEvaluation.users.id), userCounters);
+        }
+        return counters;
+    }
+
+    @Override
+    public Map<Long, Integer> countChallengeCreatesBetween(Long fromUserIdExclusive, Long toUserIdInclusive) {
+        return toCounts(queryFactory
+                .select(challenge.users.id, challenge.count())
+                .from(challenge)
+                .where(challenge.users.id.gt(fromUserIdExclusive),
+                        challenge.users.id.loe(toUserIdInclusive))
+                .groupBy(challenge.users.id)
+                .fetch());
+    }
+
+    @Override
+    public Map<Long, Integer> countCommentWritesBetween(Long fromUserIdExclusive, Long toUserIdInclusive) {
+        return toCounts(queryFactory
+                .select(comment.users.id, comment.count())
+                .from(comment)
+                .where(comment.users.id.gt(fromUserIdExclusive),
+                        comment.users.id.loe(toUserIdInclusive))
+                .groupBy(comment.users.id)
+                .fetch());
+    }
+
+    /**
+     * 아직 처리하지 않은 아웃박스 이벤트 수를 유저, 지표별로 센다. parked 이벤트는 다시 처리되지 않으므로 세지 않는다
+     */
+    @Override
+    public Map<Long, Map<BadgeMetric, Integer>> countPendingOutboxBetween(Long fromUserIdExclusive,
+                                                                          Long toUserIdInclusive) {
+        List<Tuple> tuples = queryFactory
+                .select(badgeOutbox.userId, badgeOutbox.type, badgeOutbox.count())
+                .from(badgeOutbox)
+                .where(badgeOutbox.processed.isFalse(),
+                        badgeOutbox.parked.isFalse(),
+                        badgeOutbox.userId.gt(fromUserIdExclusive),
+                        badgeOutbox.userId.loe(toUserIdInclusive))
+                .groupBy(badgeOutbox.userId, badgeOutbox.type)
+                .fetch();
+
+        Map<Long, Map<BadgeMetric, Integer>> pending = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            BadgeOutboxType type = tuple.get(badgeOutbox.type);
+            pending.computeIfAbsent(tuple.get(badgeOutbox.userId), userId -> new EnumMap<>(BadgeMetric.class))
+                    .merge(type.getMetric(), tuple.get(2, Long.class).intValue(), Integer::sum);
+        }
+        return pending;
+    }
+
+    @Override
+    public Map<Long, Set<Long>> searchEarnedBadgeIdsBetween(Long fromUserIdExclusive, Long toUserIdInclusive) {
+        List<Tuple> tuples = queryFactory
+                .select(userBadge.users.id, userBadge.badge.id)
+                .from(userBadge)
+                .where(userBadge.users.id.gt(fromUserIdExclusive),
+                        userBadge.users.id.loe(toUserIdInclusive),
+                        userBadge.status.isTrue())
+                .fetch();
+
+        Map<Long, Set<Long>> earnedBadgeIds = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            earnedBadgeIds.computeIfAbsent(tuple.get(userBadge.users.id), userId -> new HashSet<>())
+                    .add(tuple.get(userBadge.badge.id));
+        }
+        return earnedBadgeIds;
+    }
+
+    /**
+     * 재계산한 값으로 카운터를 덮어쓴다
+     */
+    @Override
+    public long updateCounters(Long userId, Map<BadgeMetric, Integer> counters) {
+        JPAUpdateClause update = queryFactory.update(userBadgeEvaluation);
+        counters.forEach((metric, value) -> update.set(counterOf(metric), value));
+        return update
+                .where(userBadgeEvaluation.users.id.eq(userId))
+                .execute();
+    }
+
+    private static Map<Long, Integer> toCounts(List<Tuple> tuples) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            counts.put(tuple.get(0, Long.class), tuple.get(1, Long.class).intValue());
+        }
+        return counts;
+    }
+
+    private static NumberPath<Integer> counterOf(BadgeMetric metric) {
+        switch (metric) {
+            case ACHIEVEMENT:
+                return userBadgeEvaluation.numberOfAchievement;
+            case CHALLENGE_CREATE:
+                return userBadgeEvaluation.numberOfChallengeCreate;
+            case COMMENT_WRITE:
+                return userBadgeEvaluation.numberOfCommentWrite;
+            default:
+                throw new IllegalArgumentException("카운터가 없는 지표: " + metric);
+        }
+    }
+}
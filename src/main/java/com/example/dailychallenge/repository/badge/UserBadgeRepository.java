@@ -2,11 +2,16 @@ package com.example.dailychallenge.repository.badge;
 
 import com.example.dailychallenge.entity.badge.UserBadge;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
+public interface UserBadgeRepository extends JpaRepository<UserBadge, Long>, UserBadgeRepositoryCustom {
     List<UserBadge> findAllByUsersId(Long userId);
 
-    Optional<UserBadge> findByUsersIdAndBadgeName(Long userId, String badgeName);
+    List<UserBadge> findAllByUsersIdAndStatusTrue(Long userId);
+
+    boolean existsByUsersIdAndBadgeId(Long userId, Long badgeId);
+
+    @EntityGraph(attributePaths = "badge")
+    List<UserBadge> findAllByUsersIdAndStatusTrueAndNotifiedFalseOrderByIdAsc(Long userId);
 }
@@ -0,0 +1,10 @@
+package com.example.dailychallenge.repository.badge;
+
+import java.util.List;
+
+public interface UserBadgeRepositoryCustom {
+
+    List<Long> searchEarnedBadgeIds(Long userId);
+
+    long markNotifiedUpTo(Long userId, Long lastUserBadgeId);
+}
@@ -0,0 +1,44 @@
+package com.example.dailychallenge.repository.badge;
+
+import static com.example.dailychallenge.entity.badge.QUserBadge.userBadge;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+public class UserBadgeRepositoryCustomImpl implements UserBadgeRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public UserBadgeRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 뱃지 이름과 이미지는 뱃지 목록 스냅샷에 있으므로 얻은 뱃지의 id 만 조회한다
+     */
+    @Override
+    public List<Long> searchEarnedBadgeIds(Long userId) {
+        return queryFactory
+                .select(userBadge.badge.id)
+                .from(userBadge)
+                .where(userBadge.users.id.eq(userId),
+                        userBadge.status.isTrue())
+                .fetch();
+    }
+
+    /**
+     * lastUserBadgeId 까지 확인하지 않은 뱃지를 확인한 것으로 표시하고 표시한 개수를 반환한다.
+     * 조회한 뒤에 새로 얻은 뱃지는 id 가 더 크므로 표시되지 않는다.
+     */
+    @Override
+    public long markNotifiedUpTo(Long userId, Long lastUserBadgeId) {
+        return queryFactory
+                .update(userBadge)
+                .set(userBadge.notified, true)
+                .where(userBadge.users.id.eq(userId),
+                        userBadge.id.loe(lastUserBadgeId),
+                        userBadge.notified.isFalse())
+                .execute();
+    }
+}
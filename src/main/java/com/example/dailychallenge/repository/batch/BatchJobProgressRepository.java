@@ -0,0 +1,7 @@
+package com.example.dailychallenge.repository.batch;
+
+import com.example.dailychallenge.entity.batch.BatchJobProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchJobProgressRepository extends JpaRepository<BatchJobProgress, String> {
+}
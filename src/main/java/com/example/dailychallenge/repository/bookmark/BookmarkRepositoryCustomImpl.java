@@ -7,17 +7,17 @@ import static com.example.dailychallenge.entity.users.QUser.user;
 import com.example.dailychallenge.entity.bookmark.Bookmark;
 import com.example.dailychallenge.exception.CommonException;
 import com.example.dailychallenge.repository.challenge.OrderByNull;
+import com.example.dailychallenge.repository.support.QuerydslPaging;
 import com.example.dailychallenge.vo.bookmark.QResponseBookmark;
 import com.example.dailychallenge.vo.bookmark.ResponseBookmark;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -31,27 +31,20 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
 
     @Override
     public Page<ResponseBookmark> searchBookmarksByUserId(Long userId, Pageable pageable) {
-        List<ResponseBookmark> content = queryFactory
+        JPAQuery<ResponseBookmark> contentQuery = queryFactory
                 .select(new QResponseBookmark(bookmark))
                 .from(bookmark)
                 .leftJoin(bookmark.users, user)
                 .leftJoin(bookmark.challenge, challenge)
                 .where(userIdEq(userId))
-                .orderBy(bookmarkSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(bookmarkSort(pageable));
 
-        long total = queryFactory
-                .select(bookmark)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(bookmark.countDistinct())
                 .from(bookmark)
-                .leftJoin(bookmark.users, user)
-                .leftJoin(bookmark.challenge, challenge)
-                .where(userIdEq(userId))
-                .fetch()
-                .size();
+                .where(userIdEq(userId));
 
-        return new PageImpl<>(content, pageable, total);
+        return QuerydslPaging.page(contentQuery, pageable, countQuery);
     }
 
     @Override
@@ -1,11 +1,15 @@
 package com.example.dailychallenge.repository.challenge;
 
+import com.example.dailychallenge.dto.ChallengeRecommendationDocument;
+import com.example.dailychallenge.dto.ChallengeSearchDocument;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
 import com.example.dailychallenge.entity.challenge.ChallengeDuration;
 import com.example.dailychallenge.entity.challenge.ChallengeLocation;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,4 +24,18 @@ public interface ChallengeRepositoryCustom {
                                                                   ChallengeLocation challengeLocation);
 
     ResponseRecommendedChallenge searchChallengeByRandom();
+
+    long increaseParticipantCount(Long challengeId);
+
+    long decreaseParticipantCount(Long challengeId);
+
+    long reconcileParticipantCounts();
+
+    List<ChallengeSearchDocument> searchDocumentsAfter(Long lastChallengeId, int limit);
+
+    List<ChallengeRecommendationDocument> searchRecommendationDocumentsAfter(Long lastChallengeId, int limit);
+
+    List<ResponseChallenge> searchChallengesByIds(Collection<Long> challengeIds);
+
+    Map<Long, Long> searchParticipantCountsAfter(Long lastChallengeId, int limit);
 }
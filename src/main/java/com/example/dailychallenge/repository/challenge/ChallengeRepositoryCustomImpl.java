@@ -3,27 +3,38 @@ package com.example.dailychallenge.repository.challenge;
 import static com.example.dailychallenge.entity.challenge.QChallenge.challenge;
 import static com.example.dailychallenge.entity.challenge.QUserChallenge.userChallenge;
 
+import com.example.dailychallenge.dto.ChallengeRecommendationDocument;
+import com.example.dailychallenge.dto.ChallengeSearchDocument;
+import com.example.dailychallenge.dto.QChallengeSearchDocument;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
 import com.example.dailychallenge.entity.challenge.ChallengeDuration;
 import com.example.dailychallenge.entity.challenge.ChallengeLocation;
 import com.example.dailychallenge.entity.challenge.QChallenge;
 import com.example.dailychallenge.entity.hashtag.QChallengeHashtag;
 import com.example.dailychallenge.exception.CommonException;
-import com.example.dailychallenge.vo.challenge.QResponseChallenge;
+import com.example.dailychallenge.repository.support.QuerydslPaging;
+import com.example.dailychallenge.repository.support.TotalCountCache;
 import com.example.dailychallenge.vo.challenge.QResponseRecommendedChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -31,38 +42,43 @@ public class ChallengeRepositoryCustomImpl implements
         ChallengeRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final TotalCountCache totalCountCache;
+    private final ResponseChallengeAssembler responseChallengeAssembler;
 
-    public ChallengeRepositoryCustomImpl(EntityManager em) {
+    public ChallengeRepositoryCustomImpl(EntityManager em, TotalCountCache totalCountCache) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.totalCountCache = totalCountCache;
+        this.responseChallengeAssembler = new ResponseChallengeAssembler(queryFactory);
     }
 
     @Override
     public Optional<ResponseChallenge> searchChallengeById(Long challengeId) {
-        ResponseChallenge responseChallenge = queryFactory
-                .select(new QResponseChallenge(userChallenge.challenge, userChallenge.count()))
-                .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-//                .leftJoin(userChallenge.challenge.challengeImgs, challengeImg) // cascade refresh로 하위 데이터를 가져옴
+        Tuple row = queryFactory
+                .select(ResponseChallengeAssembler.COLUMNS)
+                .from(challenge)
                 .where(challengeIdEq(challengeId))
-                .groupBy(userChallenge.challenge)
                 .fetchOne();
-        return Optional.ofNullable(responseChallenge);
+        if (row == null) {
+            return Optional.empty();
+        }
+        return Optional.of(responseChallengeAssembler.assemble(List.of(row)).get(0));
     }
 
     @Override
     public Page<ResponseChallenge> searchChallengeByHashtag(String content, Pageable pageable) {
-        QueryResults<ResponseChallenge> results = queryFactory
-                .select(new QResponseChallenge(challenge))
+        JPAQuery<Tuple> contentQuery = queryFactory
+                .select(ResponseChallengeAssembler.COLUMNS)
                 .from(QChallengeHashtag.challengeHashtag)
                 .leftJoin(QChallengeHashtag.challengeHashtag.challenge,challenge)
                 .where(QChallengeHashtag.challengeHashtag.hashtag.content.eq(content))
-                .orderBy(challengesSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
+                .orderBy(challengesSort(pageable));
 
-        List<ResponseChallenge> responseChallenges = results.getResults();
-        return new PageImpl<>(responseChallenges,pageable,results.getTotal());
+        JPAQuery<Long> countQuery = queryFactory
+                .select(QChallengeHashtag.challengeHashtag.challenge.countDistinct())
+                .from(QChallengeHashtag.challengeHashtag)
+                .where(QChallengeHashtag.challengeHashtag.hashtag.content.eq(content));
+
+        return responseChallengeAssembler.assemble(QuerydslPaging.page(contentQuery, pageable, countQuery));
     }
 
     @Override
@@ -90,11 +106,156 @@ public class ChallengeRepositoryCustomImpl implements
                 .fetchFirst();
     }
 
+    /**
+     * 목록의 hasParticipant() 조건은 참여자 수가 0 에서 1 로 바뀔 때만 달라지므로 그때만 total 캐시를 비운다.
+     */
+    @Override
+    public long increaseParticipantCount(Long challengeId) {
+        long updated = queryFactory
+                .update(challenge)
+                .set(challenge.participantCount, challenge.participantCount.add(1))
+                .where(challengeIdEq(challengeId))
+                .execute();
+        if (updated > 0 && participantCountOf(challengeId) == 1L) {
+            totalCountCache.evictAll();
+        }
+        return updated;
+    }
+
+    /**
+     * 참여자 수가 1 에서 0 으로 바뀌어 목록에서 빠질 때만 total 캐시를 비운다.
+     */
+    @Override
+    public long decreaseParticipantCount(Long challengeId) {
+        long updated = queryFactory
+                .update(challenge)
+                .set(challenge.participantCount, challenge.participantCount.subtract(1))
+                .where(challengeIdEq(challengeId),
+                        challenge.participantCount.gt(0))
+                .execute();
+        if (updated > 0 && participantCountOf(challengeId) == 0L) {
+            totalCountCache.evictAll();
+        }
+        return updated;
+    }
+
+    /**
+     * 방금 갱신한 행은 커밋 전까지 잠겨 있으므로 이 트랜잭션이 바꾼 값을 그대로 읽는다.
+     */
+    private Long participantCountOf(Long challengeId) {
+        return queryFactory
+                .select(challenge.participantCount)
+                .from(challenge)
+                .where(challengeIdEq(challengeId))
+                .fetchOne();
+    }
+
+    /**
+     * 실제 참여 수와 어긋난 participantCount 만 보정하고 보정된 행 수를 반환
+     */
+    @Override
+    public long reconcileParticipantCounts() {
+        JPQLQuery<Long> participantCount = JPAExpressions
+                .select(userChallenge.count())
+                .from(userChallenge)
+                .where(userChallenge.challenge.id.eq(challenge.id));
+
+        long reconciled = queryFactory
+                .update(challenge)
+                .set(challenge.participantCount, participantCount)
+                .where(challenge.participantCount.ne(participantCount))
+                .execute();
+        totalCountCache.evictAll();
+        return reconciled;
+    }
+
+    /**
+     * 인메모리 검색 인덱스 재구성용, id 순으로 limit 개씩 끊어 읽는다.
+     */
+    @Override
+    public List<ChallengeSearchDocument> searchDocumentsAfter(Long lastChallengeId, int limit) {
+        return queryFactory
+                .select(new QChallengeSearchDocument(challenge.id, challenge.title, challenge.content))
+                .from(challenge)
+                .where(lastChallengeId == null ? null : challenge.id.gt(lastChallengeId))
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 인메모리 추천 테이블 재구성용, id 순으로 limit 개씩 끊어 읽는다. 작성자, 해시태그는 읽지 않는다.
+     */
+    @Override
+    public List<ChallengeRecommendationDocument> searchRecommendationDocumentsAfter(Long lastChallengeId, int limit) {
+        List<Tuple> rows = queryFactory
+                .select(challenge.id, challenge.title, challenge.content, challenge.challengeCategory,
+                        challenge.challengeDuration, challenge.challengeLocation)
+                .from(challenge)
+                .where(lastChallengeId == null ? null : challenge.id.gt(lastChallengeId))
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch();
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<String>> imgUrls = responseChallengeAssembler.findImgUrls(rows.stream()
+                .map(row -> row.get(challenge.id))
+                .collect(Collectors.toList()));
+        List<ChallengeRecommendationDocument> documents = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long challengeId = row.get(challenge.id);
+            documents.add(new ChallengeRecommendationDocument(challengeId,
+                    row.get(challenge.title),
+                    row.get(challenge.content),
+                    row.get(challenge.challengeCategory),
+                    row.get(challenge.challengeDuration),
+                    row.get(challenge.challengeLocation),
+                    imgUrls.getOrDefault(challengeId, List.of())));
+        }
+        return documents;
+    }
+
+    @Override
+    public List<ResponseChallenge> searchChallengesByIds(Collection<Long> challengeIds) {
+        if (challengeIds.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> rows = queryFactory
+                .select(ResponseChallengeAssembler.COLUMNS)
+                .from(challenge)
+                .where(challenge.id.in(challengeIds))
+                .orderBy(challenge.id.asc())
+                .fetch();
+        return responseChallengeAssembler.assemble(rows);
+    }
+
+    /**
+     * 랜덤 선택 테이블 재구성용, id 순서를 유지한 챌린지 id -> participantCount
+     */
+    @Override
+    public Map<Long, Long> searchParticipantCountsAfter(Long lastChallengeId, int limit) {
+        List<Tuple> rows = queryFactory
+                .select(challenge.id, challenge.participantCount)
+                .from(challenge)
+                .where(lastChallengeId == null ? null : challenge.id.gt(lastChallengeId))
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch();
+
+        Map<Long, Long> participantCounts = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            participantCounts.put(row.get(challenge.id), row.get(challenge.participantCount));
+        }
+        return participantCounts;
+    }
+
     private BooleanExpression challengeIdEq(Long challengeId) {
         if (challengeId == null) {
             throw new CommonException("challengeId is Null");
         }
-        return userChallenge.challenge.id.eq(challengeId);
+        return challenge.id.eq(challengeId);
     }
 
     private BooleanExpression challengeCategoryEq(ChallengeCategory challengeCategory) {
@@ -118,15 +279,17 @@ public class ChallengeRepositoryCustomImpl implements
         return challenge.challengeLocation.eq(challengeLocation);
     }
 
-    private OrderSpecifier<?> challengesSort(Pageable pageable) {
-        if (pageable.getSort().isEmpty()) {
-            return OrderByNull.getDefault();
-        }
+    /**
+     * 참여자 수가 같은 챌린지끼리도 순서가 정해지도록 id 를 함께 내림차순으로 정렬한다.
+     */
+    private OrderSpecifier<?>[] challengesSort(Pageable pageable) {
         for (Sort.Order order : pageable.getSort()) {
             if (order.getProperty().equals("popular")) {
-                return new OrderSpecifier<>(Order.DESC, challenge.userChallenges.size());
+                return new OrderSpecifier[]{
+                        new OrderSpecifier<>(Order.DESC, challenge.participantCount),
+                        new OrderSpecifier<>(Order.DESC, challenge.id)};
             }
         }
-        return OrderByNull.getDefault();
+        return new OrderSpecifier[]{OrderByNull.getDefault()};
     }
 }
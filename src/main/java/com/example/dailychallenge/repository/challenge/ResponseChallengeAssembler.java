@@ -0,0 +1,143 @@
+package com.example.dailychallenge.repository.challenge;
+
+import static com.example.dailychallenge.entity.challenge.QChallenge.challenge;
+import static com.example.dailychallenge.entity.challenge.QChallengeImg.challengeImg;
+import static com.example.dailychallenge.entity.hashtag.QChallengeHashtag.challengeHashtag;
+import static com.example.dailychallenge.entity.hashtag.QHashtag.hashtag;
+import static com.example.dailychallenge.entity.users.QUser.user;
+
+import com.example.dailychallenge.vo.ResponseUser;
+import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * ResponseChallenge 를 2단계로 조립한다.
+ * 1단계: 호출하는 쪽에서 COLUMNS 로 챌린지 id 와 스칼라 컬럼만 조회
+ * 2단계: 이미지, 해시태그, 작성자를 챌린지 id IN (...) 쿼리 한 번씩으로 가져와 합친다.
+ * 참여자 수는 challenge.participantCount 컬럼이라 1단계에서 함께 조회한다.
+ */
+public class ResponseChallengeAssembler {
+    private static final DateTimeFormatter CREATED_AT_FORMATTER = DateTimeFormatter.ofPattern(
+            "yyyy-MM-dd HH:mm:ss:SSS");
+
+    public static final Expression<?>[] COLUMNS = {
+            challenge.id,
+            challenge.title,
+            challenge.content,
+            challenge.challengeCategory,
+            challenge.challengeLocation,
+            challenge.challengeDuration,
+            challenge.created_at,
+            challenge.participantCount,
+            challenge.users.id
+    };
+
+    private final JPAQueryFactory queryFactory;
+
+    public ResponseChallengeAssembler(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    public Page<ResponseChallenge> assemble(Page<Tuple> rows) {
+        return new PageImpl<>(assemble(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    public Slice<ResponseChallenge> assemble(Slice<Tuple> rows) {
+        return new SliceImpl<>(assemble(rows.getContent()), rows.getPageable(), rows.hasNext());
+    }
+
+    public List<ResponseChallenge> assemble(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> challengeIds = rows.stream()
+                .map(row -> row.get(challenge.id))
+                .collect(Collectors.toList());
+        Set<Long> ownerIds = rows.stream()
+                .map(row -> row.get(challenge.users.id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, List<String>> imgUrls = findImgUrls(challengeIds);
+        Map<Long, List<String>> hashtags = findHashtags(challengeIds);
+        Map<Long, ResponseUser> owners = findOwners(ownerIds);
+
+        List<ResponseChallenge> responseChallenges = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long challengeId = row.get(challenge.id);
+            responseChallenges.add(ResponseChallenge.builder()
+                    .id(challengeId)
+                    .title(row.get(challenge.title))
+                    .content(row.get(challenge.content))
+                    .challengeCategory(row.get(challenge.challengeCategory).getDescription())
+                    .challengeLocation(row.get(challenge.challengeLocation).getDescription())
+                    .challengeDuration(row.get(challenge.challengeDuration).getDescription())
+                    .created_at(row.get(challenge.created_at).format(CREATED_AT_FORMATTER))
+                    .challengeImgUrls(imgUrls.getOrDefault(challengeId, new ArrayList<>()))
+                    .challengeHashtags(hashtags.getOrDefault(challengeId, new ArrayList<>()))
+                    .howManyUsersAreInThisChallenge(row.get(challenge.participantCount))
+                    .responseUser(owners.get(row.get(challenge.users.id)))
+                    .build());
+        }
+        return responseChallenges;
+    }
+
+    Map<Long, List<String>> findImgUrls(List<Long> challengeIds) {
+        List<Tuple> tuples = queryFactory
+                .select(challengeImg.challenge.id, challengeImg.imgUrl)
+                .from(challengeImg)
+                .where(challengeImg.challenge.id.in(challengeIds))
+                .orderBy(challengeImg.id.asc())
+                .fetch();
+
+        return tuples.stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(challengeImg.challenge.id),
+                        Collectors.mapping(tuple -> tuple.get(challengeImg.imgUrl), Collectors.toList())));
+    }
+
+    private Map<Long, List<String>> findHashtags(List<Long> challengeIds) {
+        List<Tuple> tuples = queryFactory
+                .select(challengeHashtag.challenge.id, hashtag.content)
+                .from(challengeHashtag)
+                .join(challengeHashtag.hashtag, hashtag)
+                .where(challengeHashtag.challenge.id.in(challengeIds))
+                .orderBy(challengeHashtag.id.asc())
+                .fetch();
+
+        return tuples.stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(challengeHashtag.challenge.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.content), Collectors.toList())));
+    }
+
+    private Map<Long, ResponseUser> findOwners(Collection<Long> ownerIds) {
+        List<Tuple> tuples = queryFactory
+                .select(user.id, user.userName, user.email)
+                .from(user)
+                .where(user.id.in(ownerIds))
+                .fetch();
+
+        Map<Long, ResponseUser> owners = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            owners.put(tuple.get(user.id), ResponseUser.builder()
+                    .userId(tuple.get(user.id))
+                    .userName(tuple.get(user.userName))
+                    .email(tuple.get(user.email))
+                    .build());
+        }
+        return owners;
+    }
+}
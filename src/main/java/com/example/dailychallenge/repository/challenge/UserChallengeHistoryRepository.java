@@ -0,0 +1,18 @@
+package com.example.dailychallenge.repository.challenge;
+
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface UserChallengeHistoryRepository extends JpaRepository<UserChallengeHistory, Long>,
+        UserChallengeHistoryRepositoryCustom {
+    Optional<UserChallengeHistory> findByUserChallengeIdAndYear(Long userChallengeId, int year);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserChallengeHistory> findWithLockByUserChallengeIdAndYear(Long userChallengeId, int year);
+
+    List<UserChallengeHistory> findAllByUserChallengeIdOrderByYearAsc(Long userChallengeId);
+}
@@ -0,0 +1,8 @@
+package com.example.dailychallenge.repository.challenge;
+
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+
+public interface UserChallengeHistoryRepositoryCustom {
+
+    void refreshWithLock(UserChallengeHistory userChallengeHistory);
+}
@@ -0,0 +1,23 @@
+package com.example.dailychallenge.repository.challenge;
+
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+public class UserChallengeHistoryRepositoryCustomImpl implements UserChallengeHistoryRepositoryCustom {
+
+    private final EntityManager em;
+
+    public UserChallengeHistoryRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    /**
+     * 이미 읽어 둔 기록 행을 SELECT ... FOR UPDATE 로 잠그면서 다시 읽는다.
+     * 같은 영속성 컨텍스트에 있는 엔티티는 잠금 조회로는 값이 바뀌지 않으므로 refresh 로 최신 비트셋을 덮어쓴다.
+     */
+    @Override
+    public void refreshWithLock(UserChallengeHistory userChallengeHistory) {
+        em.refresh(userChallengeHistory, LockModeType.PESSIMISTIC_WRITE);
+    }
+}
@@ -1,18 +1,35 @@
 package com.example.dailychallenge.repository.challenge;
 
+import com.example.dailychallenge.dto.ChallengeCursor;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
+import com.example.dailychallenge.dto.CheckInTarget;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
-import com.example.dailychallenge.vo.challenge.ResponseUserChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface UserChallengeRepositoryCustom {
     Optional<UserChallenge> findByChallengeIdAndUserId(Long challengeId, Long userId);
-    List<ResponseUserChallenge> searchUserChallengeByChallengeId(Long challengeId);
-    List<UserChallenge> searchUserChallengeByUserId(Long userId);
+    List<UserChallenge> findParticipatingWithChallengeByUserId(Long userId);
+    Optional<CheckInTarget> findCheckInTarget(String email, Long challengeId, int year);
+    boolean insertIfAbsent(UserChallenge userChallenge);
+    ResponseUserChallengeSlice searchParticipantsByCursor(Long challengeId, Long cursor, int size);
+    ResponseMyChallengeSlice searchMyChallengesByCursor(Long userId, Long cursor, int size);
+    List<ResponseChallengeByUserChallenge> searchSucceededChallengesByUserId(Long userId);
     Page<ResponseChallenge> searchAllChallenges(Pageable pageable);
+    Slice<ResponseChallenge> sliceAllChallenges(Pageable pageable);
     Page<ResponseChallenge> searchChallengesByCondition(ChallengeSearchCondition condition, Pageable pageable);
+    Slice<ResponseChallenge> sliceChallengesByCondition(ChallengeSearchCondition condition, Pageable pageable);
+    ResponseChallengeSlice searchChallengesByCursor(ChallengeSearchCondition condition, String sort,
+                                                    ChallengeCursor cursor, int size);
+    Long searchMaxId();
+    long resetChallengeStatusBetween(Long fromIdExclusive, Long toIdInclusive);
+    long resetWeeklyAchievementBetween(Long fromIdExclusive, Long toIdInclusive);
 }
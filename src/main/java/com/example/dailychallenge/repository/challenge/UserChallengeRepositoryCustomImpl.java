@@ -1,37 +1,81 @@
 package com.example.dailychallenge.repository.challenge;
 
 import static com.example.dailychallenge.entity.challenge.QChallenge.challenge;
+import static com.example.dailychallenge.entity.badge.QUserBadgeEvaluation.userBadgeEvaluation;
 import static com.example.dailychallenge.entity.challenge.QUserChallenge.userChallenge;
+import static com.example.dailychallenge.entity.challenge.QUserChallengeHistory.userChallengeHistory;
+import static com.example.dailychallenge.entity.comment.QComment.comment;
+import static com.example.dailychallenge.entity.users.QUser.user;
+import static com.example.dailychallenge.entity.users.QUserImg.userImg;
 import static org.aspectj.util.LangUtil.isEmpty;
 
+import com.example.dailychallenge.dto.ChallengeCursor;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
+import com.example.dailychallenge.dto.CheckInTarget;
+import com.example.dailychallenge.entity.badge.QUserBadgeEvaluation;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
-import com.example.dailychallenge.entity.challenge.QUserChallenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.users.QUser;
+import com.example.dailychallenge.entity.users.QUserImg;
 import com.example.dailychallenge.exception.CommonException;
-import com.example.dailychallenge.vo.challenge.QResponseChallenge;
+import com.example.dailychallenge.repository.support.QuerydslPaging;
+import com.example.dailychallenge.repository.support.TotalCountCache;
+import com.example.dailychallenge.vo.QResponseChallengeByUserChallenge;
+import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
+import com.example.dailychallenge.vo.challenge.QResponseMyChallenge;
 import com.example.dailychallenge.vo.challenge.QResponseUserChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallengeSlice;
 import com.example.dailychallenge.vo.challenge.ResponseUserChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 public class UserChallengeRepositoryCustomImpl implements
         UserChallengeRepositoryCustom {
 
+    private static final String CHALLENGES_TOTAL_KEY = "challenges";
+    // 유저는 서브쿼리로 찾아 user_challenge 행만 잠근다
+    private static final String LOCK_CHECK_IN_TARGET_SQL = "select uc.user_challenge_id from user_challenge uc"
+            + " where uc.challenge_id = :challengeId"
+            + " and uc.user_id = (select u.user_id from users u where u.email = :email)"
+            + " for update";
+
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final TotalCountCache totalCountCache;
+    private final ResponseChallengeAssembler responseChallengeAssembler;
 
-    public UserChallengeRepositoryCustomImpl(EntityManager em) {
+    public UserChallengeRepositoryCustomImpl(EntityManager em, TotalCountCache totalCountCache) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
+        this.totalCountCache = totalCountCache;
+        this.responseChallengeAssembler = new ResponseChallengeAssembler(queryFactory);
     }
 
     @Override
@@ -47,84 +91,343 @@ public class UserChallengeRepositoryCustomImpl implements
         return Optional.ofNullable(findUserChallenge);
     }
 
+    /**
+     * 참가한 유저, 챌린지와 작성자(프로필 이미지, 뱃지 평가 포함)를 fetch join 해서 챌린지마다 뒤따르는 SELECT 가 없도록 한다.
+     */
     @Override
-    public List<ResponseUserChallenge> searchUserChallengeByChallengeId(Long challengeId) {
+    public List<UserChallenge> findParticipatingWithChallengeByUserId(Long userId) {
+        QUser author = new QUser("author");
+        QUserImg authorImg = new QUserImg("authorImg");
+        QUserBadgeEvaluation authorBadgeEvaluation = new QUserBadgeEvaluation("authorBadgeEvaluation");
         return queryFactory
-                .select(new QResponseUserChallenge(userChallenge))
-                .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-                .where(challengeIdEq(challengeId))
+                .selectFrom(userChallenge)
+                .join(userChallenge.users, user).fetchJoin()
+                .leftJoin(user.userImg, userImg).fetchJoin()
+                .leftJoin(user.userBadgeEvaluation, userBadgeEvaluation).fetchJoin()
+                .join(userChallenge.challenge, challenge).fetchJoin()
+                .leftJoin(challenge.users, author).fetchJoin()
+                .leftJoin(author.userImg, authorImg).fetchJoin()
+                .leftJoin(author.userBadgeEvaluation, authorBadgeEvaluation).fetchJoin()
+                .where(user.id.eq(userId), userChallenge.isParticipated.isTrue())
+                .orderBy(userChallenge.id.asc())
                 .fetch();
     }
 
+    /**
+     * 참가한 유저(프로필 이미지, 뱃지 평가 포함), 챌린지와 작성자, 해당 연도 달성 기록을 조인 한 번으로 읽는다.
+     * 즉시 로딩 연관관계를 모두 fetch join 해서 뒤따르는 SELECT 가 없도록 한다.
+     * <p>
+     * 읽기 전에 user_challenge 행을 SELECT ... FOR UPDATE 로 잠가 같은 유저 챌린지의 달성, 중지를 줄 세운다.
+     * 조인한 유저, 챌린지 행까지 잠그지 않도록 잠금은 user_challenge 만 읽는 별도 쿼리로 잡는다.
+     */
     @Override
-    public List<UserChallenge> searchUserChallengeByUserId(Long userId) {
-        return queryFactory
-                .select(new QUserChallenge(userChallenge))
+    public Optional<CheckInTarget> findCheckInTarget(String email, Long challengeId, int year) {
+        List<?> lockedIds = em.createNativeQuery(LOCK_CHECK_IN_TARGET_SQL)
+                .setParameter("challengeId", challengeId)
+                .setParameter("email", email)
+                .getResultList();
+        if (lockedIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        QUser author = new QUser("author");
+        QUserImg authorImg = new QUserImg("authorImg");
+        QUserBadgeEvaluation authorBadgeEvaluation = new QUserBadgeEvaluation("authorBadgeEvaluation");
+        Tuple tuple = queryFactory
+                .select(userChallenge, userChallengeHistory)
+                .from(userChallenge)
+                .join(userChallenge.users, user).fetchJoin()
+                .leftJoin(user.userImg, userImg).fetchJoin()
+                .leftJoin(user.userBadgeEvaluation, userBadgeEvaluation).fetchJoin()
+                .join(userChallenge.challenge, challenge).fetchJoin()
+                .leftJoin(challenge.users, author).fetchJoin()
+                .leftJoin(author.userImg, authorImg).fetchJoin()
+                .leftJoin(author.userBadgeEvaluation, authorBadgeEvaluation).fetchJoin()
+                .leftJoin(userChallengeHistory).on(
+                        userChallengeHistory.userChallenge.eq(userChallenge),
+                        userChallengeHistory.year.eq(year)
+                )
+                .where(userChallenge.id.eq(((Number) lockedIds.get(0)).longValue()))
+                .fetchOne();
+
+        return Optional.ofNullable(tuple)
+                .map(row -> new CheckInTarget(row.get(userChallenge), row.get(userChallengeHistory)));
+    }
+
+    /**
+     * 중복 확인 SELECT 없이 INSERT 한 번으로 참가를 기록한다. (user_id, challenge_id) 유니크 제약에 걸리면 false
+     * <p>
+     * 실패한 INSERT 는 트랜잭션을 롤백 전용으로 만들므로 false 를 받은 쪽은 예외로 끝내야 한다.
+     */
+    @Override
+    public boolean insertIfAbsent(UserChallenge newUserChallenge) {
+        try {
+            em.persist(newUserChallenge); // IDENTITY 전략이라 바로 INSERT 된다
+            return true;
+        } catch (PersistenceException e) {
+            if (isParticipationConflict(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isParticipationConflict(PersistenceException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return false;
+        }
+        String constraintName = ((ConstraintViolationException) e.getCause()).getConstraintName();
+        return constraintName != null
+                && constraintName.toLowerCase().contains(UserChallenge.UNIQUE_PARTICIPATION);
+    }
+
+    /**
+     * 참여 순(userChallenge id)으로 cursor 이후 size 개, 유저는 조인해 한 번에 조회
+     */
+    @Override
+    public ResponseUserChallengeSlice searchParticipantsByCursor(Long challengeId, Long cursor, int size) {
+        List<Tuple> tuples = queryFactory
+                .select(userChallenge.id, new QResponseUserChallenge(
+                        userChallenge.challengeStatus, user.id, user.userName, user.email))
                 .from(userChallenge)
-                .where(userIdEq(userId))
+                .join(userChallenge.users, user)
+                .where(challengeIdEq(challengeId),
+                        cursor == null ? null : userChallenge.id.gt(cursor))
+                .orderBy(userChallenge.id.asc())
+                .limit(size + 1)
                 .fetch();
+
+        boolean hasNext = tuples.size() > size;
+        if (hasNext) {
+            tuples = tuples.subList(0, size);
+        }
+
+        List<ResponseUserChallenge> content = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            content.add(tuple.get(1, ResponseUserChallenge.class));
+        }
+        return ResponseUserChallengeSlice.builder()
+                .content(content)
+                .nextCursor(hasNext ? tuples.get(tuples.size() - 1).get(userChallenge.id) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * 내가 참여 중인 챌린지와 작성한 챌린지를 각각 챌린지 id 순 keyset 으로 size + 1 개씩 읽어 합친다.
+     * 참여는 user_challenge (user_id, challenge_id) 유니크 인덱스, 작성은 challenge (user_id, id) 인덱스 범위만 읽고,
+     * 각 쪽 앞 size + 1 개의 합집합에 전체 합집합의 앞 size + 1 개가 모두 들어 있다. 댓글은 목록 대신 개수만 센다.
+     */
     @Override
-    public Page<ResponseChallenge> searchAllChallenges(Pageable pageable) {
-        List<ResponseChallenge> content = queryFactory
-                .select(new QResponseChallenge(userChallenge.challenge, userChallenge.count()))
+    public ResponseMyChallengeSlice searchMyChallengesByCursor(Long userId, Long cursor, int size) {
+        List<ResponseMyChallenge> participated = queryFactory
+                .select(new QResponseMyChallenge(
+                        challenge.id,
+                        challenge.title,
+                        challenge.content,
+                        userChallenge.challengeStatus,
+                        new CaseBuilder().when(challenge.users.id.eq(userId)).then(true).otherwise(false),
+                        commentCount(),
+                        challenge.created_at))
                 .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-//                .leftJoin(userChallenge.challenge.challengeImgs, challengeImg)
-                .groupBy(userChallenge.challenge)
-//                .orderBy(userChallenge.count().desc(), userChallenge.challenge.created_at.asc())
-                .orderBy(challengesSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .join(userChallenge.challenge, challenge)
+                .where(userChallenge.users.id.eq(userId),
+                        userChallenge.isParticipated.isTrue(),
+                        cursor == null ? null : userChallenge.challenge.id.gt(cursor))
+                .orderBy(userChallenge.challenge.id.asc())
+                .limit(size + 1)
+                .fetch();
+        List<Tuple> created = queryFactory
+                .select(challenge.id, challenge.title, challenge.content, commentCount(), challenge.created_at)
+                .from(challenge)
+                .where(challenge.users.id.eq(userId),
+                        cursor == null ? null : challenge.id.gt(cursor))
+                .orderBy(challenge.id.asc())
+                .limit(size + 1)
                 .fetch();
 
-        long total = queryFactory
-                .select(userChallenge.challenge)
+        // 둘 다에 있으면 참여 상태가 있는 쪽을 남긴다
+        TreeMap<Long, ResponseMyChallenge> merged = new TreeMap<>();
+        for (Tuple tuple : created) {
+            merged.put(tuple.get(challenge.id), ResponseMyChallenge.builder()
+                    .challengeId(tuple.get(challenge.id))
+                    .challengeTitle(tuple.get(challenge.title))
+                    .challengeContent(tuple.get(challenge.content))
+                    .createdByMe(true)
+                    .commentCount(tuple.get(3, Long.class))
+                    .createdAt(tuple.get(challenge.created_at))
+                    .build());
+        }
+        participated.forEach(myChallenge -> merged.put(myChallenge.getChallengeId(), myChallenge));
+
+        List<ResponseMyChallenge> content = merged.values().stream()
+                .limit(size + 1)
+                .collect(Collectors.toList());
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return ResponseMyChallengeSlice.builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getChallengeId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private JPQLQuery<Long> commentCount() {
+        return JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(comment.challenge.eq(challenge));
+    }
+
+    @Override
+    public List<ResponseChallengeByUserChallenge> searchSucceededChallengesByUserId(Long userId) {
+        return queryFactory
+                .select(new QResponseChallengeByUserChallenge(
+                        userChallenge.users.id,
+                        challenge.id,
+                        challenge.title,
+                        challenge.content,
+                        userChallenge.challengeStatus,
+                        userChallenge.created_at))
                 .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-//                .leftJoin(userChallenge.challenge.challengeImgs, challengeImg)
-                .groupBy(userChallenge.challenge)
-                .fetch()
-                .size();
+                .join(userChallenge.challenge, challenge)
+                .where(
+                        userIdEq(userId),
+                        userChallenge.challengeStatus.eq(ChallengeStatus.SUCCESS)
+                )
+                .orderBy(userChallenge.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Page<ResponseChallenge> searchAllChallenges(Pageable pageable) {
+        return searchChallengesByCondition(new ChallengeSearchCondition(), pageable);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    @Override
+    public Slice<ResponseChallenge> sliceAllChallenges(Pageable pageable) {
+        return sliceChallengesByCondition(new ChallengeSearchCondition(), pageable);
     }
 
+    /**
+     * 검색어가 없는 기본 목록, 카테고리 목록은 조합이 적고 자주 호출되어 total 을 캐시한다.
+     */
     @Override
     public Page<ResponseChallenge> searchChallengesByCondition(ChallengeSearchCondition condition, Pageable pageable) {
+        JPAQuery<Tuple> contentQuery = challengesQuery(condition).orderBy(challengesSort(pageable));
+        JPAQuery<Long> countQuery = challengesCountQuery(condition);
+        if (condition.hasKeyword()) {
+            return responseChallengeAssembler.assemble(QuerydslPaging.page(contentQuery, pageable, countQuery));
+        }
 
-        List<ResponseChallenge> content = queryFactory
-                .select(new QResponseChallenge(userChallenge.challenge, userChallenge.count()))
-                .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-//                .leftJoin(userChallenge.challenge.challengeImgs, challengeImg)
-                .where(titleContains(condition.getTitle()),
-                        categoryEq(condition.getCategory()))
-                .groupBy(userChallenge.challenge)
-//                .orderBy(userChallenge.count().desc(), userChallenge.challenge.created_at.asc())
-                .orderBy(challengesSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+        String totalKey = isEmpty(condition.getCategory())
+                ? CHALLENGES_TOTAL_KEY
+                : CHALLENGES_TOTAL_KEY + ":" + condition.getCategory();
+        return responseChallengeAssembler.assemble(QuerydslPaging.page(contentQuery, pageable,
+                () -> totalCountCache.get(totalKey, () -> QuerydslPaging.fetchCount(countQuery))));
+    }
+
+    @Override
+    public Slice<ResponseChallenge> sliceChallengesByCondition(ChallengeSearchCondition condition,
+                                                               Pageable pageable) {
+        return responseChallengeAssembler.assemble(
+                QuerydslPaging.slice(challengesQuery(condition).orderBy(challengesSort(pageable)), pageable));
+    }
+
+    private JPAQuery<Tuple> challengesQuery(ChallengeSearchCondition condition) {
+        return queryFactory
+                .select(ResponseChallengeAssembler.COLUMNS)
+                .from(challenge)
+                .where(hasParticipant(),
+                        challengeIdIn(condition.getChallengeIds()),
+                        titleContains(condition.getTitle()),
+                        contentContains(condition.getContent()),
+                        categoryEq(condition.getCategory()));
+    }
+
+    private JPAQuery<Long> challengesCountQuery(ChallengeSearchCondition condition) {
+        return queryFactory
+                .select(challenge.count())
+                .from(challenge)
+                .where(hasParticipant(),
+                        challengeIdIn(condition.getChallengeIds()),
+                        titleContains(condition.getTitle()),
+                        contentContains(condition.getContent()),
+                        categoryEq(condition.getCategory()));
+    }
+
+    /**
+     * offset 없이 (정렬 키, id) 기준으로 이어서 조회하고, 다음 페이지 존재 여부는 size + 1 개를 조회해 판단
+     */
+    @Override
+    public ResponseChallengeSlice searchChallengesByCursor(ChallengeSearchCondition condition, String sort,
+                                                           ChallengeCursor cursor, int size) {
+        List<Tuple> tuples = challengesQuery(condition)
+                .where(afterCursor(cursor))
+                .orderBy(challengesSort(sort))
+                .limit(size + 1)
                 .fetch();
 
-        long total = queryFactory
-                .select(userChallenge.challenge)
-                .from(userChallenge)
-                .leftJoin(userChallenge.challenge, challenge)
-//                .leftJoin(userChallenge.challenge.challengeImgs, challengeImg)
-                .where(titleContains(condition.getTitle()),
-                        categoryEq(condition.getCategory()))
-                .groupBy(userChallenge.challenge)
-                .fetch()
-                .size();
+        boolean hasNext = tuples.size() > size;
+        if (hasNext) {
+            tuples = tuples.subList(0, size);
+        }
+
+        return ResponseChallengeSlice.builder()
+                .content(responseChallengeAssembler.assemble(tuples))
+                .nextCursor(hasNext ? createNextCursor(sort, tuples.get(tuples.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private String createNextCursor(String sort, Tuple last) {
+        Long challengeId = last.get(challenge.id);
+        if (ChallengeCursor.POPULAR.equals(sort)) {
+            return ChallengeCursor.popular(last.get(challenge.participantCount), challengeId).encode();
+        }
+        return ChallengeCursor.time(last.get(challenge.created_at), challengeId).encode();
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    private BooleanExpression afterCursor(ChallengeCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.isPopular()) {
+            Long participantCount = cursor.getParticipantCount();
+            return challenge.participantCount.lt(participantCount)
+                    .or(challenge.participantCount.eq(participantCount)
+                            .and(challenge.id.lt(cursor.getChallengeId())));
+        }
+        LocalDateTime createdAt = cursor.getCreatedAt();
+        return challenge.created_at.lt(createdAt)
+                .or(challenge.created_at.eq(createdAt)
+                        .and(challenge.id.lt(cursor.getChallengeId())));
+    }
+
+    /**
+     * 참여자가 없는 챌린지는 목록에 노출하지 않는다.
+     */
+    private BooleanExpression hasParticipant() {
+        return challenge.participantCount.gt(0);
+    }
+
+    /**
+     * 후보 id 로 범위를 좁힌 뒤에도 LIKE 조건은 그대로 두어 최종 일치 여부는 DB 가 판단한다.
+     */
+    private BooleanExpression challengeIdIn(Set<Long> challengeIds) {
+        if (challengeIds == null) {
+            return null;
+        }
+        return challengeIds.isEmpty() ? Expressions.FALSE.isTrue() : challenge.id.in(challengeIds);
     }
 
     private BooleanExpression titleContains(String title) {
-        return isEmpty(title) ? null : userChallenge.challenge.title.contains(title);
+        return isEmpty(title) ? null : challenge.title.contains(title);
+    }
+
+    private BooleanExpression contentContains(String content) {
+        return isEmpty(content) ? null : challenge.content.contains(content);
     }
 
     private BooleanExpression categoryEq(String category) {
@@ -132,7 +435,7 @@ public class UserChallengeRepositoryCustomImpl implements
             return null;
         }
         ChallengeCategory challengeCategory = ChallengeCategory.findByDescription(category);
-        return userChallenge.challenge.challengeCategory.eq(challengeCategory);
+        return challenge.challengeCategory.eq(challengeCategory);
     }
 
     private BooleanExpression challengeIdEq(Long challengeId) {
@@ -149,20 +452,69 @@ public class UserChallengeRepositoryCustomImpl implements
         return userChallenge.users.id.eq(userId);
     }
 
-    private OrderSpecifier<?> challengesSort(Pageable pageable) {
+    @Override
+    public Long searchMaxId() {
+        return queryFactory
+                .select(userChallenge.id.max())
+                .from(userChallenge)
+                .fetchOne();
+    }
+
+    /**
+     * 초기화가 필요한 행만 (fromIdExclusive, toIdInclusive] 구간에서 한 번에 갱신한다.
+     */
+    @Override
+    public long resetChallengeStatusBetween(Long fromIdExclusive, Long toIdInclusive) {
+        return queryFactory
+                .update(userChallenge)
+                .set(userChallenge.challengeStatus, ChallengeStatus.TRYING)
+                .set(userChallenge.updated_at, LocalDateTime.now())
+                .where(userChallenge.id.gt(fromIdExclusive),
+                        userChallenge.id.loe(toIdInclusive),
+                        userChallenge.challengeStatus.ne(ChallengeStatus.TRYING))
+                .execute();
+    }
+
+    /**
+     * 비트 값을 DB 에서 바로 0 으로 만든다.
+     */
+    @Override
+    public long resetWeeklyAchievementBetween(Long fromIdExclusive, Long toIdInclusive) {
+        return queryFactory
+                .update(userChallenge)
+                .set(userChallenge.weeklyAchievement, UserChallenge.EMPTY_WEEKLY_ACHIEVEMENT)
+                .set(userChallenge.updated_at, LocalDateTime.now())
+                .where(userChallenge.id.gt(fromIdExclusive),
+                        userChallenge.id.loe(toIdInclusive),
+                        userChallenge.weeklyAchievement.ne(UserChallenge.EMPTY_WEEKLY_ACHIEVEMENT))
+                .execute();
+    }
+
+    private OrderSpecifier<?>[] challengesSort(Pageable pageable) {
         if (pageable.getSort().isEmpty()) {
-            return OrderByNull.getDefault();
+            return new OrderSpecifier[]{OrderByNull.getDefault()};
         }
         for (Sort.Order order : pageable.getSort()) {
 //            Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC; // 새로운 정렬 조건이 추가되면 처리하자
-            if (order.getProperty().equals("time")) {
-//                return new OrderSpecifier<>(direction, challenge.created_at);
-                return new OrderSpecifier<>(Order.DESC, challenge.created_at);
-            }
-            if (order.getProperty().equals("popular")) {
-                return new OrderSpecifier<>(Order.DESC, userChallenge.count());
+            if (order.getProperty().equals("time") || order.getProperty().equals("popular")) {
+                return challengesSort(order.getProperty());
             }
         }
-        return OrderByNull.getDefault();
+        return new OrderSpecifier[]{OrderByNull.getDefault()};
+    }
+
+    /**
+     * keyset 페이지네이션과 같은 (정렬 키, id) 순서를 사용해야 커서로 이어서 조회할 수 있다.
+     * 두 키를 모두 내림차순으로 두어야 (정렬 키, challenge_id) 인덱스를 역방향으로 읽고 filesort 하지 않는다.
+     */
+    private OrderSpecifier<?>[] challengesSort(String property) {
+        if (property.equals("time")) {
+            return new OrderSpecifier[]{
+                    new OrderSpecifier<>(Order.DESC, challenge.created_at),
+                    new OrderSpecifier<>(Order.DESC, challenge.id)};
+        }
+        return new OrderSpecifier[]{
+                new OrderSpecifier<>(Order.DESC, challenge.participantCount),
+                new OrderSpecifier<>(Order.DESC, challenge.id)};
     }
 }
@@ -1,13 +1,20 @@
 package com.example.dailychallenge.repository.comment;
 
+import com.example.dailychallenge.entity.comment.Comment;
 import com.example.dailychallenge.vo.ResponseChallengeComment;
 import com.example.dailychallenge.vo.ResponseChallengeCommentImg;
 import com.example.dailychallenge.vo.ResponseUserComment;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CommentRepositoryCustom {
     Page<ResponseChallengeComment> searchCommentsByChallengeId(Long challengeId, Pageable pageable);
+    Slice<ResponseChallengeComment> sliceCommentsByChallengeId(Long challengeId, Pageable pageable);
     Page<ResponseUserComment> searchCommentsByUserId(Long userId, Pageable pageable);
     Page<ResponseChallengeCommentImg> searchCommentsByUserIdByChallengeId(Long userId, Long challengeId, Pageable pageable);
+    Map<Long, List<Comment>> findLatestCommentsByChallengeIds(Collection<Long> challengeIds, int limit);
 }
@@ -2,10 +2,13 @@ package com.example.dailychallenge.repository.comment;
 
 import static com.example.dailychallenge.entity.challenge.QChallenge.challenge;
 import static com.example.dailychallenge.entity.comment.QComment.comment;
+import static com.example.dailychallenge.entity.comment.QCommentImg.commentImg;
 import static com.example.dailychallenge.entity.users.QUser.user;
 
+import com.example.dailychallenge.entity.comment.Comment;
 import com.example.dailychallenge.exception.CommonException;
 import com.example.dailychallenge.repository.challenge.OrderByNull;
+import com.example.dailychallenge.repository.support.QuerydslPaging;
 import com.example.dailychallenge.vo.QResponseChallengeComment;
 import com.example.dailychallenge.vo.QResponseChallengeCommentImg;
 import com.example.dailychallenge.vo.QResponseUserComment;
@@ -15,76 +18,121 @@ import com.example.dailychallenge.vo.ResponseUserComment;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
+    /**
+     * 챌린지별 최근 댓글 id. JPQL 에는 윈도 함수가 없어서 네이티브 쿼리로 작성한다 (MySQL 8, H2 모두 지원)
+     */
+    private static final String LATEST_COMMENT_IDS_SQL = "select ranked.comment_id, ranked.challenge_id"
+            + " from (select c.comment_id, c.challenge_id,"
+            + " row_number() over (partition by c.challenge_id order by c.comment_id desc) as rn"
+            + " from comment c where c.challenge_id in (:challengeIds)) ranked"
+            + " where ranked.rn <= :limit";
+
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
     public CommentRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
     }
 
     @Override
     public Page<ResponseChallengeComment> searchCommentsByChallengeId(Long challengeId, Pageable pageable) {
-
-        List<ResponseChallengeComment> content = queryFactory
-                .select(new QResponseChallengeComment(comment))
+        JPAQuery<Long> countQuery = queryFactory
+                .select(comment.countDistinct())
                 .from(comment)
-                .leftJoin(comment.challenge, challenge)
-                .where(challengeIdEq(challengeId))
-//                .groupBy(userChallenge.challenge)
-                .orderBy(commentSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(challengeIdEq(challengeId));
+
+        return QuerydslPaging.page(challengeCommentsQuery(challengeId, pageable), pageable, countQuery);
+    }
+
+    @Override
+    public Slice<ResponseChallengeComment> sliceCommentsByChallengeId(Long challengeId, Pageable pageable) {
+        return QuerydslPaging.slice(challengeCommentsQuery(challengeId, pageable), pageable);
+    }
+
+    /**
+     * 챌린지마다 최근 댓글 limit 개를 최신순으로 조회한다.
+     * 챌린지 수와 상관없이 댓글 id 조회 한 번, 댓글과 이미지 fetch join 조회 한 번으로 끝난다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, List<Comment>> findLatestCommentsByChallengeIds(Collection<Long> challengeIds, int limit) {
+        Map<Long, List<Comment>> result = new LinkedHashMap<>();
+        if (challengeIds.isEmpty()) {
+            return result;
+        }
+        List<Object[]> rows = em.createNativeQuery(LATEST_COMMENT_IDS_SQL)
+                .setParameter("challengeIds", challengeIds)
+                .setParameter("limit", limit)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Long> challengeIdByCommentId = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            challengeIdByCommentId.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        List<Comment> comments = queryFactory
+                .selectFrom(comment)
+                .distinct()
+                .leftJoin(comment.commentImgs, commentImg).fetchJoin()
+                .where(comment.id.in(challengeIdByCommentId.keySet()))
+                .orderBy(comment.id.desc())
                 .fetch();
+        for (Comment latest : comments) {
+            result.computeIfAbsent(challengeIdByCommentId.get(latest.getId()), id -> new ArrayList<>())
+                    .add(latest);
+        }
+        return result;
+    }
 
-        long total = queryFactory
-                .select(comment)
+    private JPAQuery<ResponseChallengeComment> challengeCommentsQuery(Long challengeId, Pageable pageable) {
+        return queryFactory
+                .select(new QResponseChallengeComment(comment))
                 .from(comment)
                 .leftJoin(comment.challenge, challenge)
                 .where(challengeIdEq(challengeId))
-//                .groupBy(userChallenge.challenge)
-                .fetch()
-                .size();
-
-        return new PageImpl<>(content, pageable, total);
+                .orderBy(commentSort(pageable));
     }
 
     @Override
     public Page<ResponseUserComment> searchCommentsByUserId(Long userId, Pageable pageable) {
-        List<ResponseUserComment> content = queryFactory
+        JPAQuery<ResponseUserComment> contentQuery = queryFactory
                 .select(new QResponseUserComment(comment))
                 .from(comment)
                 .leftJoin(comment.users, user)
                 .where(userIdEq(userId))
-                .orderBy(commentSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(commentSort(pageable));
 
-        long total = queryFactory
-                .select(comment)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(comment.countDistinct())
                 .from(comment)
-                .leftJoin(comment.users, user)
-                .where(userIdEq(userId))
-                .fetch()
-                .size();
+                .where(userIdEq(userId));
 
-        return new PageImpl<>(content, pageable, total);
+        return QuerydslPaging.page(contentQuery, pageable, countQuery);
     }
 
     @Override
     public Page<ResponseChallengeCommentImg> searchCommentsByUserIdByChallengeId(Long userId, Long challengeId,
                                                                                  Pageable pageable) {
 
-        List<ResponseChallengeCommentImg> content = queryFactory
+        JPAQuery<ResponseChallengeCommentImg> contentQuery = queryFactory
                 .select(new QResponseChallengeCommentImg(comment))
                 .from(comment)
                 .leftJoin(comment.challenge, challenge)
@@ -93,26 +141,17 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                         challengeIdEq(challengeId),
                         userIdEq(userId)
                 )
-//                .groupBy(userChallenge.challenge)
-                .orderBy(commentSort(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(commentSort(pageable));
 
-        long total = queryFactory
-                .select(comment)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(comment.countDistinct())
                 .from(comment)
-                .leftJoin(comment.challenge, challenge)
-                .leftJoin(comment.users, user)
                 .where(
                         challengeIdEq(challengeId),
                         userIdEq(userId)
-                )
-//                .groupBy(userChallenge.challenge)
-                .fetch()
-                .size();
+                );
 
-        return new PageImpl<>(content, pageable, total);
+        return QuerydslPaging.page(contentQuery, pageable, countQuery);
     }
 
     private BooleanExpression challengeIdEq(Long challengeId) {
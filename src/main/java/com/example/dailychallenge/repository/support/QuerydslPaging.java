@@ -0,0 +1,58 @@
+package com.example.dailychallenge.repository.support;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * QueryDSL custom repository 들이 공통으로 사용하는 페이지네이션 헬퍼
+ */
+public final class QuerydslPaging {
+
+    private QuerydslPaging() {
+    }
+
+    public static <T> Page<T> page(JPAQuery<T> contentQuery, Pageable pageable, JPAQuery<Long> countQuery) {
+        return page(contentQuery, pageable, () -> fetchCount(countQuery));
+    }
+
+    /**
+     * 첫 페이지가 size 보다 작거나 마지막 페이지인 경우 content 크기로 total 을 계산하고 count 를 생략한다.
+     */
+    public static <T> Page<T> page(JPAQuery<T> contentQuery, Pageable pageable, LongSupplier totalSupplier) {
+        List<T> content = contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
+
+    /**
+     * count 없이 size + 1 개를 조회해 다음 페이지 존재 여부만 판단한다.
+     */
+    public static <T> Slice<T> slice(JPAQuery<T> contentQuery, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<T> content = new ArrayList<>(contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageSize + 1L)
+                .fetch());
+
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content.remove(pageSize);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    public static long fetchCount(JPAQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total == null ? 0L : total;
+    }
+}
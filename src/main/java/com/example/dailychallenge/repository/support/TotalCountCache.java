@@ -0,0 +1,57 @@
+package com.example.dailychallenge.repository.support;
+
+import com.example.dailychallenge.utils.TransactionCallbacks;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 호출되는 기본 목록 조회의 total 을 짧게 재사용하기 위한 캐시
+ * 목록 구성이 바뀌는 쓰기(첫 참여, 마지막 참여자의 나가기, 카테고리 변경, 삭제)에서 evictAll() 로 비운다.
+ * 비우기는 커밋 뒤에 하고, 항목마다 센 시점의 세대를 함께 저장해 세는 동안 비워졌다면 읽을 때 버린다.
+ */
+@Component
+public class TotalCountCache {
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Map<String, CachedTotal> totals = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public long get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        long currentGeneration = generation.get();
+        CachedTotal cached = totals.get(key);
+        if (cached != null && cached.generation == currentGeneration && now - cached.cachedAt < TTL_NANOS) {
+            return cached.total;
+        }
+        long total = counter.getAsLong();
+        totals.compute(key, (k, old) ->
+                generation.get() == currentGeneration ? new CachedTotal(total, now, currentGeneration) : old);
+        return total;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 비운다
+     */
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            totals.clear();
+        });
+    }
+
+    private static class CachedTotal {
+        private final long total;
+        private final long cachedAt;
+        private final long generation;
+
+        private CachedTotal(long total, long cachedAt, long generation) {
+            this.total = total;
+            this.cachedAt = cachedAt;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dailychallenge.service.badge;
+
+import com.example.dailychallenge.entity.badge.Badge;
+import com.example.dailychallenge.vo.badge.ResponseBadge;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 뱃지 목록 스냅샷. 만든 뒤에는 바뀌지 않으며 뱃지 목록이 바뀌면 새 스냅샷으로 통째로 교체한다.
+ * /badges 응답은 만들 때 한 번 직렬화해 두고, 그 바이트로 ETag 를 만든다.
+ */
+public final class BadgeCatalog {
+
+    private final List<Badge> badges;
+    private final Map<Long, Badge> badgesById;
+    private final Map<String, Badge> badgesByName;
+    private final byte[] badgesJson;
+    private final String eTag;
+
+    private BadgeCatalog(List<Badge> badges, byte[] badgesJson) {
+        Map<Long, Badge> byId = new HashMap<>();
+        Map<String, Badge> byName = new HashMap<>();
+        for (Badge badge : badges) {
+            byId.put(badge.getId(), badge);
+            byName.put(badge.getName(), badge);
+        }
+        this.badges = List.copyOf(badges);
+        this.badgesById = Map.copyOf(byId);
+        this.badgesByName = Map.copyOf(byName);
+        this.badgesJson = badgesJson;
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(badgesJson) + "\"";
+    }
+
+    /**
+     * @param badges id 순(달성, 후기, 생성)으로 정렬된 뱃지들
+     */
+    public static BadgeCatalog of(List<Badge> badges, ObjectMapper objectMapper) {
+        try {
+            return new BadgeCatalog(badges, objectMapper.writeValueAsBytes(ResponseBadge.create(badges)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("뱃지 목록을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    public List<Badge> getBadges() {
+        return badges;
+    }
+
+    public Optional<Badge> findById(Long badgeId) {
+        return Optional.ofNullable(badgesById.get(badgeId));
+    }
+
+    public Optional<Badge> findByName(String badgeName) {
+        return Optional.ofNullable(badgesByName.get(badgeName));
+    }
+
+    /**
+     * 매번 복사하지 않으므로 받은 쪽에서 고치면 안 된다
+     */
+    public byte[] getBadgesJson() {
+        return badgesJson;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.dailychallenge.service.badge;
+
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.badge.type.BadgeType;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.AuthorizationException;
+import com.example.dailychallenge.exception.badge.BadgeRecomputeInProgress;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute.Status;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 뱃지 평가 카운터를 원본 테이블(챌린지, 후기)에서 다시 세어 맞추고, 빠진 뱃지 평가와 얻은 뱃지를 채운다.
+ * <p>
+ * 요청 스레드에서는 작업을 시작만 하고, 진행 상태와 결과는 getStatus() 로 확인한다.
+ * 유저 id 구간마다 짧은 트랜잭션 하나에서 묶음 집계와 바뀐 카운터만 UPDATE 하고,
+ * 구간들은 크기가 정해진 ForkJoinPool 에서 병렬로 처리한다. 구간 단위로 커밋하므로 중간에 실패해도 다시 실행하면 된다.
+ * <p>
+ * 달성 카운터는 다시 세지 않는다. 달성 기록 테이블은 도입 전의 달성을 담고 있지 않고 챌린지를 나가면 함께 지워지므로,
+ * 다시 세면 대부분의 유저 카운터가 줄어든다. 저장된 달성 카운터는 빠진 달성 뱃지를 채우는 데에만 쓴다.
+ * <p>
+ * 구간 트랜잭션은 먼저 구간의 뱃지 평가 행을 잠가 그동안의 아웃박스 처리(카운터 증가)를 기다리게 하고, 잠근 뒤에 센다.
+ * 원본 행과 아웃박스 이벤트는 같은 트랜잭션에서 저장되므로, 센 값에는 아직 처리하지 않은 이벤트의 몫이 들어 있다.
+ * 그 몫은 이벤트가 처리될 때 더해지므로 센 값에서 빼고 저장한다. 재계산 중에 들어온 증가분도 덮어쓰지 않는다.
+ * <p>
+ * 빠진 뱃지는 유저마다 따로 트랜잭션을 열어 뱃지 평가 행을 잠근 뒤 earnBadge 로 저장한다.
+ * 뱃지 평가 처리도 같은 행 잠금 아래에서 뱃지를 저장하므로 같은 뱃지를 두 번 저장하지 않고,
+ * 그래도 유니크 제약에 걸리면 그 유저만 건너뛴다. 이미 얻은 뱃지는 카운터가 줄어도 회수하지 않는다.
+ */
+@Slf4j
+@Service
+public class BadgeCounterRecomputeService {
+
+    static final int PARTITION_SIZE = 1000;
+    private static final Set<BadgeMetric> RECOUNTED_METRICS =
+            EnumSet.of(BadgeMetric.CHALLENGE_CREATE, BadgeMetric.COMMENT_WRITE);
+
+    @Value("${adminEmails:}")
+    private Set<String> adminEmails;
+    @Value("${badgeRecomputeParallelism:4}")
+    private int parallelism;
+
+    private final UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    private final UserBadgeService userBadgeService;
+    private final BadgeRuleRegistry badgeRuleRegistry;
+    private final BadgeService badgeService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    // 쓰기는 this 로 보호한다
+    private volatile ResponseBadgeRecompute lastStatus = ResponseBadgeRecompute.builder()
+            .status(Status.IDLE)
+            .build();
+
+    public BadgeCounterRecomputeService(UserBadgeEvaluationRepository userBadgeEvaluationRepository,
+                                        UserBadgeService userBadgeService,
+                                        BadgeRuleRegistry badgeRuleRegistry,
+                                        BadgeService badgeService,
+                                        TransactionTemplate transactionTemplate) {
+        this.userBadgeEvaluationRepository = userBadgeEvaluationRepository;
+        this.userBadgeService = userBadgeService;
+        this.badgeRuleRegistry = badgeRuleRegistry;
+        this.badgeService = badgeService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "badge-recompute");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 재계산을 시작하고 바로 RUNNING 상태를 반환한다
+     */
+    public ResponseBadgeRecompute start(String requesterEmail) {
+        checkAdmin(requesterEmail);
+        LocalDateTime startedAt = LocalDateTime.now();
+        ResponseBadgeRecompute runningStatus = ResponseBadgeRecompute.builder()
+                .status(Status.RUNNING)
+                .startedAt(startedAt)
+                .build();
+        synchronized (this) {
+            if (lastStatus.getStatus() == Status.RUNNING) {
+                throw new BadgeRecomputeInProgress();
+            }
+            lastStatus = runningStatus;
+        }
+        try {
+            executor.execute(() -> run(startedAt));
+        } catch (RejectedExecutionException e) {
+            finish(failed(startedAt));
+            throw new BadgeRecomputeInProgress(e);
+        }
+        return runningStatus;
+    }
+
+    /**
+     * 진행 중이면 RUNNING, 끝났으면 마지막 실행 결과
+     */
+    public ResponseBadgeRecompute getStatus(String requesterEmail) {
+        checkAdmin(requesterEmail);
+        return lastStatus;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void checkAdmin(String requesterEmail) {
+        if (!adminEmails.contains(requesterEmail)) {
+            throw new AuthorizationException();
+        }
+    }
+
+    private void run(LocalDateTime startedAt) {
+        ResponseBadgeRecompute result = failed(startedAt);
+        try {
+            result = recomputeAll(startedAt);
+        } catch (RuntimeException e) {
+            log.error("뱃지 카운터 재계산 실패", e);
+        } finally {
+            finish(result);
+        }
+    }
+
+    private synchronized void finish(ResponseBadgeRecompute result) {
+        lastStatus = result;
+    }
+
+    private static ResponseBadgeRecompute failed(LocalDateTime startedAt) {
+        return ResponseBadgeRecompute.builder()
+                .status(Status.FAILED)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    private ResponseBadgeRecompute recomputeAll(LocalDateTime startedAt) {
+        long startedMillis = System.currentTimeMillis();
+        Long maxUserId = transactionTemplate.execute(status -> userBadgeEvaluationRepository.searchMaxUserId());
+
+        List<Callable<PartitionResult>> partitions = new ArrayList<>();
+        for (long fromId = 0; maxUserId != null && fromId < maxUserId; fromId += PARTITION_SIZE) {
+            Long fromUserId = fromId;
+            Long toUserId = Math.min(fromId + PARTITION_SIZE, maxUserId);
+            partitions.add(() -> recomputePartition(fromUserId, toUserId));
+        }
+
+        PartitionResult total = new PartitionResult(0, 0, 0);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<PartitionResult> result : pool.invokeAll(partitions)) {
+                total = total.plus(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("뱃지 카운터 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("뱃지 카운터 재계산에 실패했습니다.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startedMillis;
+        long usersPerSecond = total.users * 1000 / Math.max(elapsedMillis, 1);
+        log.info("뱃지 카운터 재계산 완료: 유저 {}명, 카운터 {}건 수정, 뱃지 {}개 추가, {}개 구간, 병렬 {}, {}ms ({}명/초)",
+                total.users, total.updatedCounters, total.earnedBadges, partitions.size(), parallelism,
+                elapsedMillis, usersPerSecond);
+        return ResponseBadgeRecompute.builder()
+                .status(Status.COMPLETED)
+                .startedAt(startedAt)
+                .users(total.users)
+                .updatedCounters(total.updatedCounters)
+                .earnedBadges(total.earnedBadges)
+                .partitions(partitions.size())
+                .elapsedMillis(elapsedMillis)
+                .usersPerSecond(usersPerSecond)
+                .build();
+    }
+
+    /**
+     * 카운터는 구간 트랜잭션 하나에서 고치고, 빠진 뱃지는 커밋한 뒤에 유저마다 채운다
+     */
+    private PartitionResult recomputePartition(Long fromUserId, Long toUserId) {
+        PartitionCounters partitionCounters = transactionTemplate.execute(
+                status -> recomputeCounters(fromUserId, toUserId));
+
+        long earnedBadges = 0;
+        for (Map.Entry<Long, List<String>> entry : partitionCounters.missingBadgeNames.entrySet()) {
+            earnedBadges += earnMissingBadges(entry.getKey(), entry.getValue());
+        }
+        return new PartitionResult(partitionCounters.users, partitionCounters.updatedCounters, earnedBadges);
+    }
+
+    /**
+     * 잠금을 트랜잭션의 첫 쿼리로 잡아야 뒤따르는 조회의 스냅샷이 잠근 뒤에 만들어진다
+     */
+    private PartitionCounters recomputeCounters(Long fromUserId, Long toUserId) {
+        userBadgeEvaluationRepository.lockEvaluationsBetween(fromUserId, toUserId);
+        for (User user : userBadgeEvaluationRepository.searchUsersWithoutEvaluationBetween(fromUserId, toUserId)) {
+            userBadgeEvaluationRepository.save(UserBadgeEvaluation.builder()
+                    .users(user)
+                    .build());
+        }
+
+        Map<Long, Map<BadgeMetric, Integer>> counters = userBadgeEvaluationRepository.searchCountersBetween(
+                fromUserId, toUserId);
+        Map<BadgeMetric, Map<Long, Integer>> counts = new EnumMap<>(BadgeMetric.class);
+        counts.put(BadgeMetric.CHALLENGE_CREATE,
+                userBadgeEvaluationRepository.countChallengeCreatesBetween(fromUserId, toUserId));
+        counts.put(BadgeMetric.COMMENT_WRITE,
+                userBadgeEvaluationRepository.countCommentWritesBetween(fromUserId, toUserId));
+        Map<Long, Map<BadgeMetric, Integer>> pendingCounts = userBadgeEvaluationRepository.countPendingOutboxBetween(
+                fromUserId, toUserId);
+        Map<Long, Set<Long>> earnedBadgeIds = userBadgeEvaluationRepository.searchEarnedBadgeIdsBetween(
+                fromUserId, toUserId);
+
+        long updatedCounters = 0;
+        Map<Long, List<String>> missingBadgeNames = new HashMap<>();
+        for (Map.Entry<Long, Map<BadgeMetric, Integer>> entry : counters.entrySet()) {
+            Long userId = entry.getKey();
+            Map<BadgeMetric, Integer> stored = entry.getValue();
+            Map<BadgeMetric, Integer> pending = pendingCounts.getOrDefault(userId, Map.of());
+            Map<BadgeMetric, Integer> recounted = new EnumMap<>(BadgeMetric.class);
+            for (BadgeMetric metric : RECOUNTED_METRICS) {
+                recounted.put(metric, counts.get(metric).getOrDefault(userId, 0) - pending.getOrDefault(metric, 0));
+            }
+
+            boolean changed = false;
+            for (BadgeMetric metric : RECOUNTED_METRICS) {
+                changed |= !recounted.get(metric).equals(stored.get(metric));
+            }
+            if (changed) {
+                updatedCounters += userBadgeEvaluationRepository.updateCounters(userId, recounted);
+            }
+
+            Map<BadgeMetric, Integer> current = new EnumMap<>(stored);
+            current.putAll(recounted);
+            Set<Long> earned = earnedBadgeIds.getOrDefault(userId, Set.of());
+            current.forEach((metric, value) -> {
+                for (BadgeType badgeType : badgeRuleRegistry.findReached(metric, 0, value)) {
+                    if (!earned.contains(badgeService.findByName(badgeType.getName()).getId())) {
+                        missingBadgeNames.computeIfAbsent(userId, id -> new ArrayList<>()).add(badgeType.getName());
+                    }
+                }
+            });
+        }
+        return new PartitionCounters(counters.size(), updatedCounters, missingBadgeNames);
+    }
+
+    /**
+     * 뱃지 평가 행을 잠근 뒤 earnBadge 가 다시 확인하고 저장한다. 유니크 제약에 걸리면 이 유저만 건너뛴다.
+     */
+    private long earnMissingBadges(Long userId, List<String> badgeNames) {
+        try {
+            Long earned = transactionTemplate.execute(status -> {
+                userBadgeEvaluationRepository.findWithLockByUsersId(userId);
+                return badgeNames.stream()
+                        .filter(badgeName -> userBadgeService.earnBadge(userId, badgeName).isPresent())
+                        .count();
+            });
+            return earned == null ? 0 : earned;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("이미 저장된 뱃지라 건너뜁니다 userId={}", userId, e);
+            return 0;
+        }
+    }
+
+    private static final class PartitionCounters {
+        private final long users;
+        private final long updatedCounters;
+        private final Map<Long, List<String>> missingBadgeNames;
+
+        private PartitionCounters(long users, long updatedCounters, Map<Long, List<String>> missingBadgeNames) {
+            this.users = users;
+            this.updatedCounters = updatedCounters;
+            this.missingBadgeNames = missingBadgeNames;
+        }
+    }
+
+    private static final class PartitionResult {
+        private final long users;
+        private final long updatedCounters;
+        private final long earnedBadges;
+
+        private PartitionResult(long users, long updatedCounters, long earnedBadges) {
+            this.users = users;
+            this.updatedCounters = updatedCounters;
+            this.earnedBadges = earnedBadges;
+        }
+
+        private PartitionResult plus(PartitionResult other) {
+            return new PartitionResult(users + other.users, updatedCounters + other.updatedCounters,
+                    earnedBadges + other.earnedBadges);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.dailychallenge.service.badge;
+
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.event.ChallengeCreatedEvent;
+import com.example.dailychallenge.event.ChallengeSucceededEvent;
+import com.example.dailychallenge.event.CommentWrittenEvent;
+import com.example.dailychallenge.utils.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뱃지 평가 비동기 처리.
+ * <p>
+ * 도메인 이벤트가 발생한 트랜잭션 안에서 아웃박스에 기록하고, 커밋된 뒤에만 작업 큐에 넣는다.
+ * 큐는 크기가 정해진 단일 스레드라 같은 유저의 평가 카운터를 동시에 고치지 않으며, 큐가 가득 차거나
+ * 처리 중 실패하거나 서버가 내려가서 남은 이벤트는 주기적인 재처리가 아웃박스에서 다시 읽어 처리한다.
+ * 실패는 아웃박스에 횟수와 오류로 남기고, 처리된 이벤트는 보관 기간이 지나면 지운다.
+ */
+@Slf4j
+@Component
+public class BadgeEvaluationWorker {
+
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int RETRY_BATCH_SIZE = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    @Value("${badgeOutboxRetentionDays:7}")
+    private int retentionDays;
+
+    private final BadgeOutboxService badgeOutboxService;
+    private final ThreadPoolExecutor executor;
+    private volatile long retryCursor;
+
+    public BadgeEvaluationWorker(BadgeOutboxService badgeOutboxService) {
+        this.badgeOutboxService = badgeOutboxService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "badge-evaluation");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.warn("뱃지 평가 큐가 가득 차서 재처리로 넘깁니다"));
+    }
+
+    @EventListener
+    public void onChallengeCreated(ChallengeCreatedEvent event) {
+        record(event.getChallenge().getUsers().getId(), BadgeOutboxType.CHALLENGE_CREATED);
+    }
+
+    @EventListener
+    public void onCommentWritten(CommentWrittenEvent event) {
+        record(event.getUserId(), BadgeOutboxType.COMMENT_WRITTEN);
+    }
+
+    @EventListener
+    public void onChallengeSucceeded(ChallengeSucceededEvent event) {
+        record(event.getUserId(), BadgeOutboxType.CHALLENGE_SUCCEEDED);
+    }
+
+    /**
+     * 큐에 남은 자리만큼 지난번에 멈춘 id 다음부터 읽어 넣고, 끝까지 읽으면 처음부터 다시 읽는다.
+     * 앞쪽에서 계속 실패하는 이벤트가 있어도 뒤쪽 이벤트가 밀리지 않는다.
+     */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void retryPending() {
+        int limit = Math.min(executor.getQueue().remainingCapacity(), RETRY_BATCH_SIZE);
+        if (limit == 0) {
+            return;
+        }
+        List<Long> outboxIds = badgeOutboxService.findPendingIds(retryCursor, limit);
+        retryCursor = outboxIds.size() < limit ? 0L : outboxIds.get(outboxIds.size() - 1);
+        for (Long outboxId : outboxIds) {
+            submit(outboxId);
+        }
+    }
+
+    /**
+     * 처리한 지 retentionDays 일이 지난 이벤트를 구간마다 짧은 트랜잭션으로 나눠 지운다
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void purgeProcessed() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        long batch;
+        do {
+            batch = badgeOutboxService.deleteProcessedBefore(before, PURGE_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == PURGE_BATCH_SIZE);
+        log.info("처리된 뱃지 평가 이벤트 {}건 삭제", deleted);
+    }
+
+    public void submit(Long outboxId) {
+        executor.execute(() -> {
+            try {
+                badgeOutboxService.process(outboxId);
+            } catch (RuntimeException e) {
+                log.error("뱃지 평가 실패 outboxId={}", outboxId, e);
+                badgeOutboxService.recordFailure(outboxId, e.toString());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void record(Long userId, BadgeOutboxType type) {
+        Long outboxId = badgeOutboxService.record(userId, type);
+        TransactionCallbacks.afterCommit(() -> submit(outboxId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.dailychallenge.service.badge;
+
+import com.example.dailychallenge.entity.badge.BadgeOutbox;
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.repository.badge.BadgeOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 뱃지 평가 이벤트 아웃박스. 기록은 이벤트를 발생시킨 트랜잭션에 참여하고, 처리는 아웃박스 행을 잠근 뒤
+ * 평가 카운터와 뱃지 상태 변경, 처리 완료 표시를 한 트랜잭션으로 커밋한다.
+ * 처리에 실패하면 그 트랜잭션은 롤백되므로 실패 기록은 별도 트랜잭션(recordFailure)으로 남긴다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BadgeOutboxService {
+    private final BadgeOutboxRepository badgeOutboxRepository;
+    private final UserBadgeEvaluationService userBadgeEvaluationService;
+
+    public Long record(Long userId, BadgeOutboxType type) {
+        return badgeOutboxRepository.save(BadgeOutbox.builder()
+                .userId(userId)
+                .type(type)
+                .build()).getId();
+    }
+
+    /**
+     * 이미 처리된 이벤트는 건너뛰므로 같은 id 가 여러 번 들어와도 한 번만 반영된다
+     */
+    public void process(Long outboxId) {
+        Optional<BadgeOutbox> optionalOutbox = badgeOutboxRepository.findWithLockById(outboxId);
+        if (optionalOutbox.isEmpty() || optionalOutbox.get().isProcessed()) {
+            return;
+        }
+        BadgeOutbox outbox = optionalOutbox.get();
+        userBadgeEvaluationService.evaluate(outbox.getUserId(), outbox.getType().getMetric());
+        outbox.markProcessed();
+    }
+
+    public void recordFailure(Long outboxId, String error) {
+        badgeOutboxRepository.findWithLockById(outboxId)
+                .filter(outbox -> !outbox.isProcessed())
+                .ifPresent(outbox -> {
+                    outbox.markFailed(error);
+                    if (outbox.isParked()) {
+                        log.warn("뱃지 평가 {}회 실패로 재처리를 멈춥니다 outboxId={}, error={}",
+                                outbox.getAttempts(), outboxId, error);
+                    }
+                });
+    }
+
+    /**
+     * afterId 다음부터 id 순으로 처리 대기 중인 이벤트 id 를 limit 개까지 조회한다
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds(Long afterId, int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (BadgeOutbox outbox : badgeOutboxRepository.findByProcessedFalseAndParkedFalseAndIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, limit))) {
+            ids.add(outbox.getId());
+        }
+        return ids;
+    }
+
+    public long deleteProcessedBefore(LocalDateTime before, int limit) {
+        return badgeOutboxRepository.deleteProcessedBefore(before, limit);
+    }
+}
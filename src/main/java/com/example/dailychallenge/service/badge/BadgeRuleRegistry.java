@@ -0,0 +1,109 @@
+package com.example.dailychallenge.service.badge;
+
+import com.example.dailychallenge.dto.BadgeDto;
+import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.badge.type.BadgeType;
+import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
+import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뱃지 규칙 목록. 규칙은 지표별로 기준 값 오름차순 int 배열과 같은 순서의 규칙 배열로 미리 만들어 두고,
+ * 지표가 이전 값에서 새 값으로 바뀔 때 지난 기준 값들을 이분 탐색으로 찾는다.
+ * <p>
+ * 새 뱃지 종류는 BadgeType 을 구현한 enum 을 BADGE_TYPES 에 추가하면 되고, 새 활동 지표는 BadgeMetric 과
+ * 유저 뱃지 평가의 카운터를 함께 추가한다.
+ */
+@Component
+public class BadgeRuleRegistry {
+
+    // 등록 순서: 달성, 후기, 생성
+    private static final List<BadgeType> BADGE_TYPES = List.of(concat(
+            AchievementBadgeType.values(),
+            CommentWriteBadgeType.values(),
+            ChallengeCreateBadgeType.values()));
+
+    private final List<BadgeType> badgeTypes;
+    private final Map<BadgeMetric, Thresholds> thresholdsByMetric = new EnumMap<>(BadgeMetric.class);
+
+    public BadgeRuleRegistry() {
+        this(BADGE_TYPES);
+    }
+
+    BadgeRuleRegistry(List<? extends BadgeType> badgeTypes) {
+        this.badgeTypes = List.copyOf(badgeTypes);
+        Map<BadgeMetric, List<BadgeType>> byMetric = new EnumMap<>(BadgeMetric.class);
+        for (BadgeType badgeType : badgeTypes) {
+            byMetric.computeIfAbsent(badgeType.getMetric(), metric -> new ArrayList<>()).add(badgeType);
+        }
+        byMetric.forEach((metric, types) -> thresholdsByMetric.put(metric, new Thresholds(metric, types)));
+    }
+
+    public List<BadgeType> getBadgeTypes() {
+        return badgeTypes;
+    }
+
+    public List<BadgeDto> getBadgeDtos() {
+        List<BadgeDto> badgeDtos = new ArrayList<>(badgeTypes.size());
+        for (BadgeType badgeType : badgeTypes) {
+            badgeDtos.add(BadgeDto.builder()
+                    .badgeName(badgeType.getName())
+                    .badgeImgFileName(badgeType.getImgFileName())
+                    .build());
+        }
+        return badgeDtos;
+    }
+
+    /**
+     * 지표가 from 에서 to 로 늘었을 때 새로 닿은 규칙들, from < 기준 값 <= to 를 기준 값 순으로
+     */
+    public List<BadgeType> findReached(BadgeMetric metric, int from, int to) {
+        Thresholds thresholds = thresholdsByMetric.get(metric);
+        if (thresholds == null || to <= from) {
+            return List.of();
+        }
+        return thresholds.between(from, to);
+    }
+
+    private static BadgeType[] concat(BadgeType[]... families) {
+        return Arrays.stream(families)
+                .flatMap(Arrays::stream)
+                .toArray(BadgeType[]::new);
+    }
+
+    private static final class Thresholds {
+        private final int[] numbers;
+        private final BadgeType[] types;
+
+        private Thresholds(BadgeMetric metric, List<BadgeType> badgeTypes) {
+            BadgeType[] sorted = badgeTypes.toArray(new BadgeType[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(BadgeType::getNumber));
+            numbers = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                numbers[i] = sorted[i].getNumber();
+                if (i > 0 && numbers[i] == numbers[i - 1]) {
+                    throw new IllegalStateException("같은 기준 값의 뱃지가 두 개입니다: " + metric + " " + numbers[i]);
+                }
+            }
+            types = sorted;
+        }
+
+        private List<BadgeType> between(int from, int to) {
+            int start = firstGreaterThan(from);
+            int end = firstGreaterThan(to);
+            return start == end ? List.of() : List.of(Arrays.copyOfRange(types, start, end));
+        }
+
+        private int firstGreaterThan(int value) {
+            int index = Arrays.binarySearch(numbers, value);
+            return index >= 0 ? index + 1 : -(index + 1);
+        }
+    }
+}
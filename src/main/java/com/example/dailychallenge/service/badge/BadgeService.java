@@ -2,16 +2,26 @@ package com.example.dailychallenge.service.badge;
 
 import com.example.dailychallenge.dto.BadgeDto;
 import com.example.dailychallenge.entity.badge.Badge;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
+import com.example.dailychallenge.exception.badge.BadgeNotFound;
 import com.example.dailychallenge.repository.badge.BadgeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+/**
+ * 뱃지 목록은 서버가 뜰 때 한 번 등록하고 메모리 스냅샷({@link BadgeCatalog})으로만 읽는다.
+ * 등록은 뱃지 이름 유니크 제약에 맡기므로 여러 서버가 동시에 떠도 같은 뱃지가 두 번 들어가지 않는다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadgeService {
@@ -21,32 +31,63 @@ public class BadgeService {
     private String badgeImgFileExtension;
 
     private final BadgeRepository badgeRepository;
+    private final BadgeRuleRegistry badgeRuleRegistry;
+    private final ObjectMapper objectMapper;
 
-    public List<Badge> createBadges(List<BadgeDto> badgeDtos) {
-        List<Badge> badges = badgeDtos.stream()
-                .map(badgeDto -> Badge.builder()
+    private volatile BadgeCatalog catalog;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Set<String> names = new HashSet<>();
+        for (Badge badge : badgeRepository.findAll()) {
+            names.add(badge.getName());
+        }
+
+        int created = 0;
+        for (BadgeDto badgeDto : badgeRuleRegistry.getBadgeDtos()) {
+            if (names.contains(badgeDto.getBadgeName())) {
+                continue;
+            }
+            try {
+                badgeRepository.save(Badge.builder()
                         .name(badgeDto.getBadgeName())
                         .imgUrl(badgeImgLocation + badgeDto.getBadgeImgFileName() + badgeImgFileExtension)
-                        .build())
-                .collect(Collectors.toUnmodifiableList());
+                        .build());
+                created++;
+            } catch (DataIntegrityViolationException e) {
+                log.info("다른 서버가 먼저 등록한 뱃지: {}", badgeDto.getBadgeName());
+            }
+        }
+        reload();
+        log.info("뱃지 목록 등록: {}건 추가, 전체 {}건", created, catalog.getBadges().size());
+    }
 
-        return badgeRepository.saveAll(badges);
+    public void reload() {
+        catalog = BadgeCatalog.of(badgeRepository.findAll(Sort.by("id")), objectMapper);
     }
 
-    public List<Badge> findAll() {
-        return badgeRepository.findAll();
+    public BadgeCatalog getCatalog() {
+        BadgeCatalog current = catalog;
+        if (current == null) { // 등록 전에 들어온 요청
+            synchronized (this) {
+                if (catalog == null) {
+                    reload();
+                }
+                current = catalog;
+            }
+        }
+        return current;
     }
 
     public List<Badge> getAll() {
-        List<Badge> badges = badgeRepository.findAll();
-        if (badges.isEmpty()) {
-            List<BadgeDto> achievementBadgeDtos = AchievementBadgeType.getBadgeDtos();
-            List<BadgeDto> commentWriteBadgeDtos = CommentWriteBadgeType.getBadgeDtos();
-            List<BadgeDto> challengeCreateBadgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
-            badges.addAll(createBadges(achievementBadgeDtos));
-            badges.addAll(createBadges(commentWriteBadgeDtos));
-            badges.addAll(createBadges(challengeCreateBadgeDtos));
-        }
-        return badges;
+        return getCatalog().getBadges();
+    }
+
+    public Badge findById(Long badgeId) {
+        return getCatalog().findById(badgeId).orElseThrow(BadgeNotFound::new);
+    }
+
+    public Badge findByName(String name) {
+        return getCatalog().findByName(name).orElseThrow(BadgeNotFound::new);
     }
 }
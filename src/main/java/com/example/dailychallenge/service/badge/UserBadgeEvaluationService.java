@@ -1,23 +1,29 @@
 package com.example.dailychallenge.service.badge;
 
 import com.example.dailychallenge.entity.badge.Badge;
-import com.example.dailychallenge.entity.badge.UserBadge;
 import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.badge.type.BadgeType;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 평가 카운터는 DB 에서 원자적으로 올리고, 올리기 전과 후의 값 사이에 있는 기준 값의 뱃지를 얻는다.
+ * 뱃지 평가 엔티티를 읽지 않으며 기준에 닿을 때만 얻은 뱃지를 UserBadge 로 저장한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserBadgeEvaluationService {
     private final UserBadgeEvaluationRepository userBadgeEvaluationRepository;
     private final UserBadgeService userBadgeService;
+    private final BadgeRuleRegistry badgeRuleRegistry;
 
     @Transactional
     public UserBadgeEvaluation createUserBadgeEvaluation(User user) {
@@ -27,59 +33,31 @@ public class UserBadgeEvaluationService {
     }
 
     @Transactional
-    public Optional<Badge> createAchievementBadgeIfFollowStandard(User user) {
-        UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
-
-        userBadgeEvaluation.addNumberOfAchievement();
-        Integer numberOfAchievement = userBadgeEvaluation.getNumberOfAchievement();
-        Optional<AchievementBadgeType> optionalAchievementBadgeType = AchievementBadgeType
-                .findByNumber(numberOfAchievement);
-        if (optionalAchievementBadgeType.isPresent()) {
-            Long userId = user.getId();
-            String badgeName = optionalAchievementBadgeType.get().getName();
-            UserBadge userBadge = userBadgeService.findByUsersIdAndBadgeName(userId, badgeName);
-            userBadge.setStatusToTrue();
-            Badge badge = userBadge.getBadge();
-            return Optional.of(badge);
-        }
-        return Optional.empty();
-    }
-
-    @Transactional
-    public Optional<Badge> createChallengeCreateBadgeIfFollowStandard(User user) {
-        UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
-
-        userBadgeEvaluation.addNumberOfChallengeCreate();
-        Integer numberOfChallengeCreate = userBadgeEvaluation.getNumberOfChallengeCreate();
-        Optional<ChallengeCreateBadgeType> optionalChallengeCreateBadgeType = ChallengeCreateBadgeType
-                .findByNumber(numberOfChallengeCreate);
-        if (optionalChallengeCreateBadgeType.isPresent()) {
-            Long userId = user.getId();
-            String badgeName = optionalChallengeCreateBadgeType.get().getName();
-            UserBadge userBadge = userBadgeService.findByUsersIdAndBadgeName(userId, badgeName);
-            userBadge.setStatusToTrue();
-            Badge badge = userBadge.getBadge();
-            return Optional.of(badge);
-        }
-        return Optional.empty();
+    public List<Badge> evaluate(Long userId, BadgeMetric metric) {
+        return evaluate(userId, Map.of(metric, 1));
     }
 
+    /**
+     * 여러 지표의 증가분을 한 트랜잭션에서 반영하고 새로 얻은 뱃지들을 반환한다
+     */
     @Transactional
-    public Optional<Badge> createCommentWriteBadgeIfFollowStandard(User user) {
-        UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
-
-        userBadgeEvaluation.addNumberOfCommentWrite();
-        Integer numberOfCommentWrite = userBadgeEvaluation.getNumberOfCommentWrite();
-        Optional<CommentWriteBadgeType> optionalCommentWriteBadgeType = CommentWriteBadgeType
-                .findByNumber(numberOfCommentWrite);
-        if (optionalCommentWriteBadgeType.isPresent()) {
-            Long userId = user.getId();
-            String badgeName = optionalCommentWriteBadgeType.get().getName();
-            UserBadge userBadge = userBadgeService.findByUsersIdAndBadgeName(userId, badgeName);
-            userBadge.setStatusToTrue();
-            Badge badge = userBadge.getBadge();
-            return Optional.of(badge);
+    public List<Badge> evaluate(Long userId, Map<BadgeMetric, Integer> deltas) {
+        List<Badge> earned = new ArrayList<>();
+        for (Map.Entry<BadgeMetric, Integer> delta : deltas.entrySet()) {
+            int increase = delta.getValue();
+            if (increase <= 0) {
+                continue;
+            }
+            Optional<Integer> optionalTo = userBadgeEvaluationRepository.increase(userId, delta.getKey(), increase);
+            if (optionalTo.isEmpty()) { // 뱃지 평가가 없는 유저
+                return List.of();
+            }
+            int to = optionalTo.get();
+            for (BadgeType badgeType : badgeRuleRegistry.findReached(delta.getKey(), to - increase, to)) {
+                userBadgeService.earnBadge(userId, badgeType.getName())
+                        .ifPresent(userBadge -> earned.add(userBadge.getBadge()));
+            }
         }
-        return Optional.empty();
+        return earned;
     }
 }
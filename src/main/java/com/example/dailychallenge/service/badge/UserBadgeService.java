@@ -1,68 +1,78 @@
 package com.example.dailychallenge.service.badge;
 
-import com.example.dailychallenge.dto.BadgeDto;
 import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.badge.UserBadge;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
 import com.example.dailychallenge.entity.users.User;
-import com.example.dailychallenge.exception.badge.UserBadgeNotFound;
+import com.example.dailychallenge.repository.UserRepository;
 import com.example.dailychallenge.repository.badge.UserBadgeRepository;
+import com.example.dailychallenge.vo.badge.ResponseUserBadge;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 유저 뱃지는 얻은 뱃지만 저장한다. 얻지 못한 뱃지는 뱃지 목록과 얻은 뱃지를 합쳐서 만든다.
+ * 뱃지를 얻을 때마다 유저의 뱃지 버전을 올리므로, 뱃지 목록과 뱃지 버전이 같으면 유저 뱃지 응답도 같다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserBadgeService {
     private final UserBadgeRepository userBadgeRepository;
+    private final UserRepository userRepository;
     private final BadgeService badgeService;
 
-    public void saveUserBadges(User savedUser) {
-        List<Badge> badges = badgeService.findAll();
-        if (badges.isEmpty()) {
-            saveBadges(savedUser);
-            return;
+    /**
+     * 아직 얻지 않은 뱃지만 저장하고 뱃지 버전을 올린다. 이미 얻었으면 empty
+     * <p>
+     * 평가는 평가 카운터 UPDATE 가 잡은 행 잠금 아래에서 호출되므로 같은 유저의 확인과 저장이 겹치지 않는다.
+     */
+    public Optional<UserBadge> earnBadge(Long userId, String badgeName) {
+        Badge badge = badgeService.findByName(badgeName);
+        if (userBadgeRepository.existsByUsersIdAndBadgeId(userId, badge.getId())) {
+            return Optional.empty();
         }
-        createUserBadges(savedUser, badges);
+        UserBadge userBadge = userBadgeRepository.save(UserBadge.builder()
+                .status(true)
+                .users(userRepository.getReferenceById(userId))
+                .badge(badge)
+                .build());
+        userRepository.increaseBadgeVersion(userId);
+        return Optional.of(userBadge);
     }
 
-    public void saveBadges(User savedUser) {
-        List<BadgeDto> achievementBadgeDtos = AchievementBadgeType.getBadgeDtos();
-        List<BadgeDto> commentWriteBadgeDtos = CommentWriteBadgeType.getBadgeDtos();
-        List<BadgeDto> challengeCreateBadgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
-        List<Badge> achievementBadges = badgeService.createBadges(achievementBadgeDtos);
-        List<Badge> commentWriteBadges = badgeService.createBadges(commentWriteBadgeDtos);
-        List<Badge> challengeCreateBadges = badgeService.createBadges(challengeCreateBadgeDtos);
-        createUserBadges(savedUser, achievementBadges);
-        createUserBadges(savedUser, commentWriteBadges);
-        createUserBadges(savedUser, challengeCreateBadges);
+    /**
+     * 뱃지 목록 순서(달성, 후기, 생성)로 얻은 뱃지는 true, 나머지는 false
+     */
+    @Transactional(readOnly = true)
+    public List<ResponseUserBadge> getUserBadges(Long userId) {
+        return ResponseUserBadge.create(badgeService.getAll(),
+                new HashSet<>(userBadgeRepository.searchEarnedBadgeIds(userId)));
     }
 
-
-    public List<UserBadge> createUserBadges(User user, List<Badge> badges) {
-        List<UserBadge> userBadges = badges.stream()
-                .map(badge -> UserBadge.builder()
-                        .status(false)
-                        .users(user)
-                        .badge(badge)
-                        .build()
-                )
-                .collect(Collectors.toUnmodifiableList());
-
-        return userBadgeRepository.saveAll(userBadges);
+    /**
+     * 얻은 뱃지를 조회하지 않고 뱃지 목록의 ETag 와 유저의 뱃지 버전으로 만든다
+     */
+    public String getUserBadgesETag(User user) {
+        String catalogVersion = badgeService.getCatalog().getETag().replace("\"", "");
+        return "\"" + user.getId() + "-" + user.getBadgeVersion() + "-" + catalogVersion + "\"";
     }
 
-    public List<UserBadge> findAllByUserId(Long userId) {
-        return userBadgeRepository.findAllByUsersId(userId);
+    /**
+     * 아직 확인하지 않은 새로 얻은 뱃지들을 id 순으로 돌려준다. 확인 표시는 acknowledgeNewBadges 로 따로 한다
+     */
+    @Transactional(readOnly = true)
+    public List<UserBadge> findNewBadges(Long userId) {
+        return userBadgeRepository.findAllByUsersIdAndStatusTrueAndNotifiedFalseOrderByIdAsc(userId);
     }
 
-    public UserBadge findByUsersIdAndBadgeName(Long userId, String badgeName) {
-        return userBadgeRepository.findByUsersIdAndBadgeName(userId, badgeName)
-                .orElseThrow(UserBadgeNotFound::new);
+    /**
+     * 클라이언트가 마지막으로 받은 유저 뱃지 id 까지 확인한 것으로 표시한다
+     */
+    public long acknowledgeNewBadges(Long userId, Long lastUserBadgeId) {
+        return userBadgeRepository.markNotifiedUpTo(userId, lastUserBadgeId);
     }
 }
@@ -0,0 +1,88 @@
+package com.example.dailychallenge.service.batch;
+
+import com.example.dailychallenge.entity.batch.BatchJobProgress;
+import com.example.dailychallenge.repository.batch.BatchJobProgressRepository;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PK 구간 단위 일괄 UPDATE 실행기.
+ * 구간마다 짧은 트랜잭션 하나에서 UPDATE 와 진행 위치 기록을 함께 커밋하므로, 중간에 멈추면 같은 회차(runKey)로 다시 실행할 때
+ * 마지막으로 커밋된 구간 다음부터 이어서 처리한다. 이미 완료된 회차는 다시 실행하지 않는다.
+ * <p>
+ * 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private final BatchJobProgressRepository batchJobProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @FunctionalInterface
+    public interface RangeUpdate {
+        long update(Long fromIdExclusive, Long toIdInclusive);
+    }
+
+    /**
+     * @return 이번 실행에서 갱신한 행 수
+     */
+    public long run(String jobName, String runKey, Supplier<Long> maxIdSupplier, RangeUpdate rangeUpdate) {
+        long startedAt = System.currentTimeMillis();
+        BatchJobProgress progress = transactionTemplate.execute(status -> begin(jobName, runKey));
+        if (progress.isCompleted()) {
+            log.info("{} [{}] 이미 완료된 회차", jobName, runKey);
+            return 0;
+        }
+
+        Long maxId = transactionTemplate.execute(status -> maxIdSupplier.get());
+        long resumedFrom = progress.getLastProcessedId();
+        long lastId = resumedFrom;
+        long rows = 0;
+        int chunks = 0;
+        while (maxId != null && lastId < maxId) {
+            Long fromId = lastId;
+            Long toId = Math.min(lastId + CHUNK_SIZE, maxId);
+            rows += transactionTemplate.execute(status -> {
+                long updated = rangeUpdate.update(fromId, toId);
+                batchJobProgressRepository.findById(jobName).orElseThrow().advance(toId, updated);
+                return updated;
+            });
+            lastId = toId;
+            chunks++;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                batchJobProgressRepository.findById(jobName).orElseThrow().complete());
+        log.info("{} [{}] 완료: {}건, {}개 구간, {}ms (id {} 부터 재개)", jobName, runKey, rows, chunks,
+                System.currentTimeMillis() - startedAt, resumedFrom);
+        return rows;
+    }
+
+    /**
+     * 같은 회차가 완료되지 않은 채 남아 있으면 true
+     */
+    public boolean isInterrupted(String jobName, String runKey) {
+        return batchJobProgressRepository.findById(jobName)
+                .map(progress -> progress.isRunOf(runKey) && !progress.isCompleted())
+                .orElse(false);
+    }
+
+    private BatchJobProgress begin(String jobName, String runKey) {
+        BatchJobProgress progress = batchJobProgressRepository.findById(jobName)
+                .orElseGet(() -> batchJobProgressRepository.save(BatchJobProgress.builder()
+                        .jobName(jobName)
+                        .runKey(runKey)
+                        .build()));
+        if (!progress.isRunOf(runKey)) {
+            progress.restart(runKey);
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.dto.CheckInTarget;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.event.ChallengeSucceededEvent;
+import com.example.dailychallenge.event.UserChallengeStatusChangedEvent;
+import com.example.dailychallenge.exception.userChallenge.ChallengePauseDuplicate;
+import com.example.dailychallenge.exception.userChallenge.ChallengeSuccessDuplicate;
+import com.example.dailychallenge.exception.userChallenge.UserChallengeNotFound;
+import com.example.dailychallenge.exception.users.UserNotFound;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 챌린지 달성, 중지 요청 처리.
+ * 유저 챌린지 행을 먼저 잠근 뒤 유저, 유저 챌린지, 올해 달성 기록을 조회 한 번으로 읽는다.
+ * 같은 유저 챌린지의 요청은 커밋될 때까지 기다렸다가 앞선 결과를 읽으므로 중복 달성 이벤트가 나가지 않는다.
+ * 상태와 주간 비트, 달성 기록 변경은 커밋 시점의 flush 한 번에 모아서(jdbc batch) 반영한다.
+ * 달성 뱃지 평가는 커밋 이후 비동기로 처리된다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ChallengeCheckInService {
+
+    private final UserChallengeRepository userChallengeRepository;
+    private final UserRepository userRepository;
+    private final UserChallengeHistoryService userChallengeHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void succeed(String email, Long challengeId) {
+        LocalDate today = LocalDate.now();
+        CheckInTarget target = findTarget(email, challengeId, today);
+        UserChallenge userChallenge = target.getUserChallenge();
+        if (userChallenge.isChallengeSuccess()) {
+            throw new ChallengeSuccessDuplicate();
+        }
+        userChallenge.succeedOn(today);
+        userChallengeHistoryService.achieve(userChallenge, target.getHistory(), today);
+        publishStatusChanged(userChallenge);
+        eventPublisher.publishEvent(new ChallengeSucceededEvent(userChallenge.getUsers().getId(), challengeId));
+    }
+
+    public void pause(String email, Long challengeId) {
+        LocalDate today = LocalDate.now();
+        CheckInTarget target = findTarget(email, challengeId, today);
+        UserChallenge userChallenge = target.getUserChallenge();
+        if (userChallenge.isChallengePause()) {
+            throw new ChallengePauseDuplicate();
+        }
+        userChallenge.pauseOn(today);
+        userChallengeHistoryService.cancel(target.getHistory(), today);
+        publishStatusChanged(userChallenge);
+    }
+
+    /**
+     * 조회 결과가 없을 때만 유저가 있는지 확인해 유저가 없으면 UserNotFound 를 던진다.
+     */
+    private CheckInTarget findTarget(String email, Long challengeId, LocalDate today) {
+        return userChallengeRepository.findCheckInTarget(email, challengeId, today.getYear())
+                .orElseThrow(() -> userRepository.existsByEmail(email)
+                        ? new UserChallengeNotFound()
+                        : new UserNotFound());
+    }
+
+    private void publishStatusChanged(UserChallenge userChallenge) {
+        eventPublisher.publishEvent(new UserChallengeStatusChangedEvent(userChallenge.getUsers().getId(),
+                userChallenge.getChallenge().getId(), userChallenge.getChallengeStatus()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeParticipantChangedEvent;
+import com.example.dailychallenge.event.ChallengeUpdatedEvent;
+import com.example.dailychallenge.event.UserChallengeStatusChangedEvent;
+import com.example.dailychallenge.utils.CacheVersions;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeWithParticipatedUsersInfo;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 챌린지 상세 응답 LRU 캐시.
+ * <p>
+ * 무효화 중에 읽은 값은 챌린지 id 별 CacheVersions 로 걸러낸다.
+ * 이벤트로 잡히지 않는 변경(작성자 프로필 등)은 TTL 로 한계를 둔다.
+ */
+@Slf4j
+@Component
+public class ChallengeDetailCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+    private final CacheVersions cacheVersions = new CacheVersions();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ResponseChallengeWithParticipatedUsersInfo get(Long challengeId,
+                                                          Supplier<ResponseChallengeWithParticipatedUsersInfo> loader) {
+        long stamp = cacheVersions.stamp(challengeId);
+        synchronized (entries) {
+            Entry entry = entries.get(challengeId);
+            if (entry != null && entry.isValid(stamp)) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        ResponseChallengeWithParticipatedUsersInfo value = loader.get();
+        synchronized (entries) {
+            if (cacheVersions.isCurrent(challengeId, stamp)) {
+                entries.put(challengeId, new Entry(stamp, value));
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(Long challengeId) {
+        cacheVersions.invalidate(challengeId, () -> {
+            invalidations.increment();
+            synchronized (entries) {
+                entries.remove(challengeId);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        cacheVersions.invalidateAll(() -> {
+            invalidations.increment();
+            synchronized (entries) {
+                entries.clear();
+            }
+        });
+    }
+
+    @EventListener
+    public void onParticipantChanged(ChallengeParticipantChangedEvent event) {
+        invalidate(event.getChallengeId());
+    }
+
+    @EventListener
+    public void onStatusChanged(UserChallengeStatusChangedEvent event) {
+        invalidate(event.getChallengeId());
+    }
+
+    @EventListener
+    public void onUpdated(ChallengeUpdatedEvent event) {
+        invalidate(event.getChallenge().getId());
+    }
+
+    @EventListener
+    public void onDeleted(ChallengeDeletedEvent event) {
+        invalidate(event.getChallengeId());
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void logStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        if (total == 0) {
+            return;
+        }
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        log.info("챌린지 상세 캐시: hit {}, miss {}, hitRate {}%, eviction {}, invalidation {}, size {}",
+                hitCount, missCount, hitCount * 100 / total, evictions.sum(), invalidations.sum(), size);
+    }
+
+    private static final class Entry {
+        private final long stamp;
+        private final long expiresAt;
+        private final ResponseChallengeWithParticipatedUsersInfo value;
+
+        private Entry(long stamp, ResponseChallengeWithParticipatedUsersInfo value) {
+            this.stamp = stamp;
+            this.expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+            this.value = value;
+        }
+
+        private boolean isValid(long currentStamp) {
+            return stamp == currentStamp && System.currentTimeMillis() < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.event.ChallengeCreatedEvent;
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeParticipantChangedEvent;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ORDER BY rand() 대신 메모리의 챌린지 id 배열에서 랜덤으로 고른다.
+ * 생성 시 맨 뒤에 추가하고, 삭제 시 마지막 원소를 빈 자리로 옮겨 배열을 빈틈없이 유지하므로 균등 선택은 O(1) 이다.
+ * <p>
+ * 가중치 선택은 (participantCount + 1) 을 펜윅 트리에 담아 O(log n) 으로 고른다.
+ * 변경은 트랜잭션이 커밋된 뒤에만 반영하므로 가중치는 커밋된 participantCount + 1 을 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeRandomPicker {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ChallengeRepository challengeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Table table = new Table();
+    private volatile boolean ready;
+    private final Object rebuildMonitor = new Object();
+    // 재구성 중에만 존재하며 lock 으로 보호한다
+    private List<Consumer<Table>> pendingChanges;
+    private long scannedUpTo;
+
+    /**
+     * participantCount 보정 이후 가중치도 다시 맞춘다.
+     * <p>
+     * DB 를 읽는 동안에는 락 없이 새 테이블을 만들고, 그 사이 들어온 변경을 새 테이블에 다시 반영한 뒤 한 번에 바꾼다.
+     * 참여자 수 변경은 이미 읽은 청크의 챌린지에 온 것만 다시 반영한다. 아직 읽지 않은 챌린지는 커밋된 값을 읽게 되기 때문이다.
+     * 청크를 읽고 있는 도중에 커밋된 변경만 한 번 어긋날 수 있고, 다음 재구성에서 맞춰진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 40 4 * * *")
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            write(() -> {
+                pendingChanges = new ArrayList<>();
+                scannedUpTo = 0;
+            });
+
+            try {
+                Table rebuilt = new Table();
+                Long lastId = null;
+                Map<Long, Long> participantCounts;
+                do {
+                    participantCounts = challengeRepository.searchParticipantCountsAfter(lastId, REBUILD_CHUNK_SIZE);
+                    for (Map.Entry<Long, Long> entry : participantCounts.entrySet()) {
+                        rebuilt.append(entry.getKey(), weightOf(entry.getValue()));
+                        lastId = entry.getKey();
+                    }
+                    long scanned = participantCounts.size() == REBUILD_CHUNK_SIZE ? lastId : Long.MAX_VALUE;
+                    write(() -> scannedUpTo = scanned);
+                } while (participantCounts.size() == REBUILD_CHUNK_SIZE);
+
+                write(() -> {
+                    for (Consumer<Table> change : pendingChanges) {
+                        change.accept(rebuilt);
+                    }
+                    table = rebuilt;
+                    ready = true;
+                });
+                log.info("랜덤 챌린지 테이블 재구성: {}건", rebuilt.size);
+            } finally {
+                write(() -> pendingChanges = null);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 챌린지가 하나도 없으면 empty
+     */
+    public Optional<Long> pick(boolean weighted) {
+        lock.readLock().lock();
+        try {
+            return table.pick(weighted);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCreated(ChallengeCreatedEvent event) {
+        Long challengeId = event.getChallenge().getId();
+        long weight = weightOf(event.getChallenge().getParticipantCount());
+        apply(current -> current.append(challengeId, weight));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeleted(ChallengeDeletedEvent event) {
+        Long challengeId = event.getChallengeId();
+        apply(current -> current.remove(challengeId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipantChanged(ChallengeParticipantChangedEvent event) {
+        Long challengeId = event.getChallengeId();
+        int delta = event.getDelta();
+        write(() -> {
+            table.adjust(challengeId, delta);
+            if (pendingChanges != null && challengeId <= scannedUpTo) {
+                pendingChanges.add(rebuilt -> rebuilt.adjust(challengeId, delta));
+            }
+        });
+    }
+
+    /**
+     * 추가와 삭제는 여러 번 반영해도 결과가 같으므로 재구성 중이면 항상 다시 반영한다.
+     */
+    private void apply(Consumer<Table> change) {
+        write(() -> {
+            change.accept(table);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        });
+    }
+
+    private void write(Runnable runnable) {
+        lock.writeLock().lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long weightOf(Long participantCount) {
+        return (participantCount == null ? 0 : participantCount) + 1;
+    }
+
+    private static final class Table {
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] weights = new long[INITIAL_CAPACITY];
+        private long[] tree = new long[INITIAL_CAPACITY + 1];
+        private long totalWeight;
+        private int size;
+
+        private Optional<Long> pick(boolean weighted) {
+            if (size == 0) {
+                return Optional.empty();
+            }
+            if (!weighted) {
+                return Optional.of(ids[ThreadLocalRandom.current().nextInt(size)]);
+            }
+            return Optional.of(ids[findSlot(ThreadLocalRandom.current().nextLong(totalWeight))]);
+        }
+
+        private void append(Long challengeId, long weight) {
+            if (slots.containsKey(challengeId)) {
+                return;
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = challengeId;
+            weights[size] = weight;
+            addToTree(size, weight);
+            slots.put(challengeId, size);
+            size++;
+        }
+
+        /**
+         * 마지막 원소를 지워진 자리로 옮긴다.
+         */
+        private void remove(Long challengeId) {
+            Integer slot = slots.remove(challengeId);
+            if (slot == null) {
+                return;
+            }
+            long removedWeight = weights[slot];
+            int last = size - 1;
+            addToTree(slot, -removedWeight);
+            if (slot != last) {
+                long lastWeight = weights[last];
+                addToTree(last, -lastWeight);
+                ids[slot] = ids[last];
+                weights[slot] = lastWeight;
+                addToTree(slot, lastWeight);
+                slots.put(ids[slot], slot);
+            }
+            weights[last] = 0;
+            size--;
+        }
+
+        private void adjust(Long challengeId, int delta) {
+            Integer slot = slots.get(challengeId);
+            if (slot == null) {
+                return;
+            }
+            addToTree(slot, delta);
+            weights[slot] += delta;
+        }
+
+        private void addToTree(int slot, long delta) {
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+            totalWeight += delta;
+        }
+
+        /**
+         * 누적 가중치가 target 을 처음 넘는 칸
+         */
+        private int findSlot(long target) {
+            int position = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                int next = position + step;
+                if (next < tree.length && tree[next] <= target) {
+                    position = next;
+                    target -= tree[next];
+                }
+            }
+            return position;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            tree = new long[capacity + 1];
+            for (int i = 1; i <= capacity; i++) {
+                tree[i] += weights[i - 1];
+                int parent = i + (i & -i);
+                if (parent <= capacity) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+    }
+}
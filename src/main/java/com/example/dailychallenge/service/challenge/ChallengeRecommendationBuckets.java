@@ -0,0 +1,221 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.dto.ChallengeRecommendationDocument;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.challenge.ChallengeDuration;
+import com.example.dailychallenge.entity.challenge.ChallengeLocation;
+import com.example.dailychallenge.event.ChallengeCreatedEvent;
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeUpdatedEvent;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질문(카테고리 x 기간 x 장소) 별 추천 챌린지 테이블.
+ * 조합 수가 작아 enum ordinal 로 만든 배열 인덱스로 바로 찾고, 각 칸에는 id 순으로 정렬된 id 배열과 미리 만든 응답을 둔다.
+ * <p>
+ * 챌린지 생성/수정/삭제 이벤트는 트랜잭션이 커밋된 뒤에만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeRecommendationBuckets {
+
+    public static final int RECOMMEND_SIZE = 4;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int DURATION_COUNT = ChallengeDuration.values().length;
+    private static final int LOCATION_COUNT = ChallengeLocation.values().length;
+
+    private final ChallengeRepository challengeRepository;
+
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(
+            ChallengeCategory.values().length * DURATION_COUNT * LOCATION_COUNT);
+    private final Map<Long, Integer> bucketIndexes = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, null);
+        }
+        bucketIndexes.clear();
+
+        Long lastId = null;
+        List<ChallengeRecommendationDocument> documents;
+        do {
+            documents = challengeRepository.searchRecommendationDocumentsAfter(lastId, REBUILD_CHUNK_SIZE);
+            for (ChallengeRecommendationDocument document : documents) {
+                put(document.getId(), bucketIndex(document.getChallengeCategory(),
+                                document.getChallengeDuration(), document.getChallengeLocation()),
+                        ResponseRecommendedChallenge.builder()
+                                .id(document.getId())
+                                .title(document.getTitle())
+                                .content(document.getContent())
+                                .challengeImgUrls(document.getChallengeImgUrls())
+                                .build());
+                lastId = document.getId();
+            }
+        } while (documents.size() == REBUILD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("추천 챌린지 테이블 재구성: {}건", bucketIndexes.size());
+    }
+
+    /**
+     * 테이블이 준비되기 전에만 empty 를 반환하고, 호출하는 쪽은 DB 에서 조회한다.
+     * 준비된 뒤에는 테이블이 기준이므로 빈 칸은 DB 에 다시 묻지 않고 빈 목록을 돌려준다.
+     * 한 칸에 RECOMMEND_SIZE 개보다 많으면 호출할 때마다 시작 위치를 옮겨 가며 돌려준다.
+     */
+    public Optional<List<ResponseRecommendedChallenge>> recommend(ChallengeCategory challengeCategory,
+                                                                  ChallengeDuration challengeDuration,
+                                                                  ChallengeLocation challengeLocation) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Bucket bucket = buckets.get(bucketIndex(challengeCategory, challengeDuration, challengeLocation));
+        if (bucket == null) {
+            return Optional.of(new ArrayList<>());
+        }
+        return Optional.of(bucket.sample(RECOMMEND_SIZE));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCreated(ChallengeCreatedEvent event) {
+        Challenge challenge = event.getChallenge();
+        put(challenge.getId(), bucketIndex(challenge), toRecommended(challenge));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onUpdated(ChallengeUpdatedEvent event) {
+        Challenge challenge = event.getChallenge();
+        remove(challenge.getId());
+        put(challenge.getId(), bucketIndex(challenge), toRecommended(challenge));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onDeleted(ChallengeDeletedEvent event) {
+        remove(event.getChallengeId());
+    }
+
+    private synchronized void put(Long challengeId, int bucketIndex, ResponseRecommendedChallenge recommended) {
+        Bucket bucket = buckets.get(bucketIndex);
+        buckets.set(bucketIndex,
+                bucket == null ? Bucket.of(challengeId, recommended) : bucket.with(challengeId, recommended));
+        bucketIndexes.put(challengeId, bucketIndex);
+    }
+
+    private synchronized void remove(Long challengeId) {
+        Integer bucketIndex = bucketIndexes.remove(challengeId);
+        if (bucketIndex == null) {
+            return;
+        }
+        buckets.set(bucketIndex, buckets.get(bucketIndex).without(challengeId));
+    }
+
+    private static ResponseRecommendedChallenge toRecommended(Challenge challenge) {
+        return ResponseRecommendedChallenge.builder()
+                .id(challenge.getId())
+                .title(challenge.getTitle())
+                .content(challenge.getContent())
+                .challengeImgUrls(List.copyOf(challenge.getImgUrls()))
+                .build();
+    }
+
+    private static int bucketIndex(Challenge challenge) {
+        return bucketIndex(challenge.getChallengeCategory(), challenge.getChallengeDuration(),
+                challenge.getChallengeLocation());
+    }
+
+    private static int bucketIndex(ChallengeCategory challengeCategory, ChallengeDuration challengeDuration,
+                                   ChallengeLocation challengeLocation) {
+        return (challengeCategory.ordinal() * DURATION_COUNT + challengeDuration.ordinal()) * LOCATION_COUNT
+                + challengeLocation.ordinal();
+    }
+
+    /**
+     * 불변 스냅샷. 변경 시 새 배열로 교체하고, 순환 위치만 이전 칸에서 이어받는다.
+     */
+    static final class Bucket {
+        private final long[] ids;
+        private final ResponseRecommendedChallenge[] challenges;
+        private final AtomicInteger rotation;
+
+        private Bucket(long[] ids, ResponseRecommendedChallenge[] challenges, AtomicInteger rotation) {
+            this.ids = ids;
+            this.challenges = challenges;
+            this.rotation = rotation;
+        }
+
+        static Bucket of(long id, ResponseRecommendedChallenge challenge) {
+            return new Bucket(new long[]{id}, new ResponseRecommendedChallenge[]{challenge}, new AtomicInteger());
+        }
+
+        List<ResponseRecommendedChallenge> sample(int size) {
+            int length = ids.length;
+            if (length <= size) {
+                return new ArrayList<>(Arrays.asList(challenges));
+            }
+            int start = Math.floorMod(rotation.getAndAdd(size), length);
+            List<ResponseRecommendedChallenge> sampled = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sampled.add(challenges[(start + i) % length]);
+            }
+            return sampled;
+        }
+
+        Bucket with(long id, ResponseRecommendedChallenge challenge) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                ResponseRecommendedChallenge[] replaced = challenges.clone();
+                replaced[index] = challenge;
+                return new Bucket(ids, replaced, rotation);
+            }
+            int insertAt = -index - 1;
+            long[] newIds = new long[ids.length + 1];
+            ResponseRecommendedChallenge[] newChallenges = new ResponseRecommendedChallenge[ids.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(challenges, 0, newChallenges, 0, insertAt);
+            newIds[insertAt] = id;
+            newChallenges[insertAt] = challenge;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(challenges, insertAt, newChallenges, insertAt + 1, ids.length - insertAt);
+            return new Bucket(newIds, newChallenges, rotation);
+        }
+
+        /**
+         * 마지막 하나가 빠지면 null 을 반환해 칸을 비운다.
+         */
+        Bucket without(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            long[] newIds = new long[ids.length - 1];
+            ResponseRecommendedChallenge[] newChallenges = new ResponseRecommendedChallenge[ids.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(challenges, 0, newChallenges, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+            System.arraycopy(challenges, index + 1, newChallenges, index, ids.length - index - 1);
+            return new Bucket(newIds, newChallenges, rotation);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.dto.ChallengeSearchDocument;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.utils.TransactionCallbacks;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 챌린지 제목/내용에 대한 2-gram, 3-gram 역색인.
+ * 형태소 분석 없이 음절 단위로 잘라 한글 부분 검색에도 쓸 수 있고, posting 은 정렬된 long[] 로 유지한다.
+ * <p>
+ * 추가는 즉시, 제거는 커밋 이후에 반영해 인덱스가 항상 실제 데이터의 상위 집합이 되도록 한다.
+ * 그래서 검색 결과는 후보 id 일 뿐이고 최종 일치 여부는 기존 LIKE 조건으로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeSearchIndex {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    /**
+     * 후보가 이보다 많으면 IN 절이 LIKE 보다 비싸지므로 인덱스를 쓰지 않는다.
+     */
+    @Value("${searchIndexMaxCandidates:1000}")
+    private int maxCandidates;
+
+    private final ChallengeRepository challengeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, PostingList> titlePostings = new HashMap<>();
+    private Map<Long, PostingList> contentPostings = new HashMap<>();
+    private volatile boolean ready;
+    private final Object rebuildMonitor = new Object();
+    // 재구성 중에만 존재하며 lock 으로 보호한다
+    private List<ChallengeSearchDocument> pendingAdds;
+
+    /**
+     * 기동 시, 그리고 롤백 등으로 남은 후보를 정리하기 위해 매일 한 번 전체를 다시 만든다.
+     * <p>
+     * DB 를 읽는 동안에는 락 없이 새 map 을 만들고, 그 사이 들어온 추가분을 새 map 에 다시 반영한 뒤 한 번에 바꾼다.
+     * 재구성 중의 제거는 새 map 에 남을 수 있지만 상위 집합이라는 조건은 깨지지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                pendingAdds = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                Map<Long, PostingList> titles = new HashMap<>();
+                Map<Long, PostingList> contents = new HashMap<>();
+                long count = 0;
+                Long lastId = null;
+                List<ChallengeSearchDocument> documents;
+                do {
+                    documents = challengeRepository.searchDocumentsAfter(lastId, REBUILD_CHUNK_SIZE);
+                    for (ChallengeSearchDocument document : documents) {
+                        addGrams(titles, document.getId(), document.getTitle());
+                        addGrams(contents, document.getId(), document.getContent());
+                        lastId = document.getId();
+                    }
+                    count += documents.size();
+                } while (documents.size() == REBUILD_CHUNK_SIZE);
+
+                lock.writeLock().lock();
+                try {
+                    for (ChallengeSearchDocument document : pendingAdds) {
+                        addGrams(titles, document.getId(), document.getTitle());
+                        addGrams(contents, document.getId(), document.getContent());
+                    }
+                    titlePostings = titles;
+                    contentPostings = contents;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("챌린지 검색 인덱스 재구성: {}건, gram {}개", count, titles.size() + contents.size());
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    pendingAdds = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    public void add(Long challengeId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            addGrams(titlePostings, challengeId, title);
+            addGrams(contentPostings, challengeId, content);
+            if (pendingAdds != null) {
+                pendingAdds.add(new ChallengeSearchDocument(challengeId, title, content));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 새 gram 은 바로 추가하고, 더 이상 쓰이지 않는 이전 gram 만 커밋 이후에 제거한다.
+     */
+    public void update(Long challengeId, String oldTitle, String oldContent, String newTitle, String newContent) {
+        add(challengeId, newTitle, newContent);
+
+        Set<Long> staleTitleGrams = grams(oldTitle);
+        staleTitleGrams.removeAll(grams(newTitle));
+        Set<Long> staleContentGrams = grams(oldContent);
+        staleContentGrams.removeAll(grams(newContent));
+        TransactionCallbacks.afterCommit(() -> removeGrams(challengeId, staleTitleGrams, staleContentGrams));
+    }
+
+    public void remove(Long challengeId, String title, String content) {
+        Set<Long> titleGrams = grams(title);
+        Set<Long> contentGrams = grams(content);
+        TransactionCallbacks.afterCommit(() -> removeGrams(challengeId, titleGrams, contentGrams));
+    }
+
+    /**
+     * 검색어가 gram 보다 짧거나, 인덱스가 아직 준비되지 않았거나, 후보가 너무 많으면 empty 를 반환하고,
+     * 호출하는 쪽은 LIKE 검색만 사용한다.
+     */
+    public Optional<Set<Long>> searchTitle(String keyword) {
+        return search(true, keyword);
+    }
+
+    public Optional<Set<Long>> searchContent(String keyword) {
+        return search(false, keyword);
+    }
+
+    private Optional<Set<Long>> search(boolean title, String keyword) {
+        if (!ready || keyword == null || keyword.length() < MIN_GRAM) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, PostingList> postings = title ? titlePostings : contentPostings;
+            List<PostingList> lists = new ArrayList<>();
+            for (long gram : queryGrams(keyword)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return Optional.of(Set.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            long[] candidates = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = lists.get(i).intersect(candidates);
+            }
+            if (candidates.length > maxCandidates) {
+                return Optional.empty();
+            }
+
+            Set<Long> result = new TreeSet<>();
+            for (long candidate : candidates) {
+                result.add(candidate);
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeGrams(Long challengeId, Set<Long> titleGrams, Set<Long> contentGrams) {
+        lock.writeLock().lock();
+        try {
+            removeGrams(titlePostings, challengeId, titleGrams);
+            removeGrams(contentPostings, challengeId, contentGrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addGrams(Map<Long, PostingList> postings, Long challengeId, String text) {
+        for (long gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(challengeId);
+        }
+    }
+
+    private static void removeGrams(Map<Long, PostingList> postings, Long challengeId, Set<Long> grams) {
+        for (long gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(challengeId) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 문서 쪽은 2-gram, 3-gram 을 모두 색인한다.
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new TreeSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = normalize(text);
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                grams.add(gramKey(normalized, i, n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 길이가 2 면 2-gram 하나, 3 이상이면 3-gram 들의 교집합을 사용한다.
+     */
+    private static long[] queryGrams(String keyword) {
+        String normalized = normalize(keyword);
+        int n = Math.min(normalized.length(), MAX_GRAM);
+        long[] grams = new long[normalized.length() - n + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gramKey(normalized, i, n);
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * char 하나가 16bit 이므로 3-gram 까지 하위 48bit 에 담고, 그 위에 gram 길이를 둔다.
+     */
+    private static long gramKey(String text, int from, int n) {
+        long key = n;
+        for (int i = from; i < from + n; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    /**
+     * 오름차순으로 정렬된 챌린지 id 목록
+     */
+    static final class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        long[] intersect(long[] sorted) {
+            long[] result = new long[Math.min(size, sorted.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < sorted.length) {
+                if (ids[i] < sorted[j]) {
+                    i++;
+                } else if (ids[i] > sorted[j]) {
+                    j++;
+                } else {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
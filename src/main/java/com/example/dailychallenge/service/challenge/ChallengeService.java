@@ -8,33 +8,57 @@ import com.example.dailychallenge.entity.challenge.ChallengeDuration;
 import com.example.dailychallenge.entity.challenge.ChallengeImg;
 import com.example.dailychallenge.entity.challenge.ChallengeLocation;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.event.ChallengeCreatedEvent;
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeUpdatedEvent;
 import com.example.dailychallenge.exception.AuthorizationException;
 import com.example.dailychallenge.exception.challenge.ChallengeNotFound;
 import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.support.TotalCountCache;
 import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeWithParticipatedUsersInfo;
 import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ChallengeService {
 
+    private static final int RANDOM_PICK_ATTEMPTS = 3;
+    private static final int PARTICIPANT_PREVIEW_SIZE = 10;
+
     private final ChallengeRepository challengeRepository;
+    private final UserChallengeRepository userChallengeRepository;
     private final ChallengeImgService challengeImgService;
+    private final TotalCountCache totalCountCache;
+    private final ChallengeSearchIndex challengeSearchIndex;
+    private final ChallengeRecommendationBuckets challengeRecommendationBuckets;
+    private final ChallengeRandomPicker challengeRandomPicker;
+    private final ChallengeDetailCache challengeDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Challenge saveChallenge(ChallengeDto challengeDto, List<MultipartFile> challengeImgFiles, User user) {
         Challenge challenge = challengeDto.toChallenge();
         challenge.setUser(user);
 
         challengeRepository.save(challenge);
+        challengeSearchIndex.add(challenge.getId(), challenge.getTitle(), challenge.getContent());
 
         if (challengeImgFiles != null) {
             for (MultipartFile challengeImgFile : challengeImgFiles) {
@@ -43,6 +67,7 @@ public class ChallengeService {
                 challengeImgService.saveChallengeImg(challengeImg, challengeImgFile);
             }
         }
+        eventPublisher.publishEvent(new ChallengeCreatedEvent(challenge));
 
         return challenge;
     }
@@ -55,12 +80,35 @@ public class ChallengeService {
         return challengeRepository.searchChallengeById(challengeId).orElseThrow(ChallengeNotFound::new);
     }
 
+    /**
+     * 참여자는 앞쪽 PARTICIPANT_PREVIEW_SIZE 명만 담고, 이어지는 목록은 nextParticipantCursor 로 조회한다.
+     */
+    public ResponseChallengeWithParticipatedUsersInfo searchDetailById(Long challengeId) {
+        return challengeDetailCache.get(challengeId, () -> {
+            ResponseChallenge responseChallenge = searchById(challengeId);
+            ResponseUserChallengeSlice participants = userChallengeRepository.searchParticipantsByCursor(
+                    challengeId, null, PARTICIPANT_PREVIEW_SIZE);
+
+            return ResponseChallengeWithParticipatedUsersInfo.builder()
+                    .responseChallenge(responseChallenge)
+                    .responseUserChallenges(participants.getContent())
+                    .participantCount(responseChallenge.getHowManyUsersAreInThisChallenge())
+                    .nextParticipantCursor(participants.getNextCursor())
+                    .build();
+        });
+    }
+
+    /**
+     * 추천 테이블이 준비되기 전에만 DB 에서 조회하고, 맞는 챌린지가 없으면 랜덤 챌린지 하나를 돌려준다.
+     */
     public List<ResponseRecommendedChallenge> searchByQuestion(ChallengeCategory challengeCategory,
                                                                ChallengeDuration challengeDuration,
                                                                ChallengeLocation challengeLocation) {
 
-        List<ResponseRecommendedChallenge> responseRecommendedChallenges = challengeRepository.searchChallengesByQuestion(
-                challengeCategory, challengeDuration, challengeLocation);
+        List<ResponseRecommendedChallenge> responseRecommendedChallenges = challengeRecommendationBuckets
+                .recommend(challengeCategory, challengeDuration, challengeLocation)
+                .orElseGet(() -> challengeRepository.searchChallengesByQuestion(
+                        challengeCategory, challengeDuration, challengeLocation));
 
         if (responseRecommendedChallenges.isEmpty()) {
             ResponseRecommendedChallenge byRandom = searchByRandom();
@@ -71,6 +119,27 @@ public class ChallengeService {
     }
 
     public ResponseRecommendedChallenge searchByRandom() {
+        return searchByRandom(false);
+    }
+
+    /**
+     * 메모리에서 id 만 고르고 해당 챌린지 하나만 조회한다.
+     * 삭제가 커밋된 직후 아직 반영되기 전인 챌린지가 뽑힐 수 있어 몇 번 다시 고르고, 그래도 없거나 비어 있으면 DB 에서 고른다.
+     */
+    public ResponseRecommendedChallenge searchByRandom(boolean weighted) {
+        if (!challengeRandomPicker.isReady()) {
+            return challengeRepository.searchChallengeByRandom();
+        }
+        for (int attempt = 0; attempt < RANDOM_PICK_ATTEMPTS; attempt++) {
+            Optional<Long> challengeId = challengeRandomPicker.pick(weighted);
+            if (challengeId.isEmpty()) {
+                break;
+            }
+            Optional<Challenge> challenge = challengeRepository.findById(challengeId.get());
+            if (challenge.isPresent()) {
+                return ResponseRecommendedChallenge.create(challenge.get());
+            }
+        }
         return challengeRepository.searchChallengeByRandom();
     }
 
@@ -81,6 +150,9 @@ public class ChallengeService {
                                      List<MultipartFile> updateChallengeImgFiles, User user) {
         Challenge findChallenge = challengeRepository.findById(challengeId).orElseThrow(ChallengeNotFound::new);
         validateOwner(user, findChallenge);
+        String oldTitle = findChallenge.getTitle();
+        String oldContent = findChallenge.getContent();
+        ChallengeCategory oldCategory = findChallenge.getChallengeCategory();
 
         ChallengeEditor.ChallengeEditorBuilder editorBuilder = findChallenge.toEditor();
         ChallengeEditor challengeEditor = editorBuilder
@@ -90,7 +162,13 @@ public class ChallengeService {
                 .build();
 
         findChallenge.update(challengeEditor);
+        challengeSearchIndex.update(challengeId, oldTitle, oldContent,
+                findChallenge.getTitle(), findChallenge.getContent());
+        if (oldCategory != findChallenge.getChallengeCategory()) {
+            totalCountCache.evictAll();
+        }
         challengeImgService.updateChallengeImgs(findChallenge, updateChallengeImgFiles);
+        eventPublisher.publishEvent(new ChallengeUpdatedEvent(findChallenge));
 
         return findChallenge;
     }
@@ -98,6 +176,9 @@ public class ChallengeService {
     public void deleteChallenge(Long challengeId, User user) {
         Challenge findChallenge = challengeRepository.findById(challengeId).orElseThrow(ChallengeNotFound::new);
         validateOwner(user, findChallenge);
+        List<Long> hashtagIds = findChallenge.getChallengeHashtags().stream()
+                .map(challengeHashtag -> challengeHashtag.getHashtag().getId())
+                .collect(Collectors.toList());
 
         findChallenge.getUserChallenges().clear();
         findChallenge.getChallengeHashtags().clear();
@@ -105,6 +186,20 @@ public class ChallengeService {
         findChallenge.getChallengeImgs().clear();
 
         challengeRepository.delete(findChallenge);
+        challengeSearchIndex.remove(challengeId, findChallenge.getTitle(), findChallenge.getContent());
+        totalCountCache.evictAll();
+        eventPublisher.publishEvent(new ChallengeDeletedEvent(challengeId, hashtagIds));
+    }
+
+    /**
+     * participantCount 가 실제 참여 수와 어긋난 경우를 주기적으로 보정
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileParticipantCounts() {
+        long reconciled = challengeRepository.reconcileParticipantCounts();
+        if (reconciled > 0) {
+            log.info("participantCount 보정: {}건", reconciled);
+        }
     }
 
     private void validateOwner(User user, Challenge challenge) {
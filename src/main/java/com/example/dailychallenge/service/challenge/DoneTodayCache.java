@@ -0,0 +1,87 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeParticipantChangedEvent;
+import com.example.dailychallenge.event.ChallengeUpdatedEvent;
+import com.example.dailychallenge.event.UserChallengeStatusChangedEvent;
+import com.example.dailychallenge.utils.CacheVersions;
+import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 오늘 수행(성공)한 챌린지 목록 캐시.
+ * <p>
+ * 항목은 조회한 날짜에만 유효하고, 무효화 중에 읽은 값은 유저 id 별 CacheVersions 로 걸러낸다.
+ * 챌린지 수정, 삭제와 자정 초기화는 어떤 유저의 목록에 들어 있는지 모르므로 전체를 비운다.
+ */
+@Component
+public class DoneTodayCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final CacheVersions cacheVersions = new CacheVersions();
+
+    public List<ResponseChallengeByUserChallenge> get(Long userId,
+                                                      Supplier<List<ResponseChallengeByUserChallenge>> loader) {
+        LocalDate today = LocalDate.now();
+        long stamp = cacheVersions.stamp(userId);
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.isValid(today, stamp)) {
+            return entry.value;
+        }
+
+        List<ResponseChallengeByUserChallenge> value = List.copyOf(loader.get());
+        entries.compute(userId, (id, old) ->
+                cacheVersions.isCurrent(userId, stamp) ? new Entry(today, stamp, value) : old);
+        return value;
+    }
+
+    public void invalidate(Long userId) {
+        cacheVersions.invalidate(userId, () -> entries.remove(userId));
+    }
+
+    public void invalidateAll() {
+        cacheVersions.invalidateAll(entries::clear);
+    }
+
+    @EventListener
+    public void onStatusChanged(UserChallengeStatusChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @EventListener
+    public void onParticipantChanged(ChallengeParticipantChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @EventListener
+    public void onUpdated(ChallengeUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void onDeleted(ChallengeDeletedEvent event) {
+        invalidateAll();
+    }
+
+    private static final class Entry {
+        private final LocalDate date;
+        private final long stamp;
+        private final List<ResponseChallengeByUserChallenge> value;
+
+        private Entry(LocalDate date, long stamp, List<ResponseChallengeByUserChallenge> value) {
+            this.date = date;
+            this.stamp = stamp;
+            this.value = value;
+        }
+
+        private boolean isValid(LocalDate today, long currentStamp) {
+            return date.equals(today) && stamp == currentStamp;
+        }
+    }
+}
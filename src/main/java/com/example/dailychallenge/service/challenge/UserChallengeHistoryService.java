@@ -0,0 +1,162 @@
+package com.example.dailychallenge.service.challenge;
+
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import com.example.dailychallenge.exception.userChallenge.UserChallengeNotFound;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.challenge.UserChallengeHistoryRepository;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementCalendar;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementStreak;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 유저 챌린지의 일별 달성 기록. 연속 달성 일수와 월별 달력은 연도별 비트셋의 비트 연산으로 계산한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserChallengeHistoryService {
+
+    private final UserChallengeRepository userChallengeRepository;
+    private final UserChallengeHistoryRepository userChallengeHistoryRepository;
+
+    public void achieve(UserChallenge userChallenge, LocalDate date) {
+        achieve(userChallenge, null, date);
+    }
+
+    /**
+     * @param history 이미 읽어 둔 해당 연도 기록, 없으면 null
+     */
+    public void achieve(UserChallenge userChallenge, UserChallengeHistory history, LocalDate date) {
+        findOrCreate(userChallenge, history, date.getYear()).achieve(date);
+    }
+
+    public void cancel(UserChallengeHistory history, LocalDate date) {
+        if (history != null) {
+            userChallengeHistoryRepository.refreshWithLock(history);
+            history.cancel(date);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseAchievementStreak getStreak(Long userId, Long challengeId, LocalDate today) {
+        UserChallenge userChallenge = findUserChallenge(userId, challengeId);
+        NavigableMap<Integer, BitSet> years = new TreeMap<>();
+        for (UserChallengeHistory history
+                : userChallengeHistoryRepository.findAllByUserChallengeIdOrderByYearAsc(userChallenge.getId())) {
+            years.put(history.getYear(), history.toBitSet());
+        }
+
+        return ResponseAchievementStreak.builder()
+                .challengeId(challengeId)
+                .currentStreak(currentStreak(years, today))
+                .longestStreak(longestStreak(years))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseAchievementCalendar getCalendar(Long userId, Long challengeId, YearMonth yearMonth) {
+        UserChallenge userChallenge = findUserChallenge(userId, challengeId);
+        BitSet bits = userChallengeHistoryRepository
+                .findByUserChallengeIdAndYear(userChallenge.getId(), yearMonth.getYear())
+                .map(UserChallengeHistory::toBitSet)
+                .orElseGet(BitSet::new);
+
+        int from = yearMonth.atDay(1).getDayOfYear() - 1;
+        BitSet month = bits.get(from, from + yearMonth.lengthOfMonth());
+        Boolean[] days = new Boolean[yearMonth.lengthOfMonth()];
+        for (int day = 0; day < days.length; day++) {
+            days[day] = month.get(day);
+        }
+
+        return ResponseAchievementCalendar.builder()
+                .challengeId(challengeId)
+                .year(yearMonth.getYear())
+                .month(yearMonth.getMonthValue())
+                .days(List.of(days))
+                .achievedCount(month.cardinality())
+                .build();
+    }
+
+    /**
+     * 오늘 아직 달성하지 않았다면 어제까지 이어진 연속 달성 일수
+     */
+    static int currentStreak(NavigableMap<Integer, BitSet> years, LocalDate today) {
+        BitSet thisYear = years.getOrDefault(today.getYear(), new BitSet());
+        LocalDate day = thisYear.get(today.getDayOfYear() - 1) ? today : today.minusDays(1);
+
+        int streak = 0;
+        while (years.containsKey(day.getYear())) {
+            BitSet bits = years.get(day.getYear());
+            int index = day.getDayOfYear() - 1;
+            int start = bits.previousClearBit(index);
+            streak += index - start;
+            if (start >= 0) {
+                break;
+            }
+            day = LocalDate.of(day.getYear() - 1, 12, 31); // 1월 1일까지 이어지면 전년도 말일부터 다시 센다
+        }
+        return streak;
+    }
+
+    static int longestStreak(NavigableMap<Integer, BitSet> years) {
+        int longest = 0;
+        int carry = 0; // 전년도 말일로 끝난 연속 달성 일수
+        Integer carryYear = null;
+        for (var entry : years.entrySet()) {
+            int year = entry.getKey();
+            BitSet bits = entry.getValue();
+            int length = Year.of(year).length();
+            int nextCarry = 0;
+
+            for (int from = bits.nextSetBit(0); from >= 0; from = bits.nextSetBit(from)) {
+                int to = bits.nextClearBit(from);
+                int streak = to - from;
+                if (from == 0 && carryYear != null && carryYear == year - 1) {
+                    streak += carry;
+                }
+                longest = Math.max(longest, streak);
+                if (to >= length) {
+                    nextCarry = streak;
+                }
+                from = to;
+            }
+            carry = nextCarry;
+            carryYear = year;
+        }
+        return longest;
+    }
+
+    /**
+     * 앞서 잠금 없이 읽은 기록은 잠그면서 다시 읽어, 그 사이 다른 트랜잭션이 남긴 비트를 덮어쓰지 않는다.
+     * 그 해 첫 달성이면 유저 챌린지 행을 잠가 같은 유저 챌린지의 첫 달성끼리 줄을 세우고,
+     * 앞서 읽은 뒤 다른 트랜잭션이 만든 기록이 있는지 잠금 읽기로 다시 확인해 없을 때만 만든다.
+     * 실패한 INSERT 는 트랜잭션을 롤백 전용으로 만들어 유니크 제약 위반을 잡고 이어갈 수 없으므로 INSERT 전에 막는다.
+     */
+    private UserChallengeHistory findOrCreate(UserChallenge userChallenge, UserChallengeHistory history, int year) {
+        if (history != null) {
+            userChallengeHistoryRepository.refreshWithLock(history);
+            return history;
+        }
+        userChallengeRepository.findWithLockById(userChallenge.getId());
+        return userChallengeHistoryRepository.findWithLockByUserChallengeIdAndYear(userChallenge.getId(), year)
+                .orElseGet(() -> userChallengeHistoryRepository.save(UserChallengeHistory.builder()
+                        .userChallenge(userChallenge)
+                        .year(year)
+                        .build()));
+    }
+
+    private UserChallenge findUserChallenge(Long userId, Long challengeId) {
+        return userChallengeRepository.findByChallengeIdAndUserId(challengeId, userId)
+                .orElseThrow(UserChallengeNotFound::new);
+    }
+}
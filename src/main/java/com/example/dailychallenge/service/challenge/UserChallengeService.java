@@ -1,26 +1,35 @@
 package com.example.dailychallenge.service.challenge;
 
+import com.example.dailychallenge.dto.ChallengeCursor;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
-import com.example.dailychallenge.exception.userChallenge.ChallengePauseDuplicate;
-import com.example.dailychallenge.exception.userChallenge.ChallengeSuccessDuplicate;
+import com.example.dailychallenge.event.ChallengeParticipantChangedEvent;
+import com.example.dailychallenge.exception.challenge.ChallengeNotFound;
 import com.example.dailychallenge.exception.userChallenge.UserChallengeDuplicate;
 import com.example.dailychallenge.exception.userChallenge.UserChallengeNotFound;
+import com.example.dailychallenge.repository.ChallengeRepository;
 import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.service.batch.BatchJobRunner;
 import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
-import com.example.dailychallenge.vo.challenge.ResponseUserChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,31 +37,45 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserChallengeService {
 
+    private static final String RESET_CHALLENGE_STATUS_JOB = "resetChallengeStatus";
+    private static final String RESET_WEEKLY_ACHIEVEMENT_JOB = "resetWeeklyAchievement";
+
     private final UserChallengeRepository userChallengeRepository;
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeSearchIndex challengeSearchIndex;
+    private final ChallengeDetailCache challengeDetailCache;
+    private final DoneTodayCache doneTodayCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchJobRunner batchJobRunner;
 
     public UserChallenge saveUserChallenge(Challenge challenge, User user) {
-        checkDuplicate(challenge, user);
-
         UserChallenge userChallenge = UserChallenge.builder()
                 .challengeStatus(ChallengeStatus.TRYING)
+                .users(user)
+                .challenge(challenge)
                 .build();
+        userChallenge.challengeParticipate();
+        if (!userChallengeRepository.insertIfAbsent(userChallenge)) {
+            throw new UserChallengeDuplicate();
+        }
         userChallenge.setUser(user);
         userChallenge.setChallenge(challenge);
-        userChallenge.challengeParticipate();
-        userChallengeRepository.save(userChallenge);
 
-        return userChallenge;
-    }
+        challengeRepository.increaseParticipantCount(challenge.getId());
+        challenge.increaseParticipantCount();
+        eventPublisher.publishEvent(new ChallengeParticipantChangedEvent(challenge.getId(), user.getId(), 1));
 
-    private void checkDuplicate(Challenge challenge, User user) {
-        userChallengeRepository.findByChallengeIdAndUserId(challenge.getId(), user.getId())
-                .ifPresent(userChallenge -> {
-                    throw new UserChallengeDuplicate();
-                });
+        return userChallenge;
     }
 
-    public List<ResponseUserChallenge> searchByChallengeId(Long challengeId) {
-        return userChallengeRepository.searchUserChallengeByChallengeId(challengeId);
+    @Transactional(readOnly = true)
+    public ResponseUserChallengeSlice searchParticipants(Long challengeId, Long cursor, int size) {
+        ResponseUserChallengeSlice participants = userChallengeRepository.searchParticipantsByCursor(
+                challengeId, cursor, size);
+        if (cursor == null && participants.getContent().isEmpty() && !challengeRepository.existsById(challengeId)) {
+            throw new ChallengeNotFound();
+        }
+        return participants;
     }
 
     public UserChallenge findByChallengeIdAndUserId(Long challengeId, Long userId){
@@ -67,9 +90,35 @@ public class UserChallengeService {
 
     public Page<ResponseChallenge> searchByCondition(ChallengeSearchCondition condition,
                                                      Pageable pageable) {
+        narrowBySearchIndex(condition);
 
         return userChallengeRepository.searchChallengesByCondition(condition, pageable);
     }
+
+    public Slice<ResponseChallenge> sliceAll(Pageable pageable) {
+
+        return userChallengeRepository.sliceAllChallenges(pageable);
+    }
+
+    public Slice<ResponseChallenge> sliceByCondition(ChallengeSearchCondition condition, Pageable pageable) {
+        narrowBySearchIndex(condition);
+
+        return userChallengeRepository.sliceChallengesByCondition(condition, pageable);
+    }
+
+    public ResponseChallengeSlice searchByCursor(ChallengeSearchCondition condition, String sort, String cursor,
+                                                 int size) {
+        ChallengeCursor challengeCursor = ChallengeCursor.decode(cursor, sort);
+        narrowBySearchIndex(condition);
+
+        return userChallengeRepository.searchChallengesByCursor(condition, sort, challengeCursor, size);
+    }
+
+    private void narrowBySearchIndex(ChallengeSearchCondition condition) {
+        challengeSearchIndex.searchTitle(condition.getTitle()).ifPresent(condition::narrowChallengeIds);
+        challengeSearchIndex.searchContent(condition.getContent()).ifPresent(condition::narrowChallengeIds);
+    }
+
     public void challengeParticipate(UserChallenge savedUserChallenge) {
         savedUserChallenge.challengeParticipate();
     }
@@ -79,64 +128,51 @@ public class UserChallengeService {
 
         findUserChallenge.challengeLeave();
 
+        challengeRepository.decreaseParticipantCount(challengeId);
+        findUserChallenge.getChallenge().decreaseParticipantCount();
+        eventPublisher.publishEvent(new ChallengeParticipantChangedEvent(challengeId, userId, -1));
+
         userChallengeRepository.delete(findUserChallenge);
     }
 
-    public UserChallenge succeedInChallenge(Long userId, Long challengeId) {
-        UserChallenge userChallenge = findByChallengeIdAndUserId(challengeId, userId);
-        if (userChallenge.isChallengeSuccess()) {
-            throw new ChallengeSuccessDuplicate();
-        }
-        userChallenge.challengeSuccess();
-        userChallenge.updateWeeklyAchievement(LocalDate.now());
-        return userChallenge;
+    @Transactional(readOnly = true)
+    public List<ResponseChallengeByUserChallenge> getTodayUserChallenge(Long userId) {
+        return doneTodayCache.get(userId, () -> userChallengeRepository.searchSucceededChallengesByUserId(userId));
     }
 
-    public UserChallenge pauseChallenge(Long userId, Long challengeId) {
-        UserChallenge userChallenge = findByChallengeIdAndUserId(challengeId, userId);
-        if (userChallenge.isChallengePause()) {
-            throw new ChallengePauseDuplicate();
+    /**
+     * 오늘 회차가 끝나지 않은 채 서버가 내려갔다면 이어서 처리한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void resumeInterruptedResets() {
+        LocalDate today = LocalDate.now();
+        if (batchJobRunner.isInterrupted(RESET_CHALLENGE_STATUS_JOB, today.toString())) {
+            resetChallengeStatus();
         }
-        userChallenge.challengePause();
-        userChallenge.updateWeeklyAchievementToFalse(LocalDate.now());
-        return userChallenge;
-    }
-
-    public List<ResponseChallengeByUserChallenge> getTodayUserChallenge(Long userId) {
-        List<UserChallenge> userChallenges = userChallengeRepository.searchUserChallengeByUserId(userId);
-        List<ResponseChallengeByUserChallenge> res = new ArrayList<>();
-
-        for (UserChallenge userChallenge : userChallenges) {
-            if (userChallenge.getChallengeStatus().equals(ChallengeStatus.SUCCESS)) {
-                res.add(
-                        ResponseChallengeByUserChallenge.builder()
-                                .userId(userId)
-                                .challengeId(userChallenge.getChallenge().getId())
-                                .challengeTitle(userChallenge.getChallenge().getTitle())
-                                .challengeContent(userChallenge.getChallenge().getContent())
-                                .challengeStatus(userChallenge.getChallengeStatus())
-                                .createdAt(userChallenge.getCreated_at())
-                                .build()
-                );
-            }
+        if (batchJobRunner.isInterrupted(RESET_WEEKLY_ACHIEVEMENT_JOB, weekOf(today))) {
+            resetWeeklyAchievement();
         }
-        return res;
     }
 
 //    @Scheduled(cron = "0 * * * * *")
     @Scheduled(cron = "0 0 0 * * *")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void resetChallengeStatus(){
-        List<UserChallenge> userChallenges = userChallengeRepository.findAll();
-        for (UserChallenge userChallenge : userChallenges) {
-            userChallenge.resetChallengeStatus();
-        }
+        batchJobRunner.run(RESET_CHALLENGE_STATUS_JOB, LocalDate.now().toString(),
+                userChallengeRepository::searchMaxId, userChallengeRepository::resetChallengeStatusBetween);
+        challengeDetailCache.invalidateAll();
+        doneTodayCache.invalidateAll();
     }
 
     @Scheduled(cron = "0 0 0 ? * MON")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void resetWeeklyAchievement(){
-        List<UserChallenge> userChallenges = userChallengeRepository.findAll();
-        for (UserChallenge userChallenge : userChallenges) {
-            userChallenge.resetWeeklyAchievement();
-        }
+        batchJobRunner.run(RESET_WEEKLY_ACHIEVEMENT_JOB, weekOf(LocalDate.now()),
+                userChallengeRepository::searchMaxId, userChallengeRepository::resetWeeklyAchievementBetween);
+    }
+
+    private static String weekOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY).toString();
     }
 }
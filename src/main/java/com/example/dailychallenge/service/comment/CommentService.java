@@ -6,6 +6,7 @@ import com.example.dailychallenge.entity.comment.Comment;
 import com.example.dailychallenge.entity.comment.Comment.CommentBuilder;
 import com.example.dailychallenge.entity.comment.CommentImg;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.event.CommentWrittenEvent;
 import com.example.dailychallenge.exception.AuthorizationException;
 import com.example.dailychallenge.exception.comment.CommentCreateNotValid;
 import com.example.dailychallenge.exception.comment.CommentDateDuplicateCheck;
@@ -18,8 +19,10 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,6 +33,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final CommentImgService commentImgService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Comment findById(Long id){
         return commentRepository.findById(id).orElseThrow(CommentNotFound::new);
@@ -60,6 +64,7 @@ public class CommentService {
                 commentImgService.saveCommentImg(commentImg, commentImgFile);
             }
         }
+        eventPublisher.publishEvent(new CommentWrittenEvent(user.getId(), comment.getId()));
         return comment;
     }
 
@@ -123,6 +128,12 @@ public class CommentService {
         return commentRepository.searchCommentsByChallengeId(challengeId, pageable);
     }
 
+    public Slice<ResponseChallengeComment> sliceCommentsByChallengeId(Challenge challenge, Pageable pageable) {
+
+        Long challengeId = challenge.getId();
+        return commentRepository.sliceCommentsByChallengeId(challengeId, pageable);
+    }
+
     public Page<ResponseUserComment> searchCommentsByUserId(Long userId, Pageable pageable) {
 
         return commentRepository.searchCommentsByUserId(userId, pageable);
@@ -5,6 +5,7 @@ import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
 import com.example.dailychallenge.entity.hashtag.Hashtag;
 import com.example.dailychallenge.repository.ChallengeHashtagRepository;
+import com.example.dailychallenge.service.challenge.ChallengeDetailCache;
 import com.example.dailychallenge.service.challenge.ChallengeService;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,6 +23,9 @@ public class ChallengeHashtagService {
     private final ChallengeHashtagRepository challengeHashtagRepository;
 
     private final ChallengeService challengeService;
+    private final ChallengeDetailCache challengeDetailCache;
+    private final HashtagLeaderboard hashtagLeaderboard;
+
     public List<ChallengeHashtag> saveChallengeHashtag(Challenge challenge, List<Hashtag> hashtags) {
 
         List<ChallengeHashtag> challengeHashtags = new ArrayList<>();
@@ -37,7 +41,9 @@ public class ChallengeHashtagService {
             challengeHashtags.add(challengeHashtag);
 
             challengeHashtagRepository.save(challengeHashtag);
+            hashtagLeaderboard.attach(hashtag, challenge);
         }
+        challengeDetailCache.invalidate(challenge.getId());
         return challengeHashtags;
     }
 
@@ -60,8 +66,10 @@ public class ChallengeHashtagService {
                 res.add(challengeHashtag);
 
                 challengeHashtagRepository.save(challengeHashtag);
+                hashtagLeaderboard.attach(hashtag, challenge);
             }
         }
+        challengeDetailCache.invalidate(challengeId);
         return res;
     }
 
@@ -72,6 +80,8 @@ public class ChallengeHashtagService {
 
             challengeHashtag.getChallenge().getChallengeHashtags().remove(challengeHashtag);
             challengeHashtagRepository.delete(challengeHashtag);
+            hashtagLeaderboard.detach(challengeHashtag.getHashtag(), challengeId);
+            challengeDetailCache.invalidate(challengeId);
         } catch (NullPointerException e){ }
     }
 
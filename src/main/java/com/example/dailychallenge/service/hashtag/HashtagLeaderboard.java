@@ -0,0 +1,390 @@
+package com.example.dailychallenge.service.hashtag;
+
+import com.example.dailychallenge.dto.ChallengeHashtagLink;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.hashtag.Hashtag;
+import com.example.dailychallenge.event.ChallengeDeletedEvent;
+import com.example.dailychallenge.event.ChallengeUpdatedEvent;
+import com.example.dailychallenge.repository.ChallengeHashtagRepository;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.HashtagRepository;
+import com.example.dailychallenge.utils.TransactionCallbacks;
+import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import com.example.dailychallenge.vo.hashtag.ResponseChallengeHashtag;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 많이 쓰인 해시태그 순위표.
+ * 해시태그마다 tagCount 와 달린 챌린지 id 정렬 배열을 두고, tagCount 내림차순(같으면 내용 오름차순)인 TreeSet 에서 상위 TOP_SIZE 개를 고른다.
+ * 해시태그별 추천 챌린지는 id 가 가장 작은 RECOMMEND_SIZE 개이며, 응답 목록은 변경할 때마다 미리 만들어 둔다.
+ * <p>
+ * 해시태그와 챌린지 연결, tagCount 변경, 챌린지 수정/삭제 이벤트는 모두 커밋된 뒤에만 반영하고,
+ * 삭제는 이벤트에 담긴 해시태그만 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagLeaderboard {
+
+    public static final int TOP_SIZE = 3;
+    public static final int RECOMMEND_SIZE = 3;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final Comparator<Tag> RANKING = Comparator.comparingInt((Tag tag) -> -tag.count)
+            .thenComparing(tag -> tag.content)
+            .thenComparingLong(tag -> tag.id);
+
+    private final HashtagRepository hashtagRepository;
+    private final ChallengeHashtagRepository challengeHashtagRepository;
+    private final ChallengeRepository challengeRepository;
+
+    // 아래 필드는 this 로 보호한다
+    private Map<Long, Tag> tags = new HashMap<>();
+    private TreeSet<Tag> ranking = new TreeSet<>(RANKING);
+    private Map<Long, ResponseRecommendedChallenge> cards = new HashMap<>();
+    // 재구성 중에만 존재한다
+    private List<Runnable> pendingChanges;
+    private boolean countsLoaded;
+    private volatile List<ResponseChallengeHashtag> leaders = List.of();
+    private volatile boolean ready;
+    private final Object rebuildMonitor = new Object();
+
+    /**
+     * DB 를 읽는 동안에는 락 없이 새 순위표를 만들고, 그 사이 들어온 변경을 새 순위표에 다시 반영한 뒤 한 번에 바꾼다.
+     * 연결 변경과 챌린지 이벤트는 여러 번 반영해도 결과가 같으므로 모두 다시 반영한다.
+     * tagCount 변경은 해시태그를 읽은 뒤에 커밋된 것만 다시 반영한다. 읽는 도중에 커밋된 변경만 한 번 어긋날 수 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 50 4 * * *")
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+                countsLoaded = false;
+            }
+
+            try {
+                Map<Long, Tag> rebuiltTags = new HashMap<>();
+                for (Hashtag hashtag : hashtagRepository.findAll()) {
+                    Tag tag = new Tag(hashtag.getId(), hashtag.getContent());
+                    tag.count = hashtag.getTagCount();
+                    rebuiltTags.put(tag.id, tag);
+                }
+                synchronized (this) {
+                    countsLoaded = true;
+                }
+
+                Long lastId = null;
+                List<ChallengeHashtagLink> links;
+                do {
+                    links = challengeHashtagRepository.searchLinksAfter(lastId, REBUILD_CHUNK_SIZE);
+                    for (ChallengeHashtagLink link : links) {
+                        Tag tag = rebuiltTags.get(link.getHashtagId());
+                        if (tag != null) {
+                            tag.append(link.getChallengeId());
+                        }
+                        lastId = link.getId();
+                    }
+                } while (links.size() == REBUILD_CHUNK_SIZE);
+
+                TreeSet<Tag> rebuiltRanking = new TreeSet<>(RANKING);
+                for (Tag tag : rebuiltTags.values()) {
+                    tag.sort();
+                    if (tag.count > 0) {
+                        rebuiltRanking.add(tag);
+                    }
+                }
+                Map<Long, ResponseRecommendedChallenge> rebuiltCards = new HashMap<>();
+                List<Long> recommendedIds = missingCardIds(rebuiltTags, rebuiltCards, rebuiltTags.keySet());
+                for (int from = 0; from < recommendedIds.size(); from += REBUILD_CHUNK_SIZE) {
+                    putCards(rebuiltCards, challengeRepository.searchChallengesByIds(
+                            recommendedIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, recommendedIds.size()))));
+                }
+
+                List<Long> hashtagIds;
+                synchronized (this) {
+                    List<Runnable> changes = pendingChanges;
+                    pendingChanges = null;
+                    tags = rebuiltTags;
+                    ranking = rebuiltRanking;
+                    cards = rebuiltCards;
+                    for (Runnable change : changes) {
+                        change.run();
+                    }
+                    publish();
+                    ready = true;
+                    hashtagIds = changes.isEmpty() ? List.of() : new ArrayList<>(tags.keySet());
+                }
+                loadMissingCards(hashtagIds);
+                log.info("해시태그 순위표 재구성: 해시태그 {}건, 추천 챌린지 {}건", rebuiltTags.size(), rebuiltCards.size());
+            } finally {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 재구성 전이면 empty
+     */
+    public Optional<List<ResponseChallengeHashtag>> top() {
+        return ready ? Optional.of(leaders) : Optional.empty();
+    }
+
+    public void changeCount(Hashtag hashtag, int delta) {
+        Long hashtagId = hashtag.getId();
+        String content = hashtag.getContent();
+        TransactionCallbacks.afterCommit(() -> applyCount(hashtagId, content, delta));
+    }
+
+    public void attach(Hashtag hashtag, Challenge challenge) {
+        Long hashtagId = hashtag.getId();
+        String content = hashtag.getContent();
+        Long challengeId = challenge.getId();
+        ResponseRecommendedChallenge card = toRecommended(challenge);
+        TransactionCallbacks.afterCommit(() -> apply(() -> attach(hashtagId, content, challengeId, card)));
+    }
+
+    public void detach(Hashtag hashtag, Long challengeId) {
+        Long hashtagId = hashtag.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            if (apply(() -> detach(hashtagId, challengeId))) {
+                loadMissingCards(List.of(hashtagId));
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUpdated(ChallengeUpdatedEvent event) {
+        Challenge challenge = event.getChallenge();
+        Long challengeId = challenge.getId();
+        ResponseRecommendedChallenge card = toRecommended(challenge);
+        apply(() -> cards.containsKey(challengeId) ? cards.put(challengeId, card) : null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeleted(ChallengeDeletedEvent event) {
+        Long challengeId = event.getChallengeId();
+        List<Long> detachedIds = apply(() -> {
+            List<Long> hashtagIds = new ArrayList<>();
+            for (Long hashtagId : event.getHashtagIds()) {
+                if (detach(hashtagId, challengeId)) {
+                    hashtagIds.add(hashtagId);
+                }
+            }
+            cards.remove(challengeId);
+            return hashtagIds;
+        });
+        loadMissingCards(detachedIds);
+    }
+
+    private synchronized <T> T apply(Supplier<T> change) {
+        T result = change.get();
+        if (pendingChanges != null) {
+            pendingChanges.add(change::get);
+        }
+        publish();
+        return result;
+    }
+
+    /**
+     * 재구성이 해시태그를 읽기 전에 커밋된 변경은 읽은 값에 이미 들어 있다.
+     */
+    private synchronized void applyCount(Long hashtagId, String content, int delta) {
+        adjustCount(hashtagId, content, delta);
+        if (pendingChanges != null && countsLoaded) {
+            pendingChanges.add(() -> adjustCount(hashtagId, content, delta));
+        }
+        publish();
+    }
+
+    private void adjustCount(Long hashtagId, String content, int delta) {
+        Tag tag = tags.computeIfAbsent(hashtagId, id -> new Tag(id, content));
+        ranking.remove(tag);
+        tag.count += delta;
+        if (tag.count > 0) {
+            ranking.add(tag);
+        }
+        removeIfEmpty(tag);
+    }
+
+    private boolean attach(Long hashtagId, String content, Long challengeId, ResponseRecommendedChallenge card) {
+        Tag tag = tags.computeIfAbsent(hashtagId, id -> new Tag(id, content));
+        int index = tag.attach(challengeId);
+        if (card != null && (index < RECOMMEND_SIZE || cards.containsKey(challengeId))) {
+            cards.put(challengeId, card);
+        }
+        return index >= 0;
+    }
+
+    private boolean detach(Long hashtagId, Long challengeId) {
+        Tag tag = tags.get(hashtagId);
+        if (tag == null || !tag.detach(challengeId)) {
+            return false;
+        }
+        removeIfEmpty(tag);
+        return true;
+    }
+
+    private void removeIfEmpty(Tag tag) {
+        if (tag.count <= 0 && tag.size == 0) {
+            tags.remove(tag.id);
+        }
+    }
+
+    /**
+     * 추천 자리로 올라왔지만 응답이 없는 챌린지만 조회해 채운다.
+     */
+    private void loadMissingCards(Collection<Long> hashtagIds) {
+        List<Long> missingIds;
+        synchronized (this) {
+            missingIds = missingCardIds(tags, cards, hashtagIds);
+        }
+        if (missingIds.isEmpty()) {
+            return;
+        }
+        List<ResponseChallenge> challenges = challengeRepository.searchChallengesByIds(missingIds);
+        apply(() -> {
+            putCards(cards, challenges);
+            return null;
+        });
+    }
+
+    private static List<Long> missingCardIds(Map<Long, Tag> tags, Map<Long, ResponseRecommendedChallenge> cards,
+                                             Collection<Long> hashtagIds) {
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long hashtagId : hashtagIds) {
+            Tag tag = tags.get(hashtagId);
+            if (tag == null) {
+                continue;
+            }
+            for (int i = 0; i < Math.min(tag.size, RECOMMEND_SIZE); i++) {
+                long challengeId = tag.challengeIds[i];
+                if (!cards.containsKey(challengeId)) {
+                    missingIds.add(challengeId);
+                }
+            }
+        }
+        return new ArrayList<>(missingIds);
+    }
+
+    private static void putCards(Map<Long, ResponseRecommendedChallenge> cards, List<ResponseChallenge> challenges) {
+        for (ResponseChallenge challenge : challenges) {
+            cards.putIfAbsent(challenge.getId(), ResponseRecommendedChallenge.builder()
+                    .id(challenge.getId())
+                    .title(challenge.getTitle())
+                    .content(challenge.getContent())
+                    .challengeImgUrls(List.copyOf(challenge.getChallengeImgUrls()))
+                    .build());
+        }
+    }
+
+    private void publish() {
+        List<ResponseChallengeHashtag> top = new ArrayList<>(TOP_SIZE);
+        for (Tag tag : ranking) {
+            if (top.size() == TOP_SIZE) {
+                break;
+            }
+            List<ResponseRecommendedChallenge> recommended = new ArrayList<>(RECOMMEND_SIZE);
+            for (int i = 0; i < tag.size && recommended.size() < RECOMMEND_SIZE; i++) {
+                ResponseRecommendedChallenge card = cards.get(tag.challengeIds[i]);
+                if (card != null) {
+                    recommended.add(card);
+                }
+            }
+            top.add(ResponseChallengeHashtag.builder()
+                    .hashtagId(tag.id)
+                    .hashtagContent(tag.content)
+                    .hashtagTagCount(tag.count)
+                    .recommendedChallenges(List.copyOf(recommended))
+                    .build());
+        }
+        leaders = List.copyOf(top);
+    }
+
+    private static ResponseRecommendedChallenge toRecommended(Challenge challenge) {
+        return ResponseRecommendedChallenge.builder()
+                .id(challenge.getId())
+                .title(challenge.getTitle())
+                .content(challenge.getContent())
+                .challengeImgUrls(List.copyOf(challenge.getImgUrls()))
+                .build();
+    }
+
+    private static final class Tag {
+        private final long id;
+        private final String content;
+        private int count;
+        private long[] challengeIds = new long[4];
+        private int size;
+
+        private Tag(long id, String content) {
+            this.id = id;
+            this.content = content;
+        }
+
+        /**
+         * 정렬 위치를 반환한다. 이미 있으면 -1
+         */
+        private int attach(long challengeId) {
+            int index = Arrays.binarySearch(challengeIds, 0, size, challengeId);
+            if (index >= 0) {
+                return -1;
+            }
+            index = -index - 1;
+            ensureCapacity();
+            System.arraycopy(challengeIds, index, challengeIds, index + 1, size - index);
+            challengeIds[index] = challengeId;
+            size++;
+            return index;
+        }
+
+        private boolean detach(long challengeId) {
+            int index = Arrays.binarySearch(challengeIds, 0, size, challengeId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(challengeIds, index + 1, challengeIds, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * 재구성 시 정렬 없이 붙이고 마지막에 sort 한다.
+         */
+        private void append(long challengeId) {
+            ensureCapacity();
+            challengeIds[size++] = challengeId;
+        }
+
+        private void sort() {
+            Arrays.sort(challengeIds, 0, size);
+        }
+
+        private void ensureCapacity() {
+            if (size == challengeIds.length) {
+                challengeIds = Arrays.copyOf(challengeIds, size * 2);
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.dailychallenge.service.hashtag;
 
+import com.example.dailychallenge.dto.HashtagChallengesDto;
 import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
 import com.example.dailychallenge.entity.hashtag.Hashtag;
 import com.example.dailychallenge.exception.hashtag.HashTagNotFound;
 import com.example.dailychallenge.repository.HashtagRepository;
+import com.example.dailychallenge.vo.hashtag.ResponseChallengeHashtag;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class HashtagService {
     private final HashtagRepository hashtagRepository;
     private final ChallengeHashtagService challengeHashtagService;
+    private final HashtagLeaderboard hashtagLeaderboard;
 
     public List<Hashtag> saveHashtag(List<String> hashtagDto){
 
@@ -32,6 +35,7 @@ public class HashtagService {
                             .build();
                 hashtagRepository.save(hashtag);
             } finally {
+                hashtagLeaderboard.changeCount(hashtag, 1);
                 hashtags.add(hashtag);
             }
         }
@@ -63,6 +67,7 @@ public class HashtagService {
                 } else {
                     hashtagRepository.delete(deleteHashtag); // 삭제
                 }
+                hashtagLeaderboard.changeCount(deleteHashtag, -1);
             }
         }
         return res;
@@ -77,10 +82,27 @@ public class HashtagService {
             else {
                 hashtagRepository.delete(deleteHashtag); // 삭제
             }
+            hashtagLeaderboard.changeCount(deleteHashtag, -1);
         }
     }
 
     public List<Hashtag> searchThreeMostWrittenHashtags() {
         return hashtagRepository.findTop3ByOrderByTagCountDescContentAsc();
     }
+
+    /**
+     * 순위표가 준비되기 전에 쓰는 조회
+     */
+    public List<ResponseChallengeHashtag> searchChallengesByThreeMostWrittenHashtags() {
+        List<Hashtag> hashtags = searchThreeMostWrittenHashtags();
+        List<HashtagChallengesDto> hashtagChallengesDtos = challengeHashtagService.searchByHashtags(hashtags);
+
+        List<ResponseChallengeHashtag> responseChallengeHashtags = new ArrayList<>();
+        for (HashtagChallengesDto hashtagChallengesDto : hashtagChallengesDtos) {
+            responseChallengeHashtags.add(
+                    ResponseChallengeHashtag.create(
+                            hashtagChallengesDto.getHashtag(), hashtagChallengesDto.getChallenges()));
+        }
+        return responseChallengeHashtags;
+    }
 }
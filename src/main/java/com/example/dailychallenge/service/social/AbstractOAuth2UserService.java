@@ -6,7 +6,6 @@ import com.example.dailychallenge.entity.social.ProviderUser;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.repository.UserRepository;
 import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
-import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.service.users.UserService;
 import java.util.Optional;
 import lombok.Getter;
@@ -25,8 +24,6 @@ public abstract class AbstractOAuth2UserService {
     @Autowired
     private UserService userService;
     @Autowired
-    private UserBadgeService userBadgeService;
-    @Autowired
     private UserBadgeEvaluationService userBadgeEvaluationService;
 
     public void register(ProviderUser providerUser, OAuth2UserRequest userRequest) {
@@ -37,7 +34,6 @@ public abstract class AbstractOAuth2UserService {
         if(user.isEmpty()){ // db에 user 정보가 없는 경우, db에 저장
             User savedUser = userService.saveSocialUser(registrationId, providerUser);
             userBadgeEvaluationService.createUserBadgeEvaluation(savedUser);
-            userBadgeService.saveUserBadges(savedUser);
         }
 
     }
@@ -3,6 +3,7 @@ package com.example.dailychallenge.service.users;
 import com.example.dailychallenge.dto.UserDto;
 import com.example.dailychallenge.dto.UserEditor;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.comment.Comment;
 import com.example.dailychallenge.entity.social.ProviderUser;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.entity.users.UserImg;
@@ -10,15 +11,19 @@ import com.example.dailychallenge.exception.AuthorizationException;
 import com.example.dailychallenge.exception.CommonException;
 import com.example.dailychallenge.exception.users.UserDuplicateNotCheck;
 import com.example.dailychallenge.exception.users.UserNotFound;
+import com.example.dailychallenge.repository.CommentRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
 import com.example.dailychallenge.repository.UserRepository;
 import com.example.dailychallenge.vo.RequestUpdateUser;
 import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
 import com.example.dailychallenge.vo.ResponseUserInfo;
 import com.example.dailychallenge.vo.challenge.ResponseInProgressChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallengeSlice;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,7 +39,11 @@ import org.springframework.web.multipart.MultipartFile;
 @Service @Transactional
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
+    private static final int IN_PROGRESS_COMMENT_PREVIEW = 3;
+
     private final UserRepository userRepository;
+    private final UserChallengeRepository userChallengeRepository;
+    private final CommentRepository commentRepository;
     private final UserImgService userImgService;
 
     @Value("${defaultUserImgLocation}")
@@ -184,47 +193,42 @@ public class UserService implements UserDetailsService {
         return userChallengeList;
     }
 
-    public List<ResponseChallengeByUserChallenge> getParticipateChallenge(Long id) {
-        User user = userRepository.findById(id).orElseThrow(UserNotFound::new);
-        List<UserChallenge> userChallenges = user.getUserChallenges();
-        List<ResponseChallengeByUserChallenge> res = new ArrayList<>();
-        for (UserChallenge userChallenge : userChallenges) {
-            if (userChallenge.isParticipated()) {
-                res.add(
-                        ResponseChallengeByUserChallenge.builder()
-                                .userId(userChallenge.getUsers().getId())
-                                .challengeId(userChallenge.getChallenge().getId())
-                                .challengeTitle(userChallenge.getChallenge().getTitle())
-                                .challengeContent(userChallenge.getChallenge().getContent())
-                                .challengeStatus(userChallenge.getChallengeStatus())
-                                .createdAt(userChallenge.getCreated_at())
-                                .comments(userChallenge.getChallenge().getComments())
-                                .build()
-                );
-            }
-        }
-        return res;
+    @Transactional(readOnly = true)
+    public ResponseMyChallengeSlice getMyChallenges(Long userId, Long cursor, int size) {
+        return userChallengeRepository.searchMyChallengesByCursor(userId, cursor, size);
     }
 
+    /**
+     * 댓글은 챌린지마다 최근 IN_PROGRESS_COMMENT_PREVIEW 개만 한 번에 조회한다
+     */
+    @Transactional(readOnly = true)
     public List<ResponseInProgressChallenge> getInProgressChallenges(Long id) {
-        User user = userRepository.findById(id).orElseThrow(UserNotFound::new);
-        List<UserChallenge> userChallenges = user.getUserChallenges();
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFound();
+        }
+        List<UserChallenge> userChallenges = userChallengeRepository.findParticipatingWithChallengeByUserId(id);
+        List<Long> challengeIds = new ArrayList<>(userChallenges.size());
+        for (UserChallenge userChallenge : userChallenges) {
+            challengeIds.add(userChallenge.getChallenge().getId());
+        }
+        Map<Long, List<Comment>> latestComments = commentRepository.findLatestCommentsByChallengeIds(challengeIds,
+                IN_PROGRESS_COMMENT_PREVIEW);
+
         List<ResponseInProgressChallenge> res = new ArrayList<>();
         for (UserChallenge userChallenge : userChallenges) {
-            if (userChallenge.isParticipated()) {
-                res.add(
-                        ResponseInProgressChallenge.builder()
-                                .userId(userChallenge.getUsers().getId())
-                                .challengeId(userChallenge.getChallenge().getId())
-                                .challengeTitle(userChallenge.getChallenge().getTitle())
-                                .challengeContent(userChallenge.getChallenge().getContent())
-                                .challengeStatus(userChallenge.getChallengeStatus())
-                                .createdAt(userChallenge.getCreated_at())
-                                .comments(userChallenge.getChallenge().getComments())
-                                .weeklyAchievement(userChallenge.converWeeklyChallengeToList())
-                                .build()
-                );
-            }
+            Long challengeId = userChallenge.getChallenge().getId();
+            res.add(
+                    ResponseInProgressChallenge.builder()
+                            .userId(id)
+                            .challengeId(challengeId)
+                            .challengeTitle(userChallenge.getChallenge().getTitle())
+                            .challengeContent(userChallenge.getChallenge().getContent())
+                            .challengeStatus(userChallenge.getChallengeStatus())
+                            .createdAt(userChallenge.getCreated_at())
+                            .comments(latestComments.getOrDefault(challengeId, List.of()))
+                            .weeklyAchievement(userChallenge.converWeeklyChallengeToList())
+                            .build()
+            );
         }
         return res;
     }
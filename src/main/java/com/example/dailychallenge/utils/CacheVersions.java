@@ -0,0 +1,57 @@
+package com.example.dailychallenge.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회와 무효화가 겹칠 때 무효화 이전에 읽은 값이 캐시에 남지 않게 하는 버전표.
+ * <p>
+ * 키를 STRIPES 칸에 나눈 버전과 전체 세대를 두고, 조회를 시작할 때 받은 stamp 가 저장 시점까지 그대로일 때만 캐시에 넣는다.
+ * 무효화는 변경 즉시 한 번 그리고 커밋 이후에 한 번 더 해서 커밋 전 데이터를 읽어 간 조회도 걸러낸다.
+ */
+public final class CacheVersions {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 두 값 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었다.
+     */
+    public long stamp(Long key) {
+        return versions.get(stripe(key)) + generation.get();
+    }
+
+    public boolean isCurrent(Long key, long stamp) {
+        return stamp(key) == stamp;
+    }
+
+    /**
+     * @param evict 버전을 올린 뒤 해당 키의 항목을 지운다
+     */
+    public void invalidate(Long key, Runnable evict) {
+        Runnable bumpAndEvict = () -> {
+            versions.incrementAndGet(stripe(key));
+            evict.run();
+        };
+        bumpAndEvict.run();
+        TransactionCallbacks.afterCommit(bumpAndEvict);
+    }
+
+    /**
+     * @param clear 세대를 올린 뒤 모든 항목을 지운다
+     */
+    public void invalidateAll(Runnable clear) {
+        Runnable bumpAndClear = () -> {
+            generation.incrementAndGet();
+            clear.run();
+        };
+        bumpAndClear.run();
+        TransactionCallbacks.afterCommit(bumpAndClear);
+    }
+
+    private static int stripe(Long key) {
+        return (int) Math.floorMod(key, (long) STRIPES);
+    }
+}
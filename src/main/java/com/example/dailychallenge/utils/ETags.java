@@ -0,0 +1,34 @@
+package com.example.dailychallenge.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * If-None-Match 비교 (RFC 7232 3.2).
+ * 약한 비교를 쓰므로 W/ 가 붙은 태그도 같은 태그로 보고, 여러 태그 목록과 * 도 처리한다.
+ */
+public final class ETags {
+
+    private static final Pattern ENTITY_TAG = Pattern.compile("\\*|\\s*((W/)?(\"[^\"]*\"))\\s*,?");
+
+    private ETags() {
+    }
+
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String opaqueTag = opaque(eTag);
+        Matcher matcher = ENTITY_TAG.matcher(ifNoneMatch);
+        while (matcher.find()) {
+            if ("*".equals(matcher.group()) || matcher.group(3).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.dailychallenge.vo;
 
 import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.comment.Comment;
+import com.querydsl.core.annotations.QueryProjection;
 import java.time.LocalDateTime;
 import java.util.List;
 import javax.persistence.EnumType;
@@ -37,4 +38,11 @@ public class ResponseChallengeByUserChallenge {
             this.comments = ResponseCommentInfo.convert(comments);
         }
     }
+
+    @QueryProjection
+    public ResponseChallengeByUserChallenge(Long userId, Long challengeId, String challengeTitle,
+                                            String challengeContent, ChallengeStatus challengeStatus,
+                                            LocalDateTime createdAt) {
+        this(userId, challengeId, challengeTitle, challengeContent, challengeStatus, createdAt, null);
+    }
 }
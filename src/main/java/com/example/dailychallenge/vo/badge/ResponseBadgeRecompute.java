@@ -0,0 +1,36 @@
+package com.example.dailychallenge.vo.badge;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseBadgeRecompute {
+    private Status status;
+    private LocalDateTime startedAt;
+    private long users;
+    private long updatedCounters;
+    private long earnedBadges;
+    private int partitions;
+    private long elapsedMillis;
+    private long usersPerSecond;
+
+    @Builder
+    public ResponseBadgeRecompute(Status status, LocalDateTime startedAt, long users, long updatedCounters,
+                                  long earnedBadges, int partitions, long elapsedMillis, long usersPerSecond) {
+        this.status = status;
+        this.startedAt = startedAt;
+        this.users = users;
+        this.updatedCounters = updatedCounters;
+        this.earnedBadges = earnedBadges;
+        this.partitions = partitions;
+        this.elapsedMillis = elapsedMillis;
+        this.usersPerSecond = usersPerSecond;
+    }
+
+    public enum Status {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+}
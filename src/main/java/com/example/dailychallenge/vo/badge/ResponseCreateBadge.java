@@ -1,6 +1,7 @@
 package com.example.dailychallenge.vo.badge;
 
 import com.example.dailychallenge.entity.badge.Badge;
+import com.example.dailychallenge.entity.badge.UserBadge;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,17 +9,21 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 public class ResponseCreateBadge {
+    private Long userBadgeId;
     private String createBadgeName;
     private String badgeImgUrl;
 
     @Builder
-    public ResponseCreateBadge(String createBadgeName, String badgeImgUrl) {
+    public ResponseCreateBadge(Long userBadgeId, String createBadgeName, String badgeImgUrl) {
+        this.userBadgeId = userBadgeId;
         this.createBadgeName = createBadgeName;
         this.badgeImgUrl = badgeImgUrl;
     }
 
-    public static ResponseCreateBadge create(Badge badge) {
+    public static ResponseCreateBadge create(UserBadge userBadge) {
+        Badge badge = userBadge.getBadge();
         return ResponseCreateBadge.builder()
+                .userBadgeId(userBadge.getId())
                 .createBadgeName(badge.getName())
                 .badgeImgUrl(badge.getImgUrl())
                 .build();
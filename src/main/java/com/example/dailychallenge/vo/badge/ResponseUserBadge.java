@@ -1,8 +1,8 @@
 package com.example.dailychallenge.vo.badge;
 
 import com.example.dailychallenge.entity.badge.Badge;
-import com.example.dailychallenge.entity.badge.UserBadge;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Data;
@@ -23,17 +23,13 @@ public class ResponseUserBadge {
     }
 
     // 정렬 기준: 달성, 후기, 생성 순으로 정렬된다
-    public static List<ResponseUserBadge> create(List<UserBadge> userBadges) {
-        return userBadges.stream()
-                .map(userBadge -> {
-                    Badge badge = userBadge.getBadge();
-                    Boolean badgeStatus = userBadge.getStatus();
-                    return ResponseUserBadge.builder()
-                            .badgeName(badge.getName())
-                            .badgeStatus(badgeStatus)
-                            .badgeImgUrl(badge.getImgUrl())
-                            .build();
-                })
+    public static List<ResponseUserBadge> create(List<Badge> badges, Set<Long> earnedBadgeIds) {
+        return badges.stream()
+                .map(badge -> ResponseUserBadge.builder()
+                        .badgeName(badge.getName())
+                        .badgeStatus(earnedBadgeIds.contains(badge.getId()))
+                        .badgeImgUrl(badge.getImgUrl())
+                        .build())
                 .collect(Collectors.toUnmodifiableList());
     }
 }
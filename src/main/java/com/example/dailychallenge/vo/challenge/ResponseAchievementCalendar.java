@@ -0,0 +1,26 @@
+package com.example.dailychallenge.vo.challenge;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseAchievementCalendar {
+    private Long challengeId;
+    private int year;
+    private int month;
+    private List<Boolean> days; // 1일부터 말일까지 달성 여부
+    private int achievedCount;
+
+    @Builder
+    public ResponseAchievementCalendar(Long challengeId, int year, int month, List<Boolean> days,
+                                       int achievedCount) {
+        this.challengeId = challengeId;
+        this.year = year;
+        this.month = month;
+        this.days = days;
+        this.achievedCount = achievedCount;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.dailychallenge.vo.challenge;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseAchievementStreak {
+    private Long challengeId;
+    private int currentStreak;
+    private int longestStreak;
+
+    @Builder
+    public ResponseAchievementStreak(Long challengeId, int currentStreak, int longestStreak) {
+        this.challengeId = challengeId;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+    }
+}
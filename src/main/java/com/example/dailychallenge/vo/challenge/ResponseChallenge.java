@@ -1,8 +1,6 @@
 package com.example.dailychallenge.vo.challenge;
 
-import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.vo.ResponseUser;
-import com.querydsl.core.annotations.QueryProjection;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
@@ -40,34 +38,4 @@ public class ResponseChallenge {
         this.howManyUsersAreInThisChallenge = howManyUsersAreInThisChallenge;
         this.challengeOwnerUser = responseUser;
     }
-
-    @QueryProjection
-    public ResponseChallenge(Challenge challenge, Long howManyUsersAreInThisChallenge) {
-        this.id = challenge.getId();
-        this.title = challenge.getTitle();
-        this.content = challenge.getContent();
-        this.challengeCategory = challenge.getChallengeCategory().getDescription();
-        this.challengeLocation = challenge.getChallengeLocation().getDescription();
-        this.challengeDuration = challenge.getChallengeDuration().getDescription();
-        this.created_at = challenge.getFormattedCreatedAt();
-        this.challengeImgUrls = challenge.getImgUrls();
-        this.challengeHashtags = challenge.getHashtags();
-        this.howManyUsersAreInThisChallenge = howManyUsersAreInThisChallenge;
-        this.challengeOwnerUser = ResponseUser.create(challenge.getUsers());
-    }
-
-    @QueryProjection
-    public ResponseChallenge(Challenge challenge) {
-        this.id = challenge.getId();
-        this.title = challenge.getTitle();
-        this.content = challenge.getContent();
-        this.challengeCategory = challenge.getChallengeCategory().getDescription();
-        this.challengeLocation = challenge.getChallengeLocation().getDescription();
-        this.challengeDuration = challenge.getChallengeDuration().getDescription();
-        this.created_at = challenge.getFormattedCreatedAt();
-        this.challengeImgUrls = challenge.getImgUrls();
-        this.challengeHashtags = challenge.getHashtags();
-        this.howManyUsersAreInThisChallenge = Long.valueOf(challenge.getUserChallenges().size());
-        this.challengeOwnerUser = ResponseUser.create(challenge.getUsers());
-    }
 }
@@ -0,0 +1,21 @@
+package com.example.dailychallenge.vo.challenge;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseChallengeSlice {
+    private List<ResponseChallenge> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public ResponseChallengeSlice(List<ResponseChallenge> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
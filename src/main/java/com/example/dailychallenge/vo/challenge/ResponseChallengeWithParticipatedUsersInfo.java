@@ -9,12 +9,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ResponseChallengeWithParticipatedUsersInfo {
     private ResponseChallenge responseChallenge;
-    private List<ResponseUserChallenge> responseUserChallenges;
+    private List<ResponseUserChallenge> responseUserChallenges; // 참여자 미리보기, 나머지는 participants 로 조회
+    private Long participantCount;
+    private Long nextParticipantCursor;
 
     @Builder
     public ResponseChallengeWithParticipatedUsersInfo(ResponseChallenge responseChallenge,
-                                                      List<ResponseUserChallenge> responseUserChallenges) {
+                                                      List<ResponseUserChallenge> responseUserChallenges,
+                                                      Long participantCount, Long nextParticipantCursor) {
         this.responseChallenge = responseChallenge;
         this.responseUserChallenges = responseUserChallenges;
+        this.participantCount = participantCount;
+        this.nextParticipantCursor = nextParticipantCursor;
     }
 }
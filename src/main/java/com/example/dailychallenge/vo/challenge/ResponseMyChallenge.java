@@ -0,0 +1,38 @@
+package com.example.dailychallenge.vo.challenge;
+
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내가 작성했거나 참여 중인 챌린지. 참여하지 않은 내 챌린지는 challengeStatus 가 null
+ */
+@Data
+@NoArgsConstructor
+public class ResponseMyChallenge {
+
+    private Long challengeId;
+    private String challengeTitle;
+    private String challengeContent;
+    private ChallengeStatus challengeStatus;
+    private boolean createdByMe;
+    private Long commentCount;
+    private LocalDateTime createdAt;
+
+    @Builder
+    @QueryProjection
+    public ResponseMyChallenge(Long challengeId, String challengeTitle, String challengeContent,
+                               ChallengeStatus challengeStatus, boolean createdByMe, Long commentCount,
+                               LocalDateTime createdAt) {
+        this.challengeId = challengeId;
+        this.challengeTitle = challengeTitle;
+        this.challengeContent = challengeContent;
+        this.challengeStatus = challengeStatus;
+        this.createdByMe = createdByMe;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.dailychallenge.vo.challenge;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseMyChallengeSlice {
+    private List<ResponseMyChallenge> content;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public ResponseMyChallengeSlice(List<ResponseMyChallenge> content, Long nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.dailychallenge.vo.challenge;
 
-import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.vo.ResponseUser;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Builder;
@@ -21,8 +21,12 @@ public class ResponseUserChallenge {
     }
 
     @QueryProjection
-    public ResponseUserChallenge(UserChallenge userChallenge) {
-        this.challengeStatus = userChallenge.getChallengeStatus().getDescription();
-        this.participatedUser = ResponseUser.create(userChallenge.getUsers());
+    public ResponseUserChallenge(ChallengeStatus challengeStatus, Long userId, String userName, String email) {
+        this.challengeStatus = challengeStatus.getDescription();
+        this.participatedUser = ResponseUser.builder()
+                .userId(userId)
+                .userName(userName)
+                .email(email)
+                .build();
     }
 }
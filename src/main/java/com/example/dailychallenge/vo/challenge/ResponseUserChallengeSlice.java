@@ -0,0 +1,21 @@
+package com.example.dailychallenge.vo.challenge;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResponseUserChallengeSlice {
+    private List<ResponseUserChallenge> content;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public ResponseUserChallengeSlice(List<ResponseUserChallenge> content, Long nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,34 @@
+-- 뱃지 이름에 유니크 제약을 건다. (MySQL 8)
+-- 동시 가입으로 같은 이름의 뱃지가 여러 번 등록되었으면 가장 작은 id 하나만 남기고 유저 뱃지를 그 뱃지로 옮긴다.
+
+CREATE TEMPORARY TABLE badge_keep AS
+SELECT name, MIN(badge_id) AS keep_id
+FROM badge
+GROUP BY name;
+
+-- 남길 뱃지를 이미 가진 유저의 중복 유저 뱃지는 지운다
+DELETE ub
+FROM user_badge ub
+         JOIN badge b ON b.badge_id = ub.badge_id
+         JOIN badge_keep k ON k.name = b.name
+WHERE b.badge_id <> k.keep_id
+  AND EXISTS(SELECT 1
+             FROM (SELECT user_id, badge_id FROM user_badge) kept
+             WHERE kept.user_id = ub.user_id
+               AND kept.badge_id = k.keep_id);
+
+UPDATE user_badge ub
+    JOIN badge b ON b.badge_id = ub.badge_id
+    JOIN badge_keep k ON k.name = b.name
+SET ub.badge_id = k.keep_id
+WHERE b.badge_id <> k.keep_id;
+
+DELETE b
+FROM badge b
+         JOIN badge_keep k ON k.name = b.name
+WHERE b.badge_id <> k.keep_id;
+
+DROP TEMPORARY TABLE badge_keep;
+
+ALTER TABLE badge
+    ADD CONSTRAINT uk_badge_name UNIQUE (name);
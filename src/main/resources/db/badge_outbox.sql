@@ -0,0 +1,25 @@
+-- 뱃지 평가 이벤트 아웃박스와 새 뱃지 확인 여부 컬럼을 추가한다. (MySQL 8)
+-- 이미 얻은 뱃지는 확인한 것으로 둔다.
+-- 아웃박스 행은 실패 횟수(attempts)와 마지막 오류(last_error)를 남기고, 여러 번 실패하면 parked 로 빠진다.
+
+CREATE TABLE badge_outbox
+(
+    badge_outbox_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    type            VARCHAR(32)  NOT NULL,
+    processed       BIT          NOT NULL,
+    parked          BIT          NOT NULL DEFAULT 0,
+    attempts        INT          NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (badge_outbox_id),
+    INDEX idx_badge_outbox_pending (processed, parked, badge_outbox_id)
+);
+
+ALTER TABLE user_badge
+    ADD COLUMN notified BIT NOT NULL DEFAULT 0;
+
+UPDATE user_badge
+SET notified = 1
+WHERE status = 1;
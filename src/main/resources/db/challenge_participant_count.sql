@@ -0,0 +1,11 @@
+-- challenge.participant_count 비정규화 컬럼을 추가하고 user_challenge 에서 채운다. (MySQL 8)
+-- 이후 참가, 참가 취소는 원자적 UPDATE 로만 바꾼다.
+
+ALTER TABLE challenge
+    ADD COLUMN participant_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE challenge c
+    LEFT JOIN (SELECT challenge_id, COUNT(*) AS participants
+               FROM user_challenge
+               GROUP BY challenge_id) uc ON uc.challenge_id = c.challenge_id
+SET c.participant_count = COALESCE(uc.participants, 0);
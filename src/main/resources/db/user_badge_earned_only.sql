@@ -0,0 +1,10 @@
+-- 유저 뱃지는 얻은 뱃지만 저장한다. (MySQL 8)
+-- 가입할 때 미리 만들어 둔 얻지 못한 뱃지 행을 지우고, 같은 뱃지를 두 번 저장하지 않도록 유니크 제약을 건다.
+
+DELETE
+FROM user_badge
+WHERE status = 0
+   OR status IS NULL;
+
+ALTER TABLE user_badge
+    ADD CONSTRAINT uk_user_badge_user_badge UNIQUE (user_id, badge_id);
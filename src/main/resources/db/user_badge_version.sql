@@ -0,0 +1,4 @@
+-- 유저의 뱃지 버전, 얻은 뱃지가 바뀔 때마다 1 씩 올리고 /user/badges 의 ETag 에 쓴다. (MySQL 8)
+
+ALTER TABLE users
+    ADD COLUMN badge_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- 유저 챌린지의 연도별 달성 기록 테이블을 만든다. (MySQL 8)
+-- days 는 1월 1일이 0번 비트인 366비트 비트셋이고, 유저 챌린지마다 한 해에 한 행만 둔다.
+
+CREATE TABLE user_challenge_history
+(
+    user_challenge_history_id BIGINT        NOT NULL AUTO_INCREMENT,
+    user_challenge_id         BIGINT        NOT NULL,
+    achievement_year          INT           NOT NULL,
+    days                      VARBINARY(46) NOT NULL,
+    created_at                DATETIME(6),
+    updated_at                DATETIME(6),
+    PRIMARY KEY (user_challenge_history_id),
+    CONSTRAINT uk_user_challenge_history_year UNIQUE (user_challenge_id, achievement_year),
+    CONSTRAINT fk_user_challenge_history_user_challenge
+        FOREIGN KEY (user_challenge_id) REFERENCES user_challenge (user_challenge_id)
+);
@@ -0,0 +1,54 @@
+-- 같은 유저가 같은 챌린지에 두 번 참가하지 못하도록 user_challenge 에 UNIQUE 제약을 건다. (MySQL 8)
+-- 이미 중복된 행은 가장 먼저 만든 행만 남기고, 지우는 행의 달성 기록은 남기는 행으로 합친다.
+-- 마지막으로 challenge.participant_count 를 남은 행으로 다시 센다.
+
+CREATE TEMPORARY TABLE user_challenge_duplicate AS
+SELECT duplicated.user_challenge_id     AS duplicated_id,
+       MIN(kept.user_challenge_id)      AS kept_id
+FROM user_challenge duplicated
+         JOIN user_challenge kept
+              ON kept.user_id = duplicated.user_id
+                  AND kept.challenge_id = duplicated.challenge_id
+                  AND kept.user_challenge_id < duplicated.user_challenge_id
+GROUP BY duplicated.user_challenge_id;
+
+-- 남기는 행에 같은 연도 기록이 있으면 달성 비트를 OR 로 합친다 (days 는 모두 46바이트)
+UPDATE user_challenge_history kept_history
+    JOIN (SELECT d.kept_id, h.achievement_year, BIT_OR(h.days) AS days
+          FROM user_challenge_history h
+                   JOIN user_challenge_duplicate d ON d.duplicated_id = h.user_challenge_id
+          GROUP BY d.kept_id, h.achievement_year) merged
+    ON merged.kept_id = kept_history.user_challenge_id
+        AND merged.achievement_year = kept_history.achievement_year
+SET kept_history.days       = kept_history.days | merged.days,
+    kept_history.updated_at = NOW(6);
+
+-- 남기는 행에 없는 연도 기록은 새로 만든다
+INSERT INTO user_challenge_history (user_challenge_id, achievement_year, days, created_at, updated_at)
+SELECT d.kept_id, h.achievement_year, BIT_OR(h.days), NOW(6), NOW(6)
+FROM user_challenge_history h
+         JOIN user_challenge_duplicate d ON d.duplicated_id = h.user_challenge_id
+WHERE NOT EXISTS (SELECT 1
+                  FROM user_challenge_history kept_history
+                  WHERE kept_history.user_challenge_id = d.kept_id
+                    AND kept_history.achievement_year = h.achievement_year)
+GROUP BY d.kept_id, h.achievement_year;
+
+DELETE h
+FROM user_challenge_history h
+         JOIN user_challenge_duplicate d ON d.duplicated_id = h.user_challenge_id;
+
+DELETE uc
+FROM user_challenge uc
+         JOIN user_challenge_duplicate d ON d.duplicated_id = uc.user_challenge_id;
+
+DROP TEMPORARY TABLE user_challenge_duplicate;
+
+ALTER TABLE user_challenge
+    ADD CONSTRAINT uk_user_challenge_participation UNIQUE (user_id, challenge_id);
+
+UPDATE challenge c
+    LEFT JOIN (SELECT challenge_id, COUNT(*) AS participants
+               FROM user_challenge
+               GROUP BY challenge_id) uc ON uc.challenge_id = c.challenge_id
+SET c.participant_count = COALESCE(uc.participants, 0);
@@ -0,0 +1,17 @@
+-- user_challenge.weekly_achievement 를 "false,true,..." 문자열에서 7비트 정수로 바꾼다. (MySQL 8)
+-- 월요일이 0번 비트, 일요일이 6번 비트이다.
+
+ALTER TABLE user_challenge ADD COLUMN weekly_achievement_bits INT NOT NULL DEFAULT 0;
+
+UPDATE user_challenge
+SET weekly_achievement_bits =
+        (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 1), ',', -1) = 'true' THEN 1 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 2), ',', -1) = 'true' THEN 2 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 3), ',', -1) = 'true' THEN 4 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 4), ',', -1) = 'true' THEN 8 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 5), ',', -1) = 'true' THEN 16 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 6), ',', -1) = 'true' THEN 32 ELSE 0 END)
+      | (CASE WHEN SUBSTRING_INDEX(SUBSTRING_INDEX(weekly_achievement, ',', 7), ',', -1) = 'true' THEN 64 ELSE 0 END);
+
+ALTER TABLE user_challenge DROP COLUMN weekly_achievement;
+ALTER TABLE user_challenge RENAME COLUMN weekly_achievement_bits TO weekly_achievement;
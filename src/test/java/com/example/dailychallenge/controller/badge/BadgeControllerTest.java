@@ -17,15 +17,19 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.dailychallenge.dto.CommentDto;
 import com.example.dailychallenge.dto.HashtagDto;
+import com.example.dailychallenge.entity.badge.UserBadge;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.util.ControllerTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
 import com.example.dailychallenge.vo.challenge.RequestCreateChallenge;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockPart;
@@ -48,6 +53,8 @@ class BadgeControllerTest extends ControllerTest {
 
     @Autowired
     private TestDataSetup testDataSetup;
+    @Autowired
+    private UserBadgeService userBadgeService;
 
     private User user;
     private RequestPostProcessor requestPostProcessor;
@@ -55,7 +62,6 @@ class BadgeControllerTest extends ControllerTest {
     private void initData() {
         user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
         requestPostProcessor = getRequestPostProcessor(user);
     }
 
@@ -73,7 +79,6 @@ class BadgeControllerTest extends ControllerTest {
                     WITHIN_TEN_MINUTES.getDescription(),
                     user);
             testDataSetup.챌린지에_참가한다(challenge, user);
-            testDataSetup.챌린지_생성_뱃지를_만들_수_있으면_만든다(user);
         }
 
         RequestCreateChallenge requestCreateChallenge = RequestCreateChallenge.builder()
@@ -119,9 +124,9 @@ class BadgeControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$.challengeOwnerUser.userName").value(user.getUserName()))
                 .andExpect(jsonPath("$.challengeOwnerUser.email").value(user.getEmail()))
                 .andExpect(jsonPath("$.challengeOwnerUser.userId").value(user.getId()))
-                .andExpect(jsonPath("$.badgeInfo.createBadgeName").value("챌린지 10개 생성"))
-                .andExpect(jsonPath("$.badgeInfo.badgeImgUrl").value(
-                        badgeImgLocation + "challengeCreate/challengeCreate10" + badgeImgFileExtension));
+                .andExpect(jsonPath("$.badgeInfo").doesNotExist());
+
+        expectNewBadge("챌린지 10개 생성", "challengeCreate/challengeCreate10");
     }
 
     @Test
@@ -156,9 +161,9 @@ class BadgeControllerTest extends ControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.message").value("챌린지 달성 완료!"))
-                .andExpect(jsonPath("$.badgeInfo.createBadgeName").value("챌린지 10개 달성"))
-                .andExpect(jsonPath("$.badgeInfo.badgeImgUrl").value(
-                        badgeImgLocation + "achievement/achievement10" + badgeImgFileExtension));
+                .andExpect(jsonPath("$.badgeInfo").doesNotExist());
+
+        expectNewBadge("챌린지 10개 달성", "achievement/achievement10");
     }
 
     private MockMultipartFile createMultipartFiles() {
@@ -218,9 +223,37 @@ class BadgeControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$.content").value("댓글 내용"))
                 .andExpect(jsonPath("$.createdAt").isNotEmpty())
                 .andExpect(jsonPath("$.userId").value(user.getId()))
-                .andExpect(jsonPath("$.badgeInfo.createBadgeName").value("후기 10개 작성"))
-                .andExpect(jsonPath("$.badgeInfo.badgeImgUrl").value(
-                        badgeImgLocation + "write/comment10" + badgeImgFileExtension));
+                .andExpect(jsonPath("$.badgeInfo").doesNotExist());
+
+        expectNewBadge("후기 10개 작성", "write/comment10");
+    }
+
+    /**
+     * 뱃지는 커밋 이후 비동기로 평가되므로, 쌓인 이벤트를 처리한 뒤 새 뱃지 조회로 확인하고 확인 요청까지 보낸다
+     */
+    private void expectNewBadge(String badgeName, String badgeImgPath) throws Exception {
+        testDataSetup.뱃지_평가_이벤트를_처리한다();
+
+        mockMvc.perform(get("/user/badges/new")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].createBadgeName", hasItem(badgeName)))
+                .andExpect(jsonPath("$[*].badgeImgUrl", hasItem(
+                        badgeImgLocation + badgeImgPath + badgeImgFileExtension)));
+
+        List<UserBadge> newBadges = userBadgeService.findNewBadges(user.getId());
+        mockMvc.perform(post("/user/badges/new/acknowledge")
+                        .with(requestPostProcessor)
+                        .param("lastUserBadgeId", String.valueOf(newBadges.get(newBadges.size() - 1).getId()))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/user/badges/new")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
     }
 
     @Test
@@ -273,6 +306,83 @@ class BadgeControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$[13].badgeImgUrl").value("badgeImage/challengeCreate/challengeCreate25.svg"))
                 .andExpect(jsonPath("$[14].badgeName").value("챌린지 30개 생성"))
                 .andExpect(jsonPath("$[14].badgeStatus").value(false))
-                .andExpect(jsonPath("$[14].badgeImgUrl").value("badgeImage/challengeCreate/challengeCreate30.svg"));
+                .andExpect(jsonPath("$[14].badgeImgUrl").value("badgeImage/challengeCreate/challengeCreate30.svg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("뱃지 목록이 바뀌지 않았으면 304 를 반환하는 테스트")
+    void getAllBadgesNotModifiedTest() throws Exception {
+        String eTag = mockMvc.perform(get("/badges")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/badges")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("약한 ETag, ETag 목록, * 로 요청해도 304 를 반환하는 테스트")
+    void getAllBadgesNotModifiedByWeakETagTest() throws Exception {
+        String eTag = mockMvc.perform(get("/badges")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        for (String ifNoneMatch : List.of("W/" + eTag, "\"other\", " + eTag, "*")) {
+            mockMvc.perform(get("/badges")
+                            .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotModified());
+        }
+        mockMvc.perform(get("/badges")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("관리자가 뱃지 카운터 재계산을 시작하고 진행 상태를 조회하는 테스트")
+    void recomputeBadgeCountersTest() throws Exception {
+        User admin = testDataSetup.saveUser(USERNAME, "admin@test.com", PASSWORD);
+        testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(admin.getEmail());
+
+        mockMvc.perform(post("/admin/badges/recompute")
+                        .with(getRequestPostProcessor(admin))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.startedAt").exists());
+        testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(admin.getEmail());
+
+        mockMvc.perform(get("/admin/badges/recompute")
+                        .with(getRequestPostProcessor(admin))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.users").isNumber())
+                .andExpect(jsonPath("$.updatedCounters").isNumber())
+                .andExpect(jsonPath("$.earnedBadges").isNumber())
+                .andExpect(jsonPath("$.partitions").isNumber())
+                .andExpect(jsonPath("$.elapsedMillis").isNumber())
+                .andExpect(jsonPath("$.usersPerSecond").isNumber());
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 뱃지 카운터 재계산을 요청할 수 없는 테스트")
+    void recomputeBadgeCountersNotAdminTest() throws Exception {
+        initData();
+
+        mockMvc.perform(post("/admin/badges/recompute")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("권한이 없습니다."));
     }
-}
\ No newline at end of file
+}
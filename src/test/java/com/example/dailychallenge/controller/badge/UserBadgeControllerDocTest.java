@@ -8,13 +8,17 @@ import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
 import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.util.RestDocsTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +30,8 @@ import org.springframework.http.MediaType;
 public class UserBadgeControllerDocTest extends RestDocsTest {
     @Autowired
     private TestDataSetup testDataSetup;
+    @Autowired
+    private UserBadgeService userBadgeService;
 
     private User user;
     private String token;
@@ -57,7 +63,6 @@ public class UserBadgeControllerDocTest extends RestDocsTest {
     @DisplayName("유저의 모든 뱃지들을 조회하는 테스트")
     void findAllUserBadgesTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         챌린지를_생성하고_참가하고_달성한다(20);
 
@@ -73,4 +78,58 @@ public class UserBadgeControllerDocTest extends RestDocsTest {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("새로 얻은 뱃지들을 조회하는 테스트")
+    void findNewUserBadgesTest() throws Exception {
+        챌린지_생성_뱃지를_얻는다();
+
+        mockMvc.perform(get("/user/badges/new")
+                        .header(AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(restDocs.document(
+                        responseFields(
+                                fieldWithPath("[].userBadgeId").description("유저 뱃지 ID - 확인 요청에 마지막 값을 보냅니다."),
+                                fieldWithPath("[].createBadgeName").description("새로 얻은 뱃지 이름"),
+                                fieldWithPath("[].badgeImgUrl").description("새로 얻은 뱃지 이미지 경로")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("새로 얻은 뱃지들을 확인하는 테스트")
+    void acknowledgeNewUserBadgesTest() throws Exception {
+        챌린지_생성_뱃지를_얻는다();
+        Long lastUserBadgeId = userBadgeService.findNewBadges(user.getId()).get(0).getId();
+
+        mockMvc.perform(post("/user/badges/new/acknowledge")
+                        .header(AUTHORIZATION, token)
+                        .param("lastUserBadgeId", String.valueOf(lastUserBadgeId))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(restDocs.document(
+                        requestParameters(
+                                parameterWithName("lastUserBadgeId").description("마지막으로 받은 유저 뱃지 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("HTTP STATUS"),
+                                fieldWithPath("message").description("메시지")
+                        )
+                ));
+    }
+
+    private void 챌린지_생성_뱃지를_얻는다() {
+        testDataSetup.saveUserBadgeEvaluation(user);
+        for (int i = 1; i <= 10; i++) {
+            testDataSetup.챌린지를_생성한다(
+                    "제목입니다." + i,
+                    "내용입니다." + i,
+                    STUDY.getDescription(),
+                    INDOOR.getDescription(),
+                    WITHIN_TEN_MINUTES.getDescription(),
+                    user);
+        }
+        testDataSetup.뱃지_평가_이벤트를_처리한다();
+    }
+}
@@ -8,18 +8,24 @@ import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.getRequestPostProcessor;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.badge.UserBadgeService;
 import com.example.dailychallenge.util.ControllerTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import javax.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
@@ -27,6 +33,10 @@ class UserBadgeControllerTest extends ControllerTest {
 
     @Autowired
     private TestDataSetup testDataSetup;
+    @Autowired
+    private UserBadgeService userBadgeService;
+    @Autowired
+    private EntityManager entityManager;
 
     private User user;
     private RequestPostProcessor requestPostProcessor;
@@ -58,7 +68,6 @@ class UserBadgeControllerTest extends ControllerTest {
     @DisplayName("유저의 모든 뱃지들을 조회하는 테스트")
     void findAllUserBadgesTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         챌린지를_생성하고_참가하고_달성한다(20);
 
@@ -82,4 +91,99 @@ class UserBadgeControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$[4].badgeStatus").value(false))
                 .andExpect(jsonPath("$[4].badgeImgUrl").value("badgeImage/achievement/achievement50.svg"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("새로 얻은 뱃지들은 확인 요청 전까지 다시 조회되는 테스트")
+    void findNewUserBadgesTest() throws Exception {
+        testDataSetup.saveUserBadgeEvaluation(user);
+        for (int i = 1; i <= 10; i++) {
+            testDataSetup.챌린지를_생성한다(
+                    "제목입니다." + i,
+                    "내용입니다." + i,
+                    STUDY.getDescription(),
+                    INDOOR.getDescription(),
+                    WITHIN_TEN_MINUTES.getDescription(),
+                    user);
+        }
+        testDataSetup.뱃지_평가_이벤트를_처리한다();
+
+        mockMvc.perform(get("/user/badges/new")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].userBadgeId").isNotEmpty())
+                .andExpect(jsonPath("$[0].createBadgeName").value("챌린지 10개 생성"))
+                .andExpect(jsonPath("$[0].badgeImgUrl").value("badgeImage/challengeCreate/challengeCreate10.svg"));
+
+        mockMvc.perform(get("/user/badges/new")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        Long lastUserBadgeId = userBadgeService.findNewBadges(user.getId()).get(0).getId();
+        mockMvc.perform(post("/user/badges/new/acknowledge")
+                        .with(requestPostProcessor)
+                        .param("lastUserBadgeId", String.valueOf(lastUserBadgeId))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200));
+
+        mockMvc.perform(get("/user/badges/new")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않고 새로 얻은 뱃지를 조회하면 401 을 반환하는 테스트")
+    void findNewUserBadgesWithoutLoginTest() throws Exception {
+        mockMvc.perform(get("/user/badges/new")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/user/badges/new/acknowledge")
+                        .param("lastUserBadgeId", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("뱃지 버전이 그대로면 304, 뱃지를 얻으면 새 ETag 로 다시 조회하는 테스트")
+    void findAllUserBadgesNotModifiedTest() throws Exception {
+        String eTag = mockMvc.perform(get("/user/badges")
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/user/badges")
+                        .with(requestPostProcessor)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/user/badges")
+                        .with(requestPostProcessor)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        userBadgeService.earnBadge(user.getId(), "챌린지 10개 생성");
+        entityManager.refresh(user); // 뱃지 버전은 DB 에서 바로 올린다
+
+        mockMvc.perform(get("/user/badges")
+                        .with(requestPostProcessor)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[10].badgeName").value("챌린지 10개 생성"))
+                .andExpect(jsonPath("$[10].badgeStatus").value(true));
+    }
+}
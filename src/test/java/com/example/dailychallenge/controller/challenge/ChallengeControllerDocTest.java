@@ -136,7 +136,6 @@ public class ChallengeControllerDocTest extends RestDocsTest {
 //    @WithAuthUser
     void createChallengeTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         RequestCreateChallenge requestCreateChallenge = RequestCreateChallenge.builder()
                 .title("제목입니다.")
@@ -239,7 +238,44 @@ public class ChallengeControllerDocTest extends RestDocsTest {
                         ),
                         relaxedResponseFields(
                                 fieldWithPath("responseChallenge").description("챌린지 정보"),
-                                fieldWithPath("responseUserChallenges").description("찾은 챌린지에 참여한 사람들 정보")
+                                fieldWithPath("responseUserChallenges").description("찾은 챌린지에 참여한 사람들 정보 (앞쪽 일부)"),
+                                fieldWithPath("participantCount").description("찾은 챌린지에 참여한 사람 수"),
+                                fieldWithPath("nextParticipantCursor").description(
+                                        "참여자 목록을 이어서 조회할 커서, 더 없으면 null").optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("챌린지 참여자 커서 조회 테스트")
+    void searchParticipantsTest() throws Exception {
+        initData();
+        Long challenge1Id = challenge1.getId();
+
+        mockMvc.perform(get("/challenge/{challengeId}/participants", challenge1Id)
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].participatedUser.userName", contains(user.getUserName())))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNumber())
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("challengeId").description("찾고 싶은 챌린지 ID")
+                        ),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor, 처음 조회 시 생략").optional(),
+                                parameterWithName("size").description("조회할 참여자 수").optional()
+                                        .attributes(key("format").value("1 ~ 100, 기본값 20"))
+                        ),
+                        responseFields(
+                                fieldWithPath("content[].challengeStatus").description("참여 상태"),
+                                fieldWithPath("content[].participatedUser.userId").description("참여자 ID"),
+                                fieldWithPath("content[].participatedUser.userName").description("참여자 이름"),
+                                fieldWithPath("content[].participatedUser.email").description("참여자 이메일"),
+                                fieldWithPath("nextCursor").description("다음 조회에 넘길 커서, 더 없으면 null")
+                                        .optional(),
+                                fieldWithPath("hasNext").description("다음 참여자 존재 여부")
                         )
                 ));
     }
@@ -256,11 +292,11 @@ public class ChallengeControllerDocTest extends RestDocsTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[*].title", contains(
-                        "제목입니다.2", "제목입니다.1", "제목입니다.6", "제목입니다.3", "제목입니다.4",
-                        "제목입니다.5", "제목입니다.7", "제목입니다.8", "제목입니다.9", "제목입니다.10")))
+                        "제목입니다.2", "제목입니다.6", "제목입니다.1", "제목입니다.10", "제목입니다.9",
+                        "제목입니다.8", "제목입니다.7", "제목입니다.5", "제목입니다.4", "제목입니다.3")))
                 .andExpect(jsonPath("$.content[*].content", contains(
-                        "내용입니다.2", "내용입니다.1", "내용입니다.6", "내용입니다.3", "내용입니다.4",
-                        "내용입니다.5", "내용입니다.7", "내용입니다.8", "내용입니다.9", "내용입니다.10")))
+                        "내용입니다.2", "내용입니다.6", "내용입니다.1", "내용입니다.10", "내용입니다.9",
+                        "내용입니다.8", "내용입니다.7", "내용입니다.5", "내용입니다.4", "내용입니다.3")))
                 .andExpect(jsonPath("$.content[*].challengeCategory",
                         hasItems(ChallengeCategory.ECONOMY.getDescription(), ChallengeCategory.STUDY.getDescription(),
                                 ChallengeCategory.WORKOUT.getDescription())))
@@ -393,9 +429,9 @@ public class ChallengeControllerDocTest extends RestDocsTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[*].title", contains(
-                        "제목입니다.2", "제목입니다.1", "제목입니다.6")))
+                        "제목입니다.2", "제목입니다.6", "제목입니다.1")))
                 .andExpect(jsonPath("$.content[*].content", contains(
-                        "내용입니다.2", "내용입니다.1", "내용입니다.6")))
+                        "내용입니다.2", "내용입니다.6", "내용입니다.1")))
                 .andExpect(jsonPath("$.content[*].challengeCategory",
                         hasItems(ECONOMY.getDescription(), STUDY.getDescription(),
                                 WORKOUT.getDescription())))
@@ -445,11 +481,11 @@ public class ChallengeControllerDocTest extends RestDocsTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[*].title",
-                        contains("제목입니다.6", "제목입니다.3", "제목입니다.4", "제목입니다.5", "제목입니다.7", "제목입니다.8",
-                                "제목입니다.9", "제목입니다.10")))
+                        contains("제목입니다.6", "제목입니다.10", "제목입니다.9", "제목입니다.8", "제목입니다.7", "제목입니다.5",
+                                "제목입니다.4", "제목입니다.3")))
                 .andExpect(jsonPath("$.content[*].content",
-                        contains("내용입니다.6", "내용입니다.3", "내용입니다.4", "내용입니다.5", "내용입니다.7", "내용입니다.8",
-                                "내용입니다.9", "내용입니다.10")))
+                        contains("내용입니다.6", "내용입니다.10", "내용입니다.9", "내용입니다.8", "내용입니다.7", "내용입니다.5",
+                                "내용입니다.4", "내용입니다.3")))
                 .andExpect(jsonPath("$.content[*].challengeCategory",
                         hasItem(ChallengeCategory.WORKOUT.getDescription())))
                 .andExpect(jsonPath("$.content[*].challengeLocation",
@@ -514,6 +550,34 @@ public class ChallengeControllerDocTest extends RestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("챌린지들을 커서로 이어서 조회하는 테스트")
+    public void searchChallengesByCursorTest() throws Exception {
+        initData();
+
+        mockMvc.perform(get("/challenge/cursor")
+                        .param("size", "3")
+                        .param("sort", "popular")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title",
+                        contains("제목입니다.2", "제목입니다.6", "제목입니다.1")))
+                .andDo(restDocs.document(
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor, 없으면 첫 페이지를 조회합니다.")
+                                        .optional(),
+                                parameterWithName("size").description("기본값: 10").optional(),
+                                parameterWithName("sort").description("기본값: popular-내림차순, popular 또는 time으로 정렬합니다.")
+                                        .optional()
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("content").description("Challenge 데이터"),
+                                fieldWithPath("nextCursor").description("다음 페이지를 조회할 커서, 마지막 페이지면 null"),
+                                fieldWithPath("hasNext").description("다음 페이지 존재 여부")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("챌린지들을 질문으로 조회하는 테스트")
     public void searchChallengesByQuestionTest() throws Exception {
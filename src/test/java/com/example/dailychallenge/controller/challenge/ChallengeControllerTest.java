@@ -25,11 +25,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.dailychallenge.dto.ChallengeCursor;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
 import com.example.dailychallenge.dto.HashtagDto;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.challenge.ChallengeRecommendationBuckets;
 import com.example.dailychallenge.util.ControllerTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
 import com.example.dailychallenge.vo.challenge.RequestCreateChallenge;
@@ -48,12 +50,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockPart;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.web.multipart.MultipartFile;
 
 class ChallengeControllerTest extends ControllerTest {
     @Autowired
     private TestDataSetup testDataSetup;
+    @Autowired
+    private ChallengeRecommendationBuckets challengeRecommendationBuckets;
 
     private User user;
     private RequestPostProcessor requestPostProcessor;
@@ -65,6 +70,14 @@ class ChallengeControllerTest extends ControllerTest {
         requestPostProcessor = getRequestPostProcessor(user);
     }
 
+    /**
+     * 테스트 트랜잭션 안에서 채운 추천 테이블을 롤백된 DB 기준으로 되돌린다.
+     */
+    @AfterTransaction
+    void afterTransaction() {
+        challengeRecommendationBuckets.rebuild();
+    }
+
     private void initChallengeData() {
         challenge1 = testDataSetup.챌린지를_생성한다(
                 "제목입니다.1",
@@ -130,7 +143,6 @@ class ChallengeControllerTest extends ControllerTest {
 //    @WithAuthUser
     void createChallengeTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         RequestCreateChallenge requestCreateChallenge = RequestCreateChallenge.builder()
                 .title("제목입니다.")
@@ -224,11 +236,11 @@ class ChallengeControllerTest extends ControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[*].title", contains(
-                        "제목입니다.2", "제목입니다.1", "제목입니다.6", "제목입니다.3", "제목입니다.4",
-                        "제목입니다.5", "제목입니다.7", "제목입니다.8", "제목입니다.9", "제목입니다.10")))
+                        "제목입니다.2", "제목입니다.6", "제목입니다.1", "제목입니다.10", "제목입니다.9",
+                        "제목입니다.8", "제목입니다.7", "제목입니다.5", "제목입니다.4", "제목입니다.3")))
                 .andExpect(jsonPath("$.content[*].content", contains(
-                        "내용입니다.2", "내용입니다.1", "내용입니다.6", "내용입니다.3", "내용입니다.4",
-                        "내용입니다.5", "내용입니다.7", "내용입니다.8", "내용입니다.9", "내용입니다.10")))
+                        "내용입니다.2", "내용입니다.6", "내용입니다.1", "내용입니다.10", "내용입니다.9",
+                        "내용입니다.8", "내용입니다.7", "내용입니다.5", "내용입니다.4", "내용입니다.3")))
                 .andExpect(jsonPath("$.content[*].challengeCategory",
                         hasItems(ECONOMY.getDescription(), STUDY.getDescription(),
                                 WORKOUT.getDescription())))
@@ -305,10 +317,10 @@ class ChallengeControllerTest extends ControllerTest {
                                 .title(null).category(WORKOUT.getDescription()).build(),
                         "popular",
                         List.of(
-                                contains("제목입니다.6", "제목입니다.3", "제목입니다.4", "제목입니다.5", "제목입니다.7", "제목입니다.8",
-                                        "제목입니다.9", "제목입니다.10"),
-                                contains("내용입니다.6", "내용입니다.3", "내용입니다.4", "내용입니다.5", "내용입니다.7", "내용입니다.8",
-                                        "내용입니다.9", "내용입니다.10"),
+                                contains("제목입니다.6", "제목입니다.10", "제목입니다.9", "제목입니다.8", "제목입니다.7", "제목입니다.5",
+                                        "제목입니다.4", "제목입니다.3"),
+                                contains("내용입니다.6", "내용입니다.10", "내용입니다.9", "내용입니다.8", "내용입니다.7", "내용입니다.5",
+                                        "내용입니다.4", "내용입니다.3"),
                                 hasItem(WORKOUT.getDescription()),
                                 hasItem(INDOOR.getDescription()),
                                 hasItem(WITHIN_TEN_MINUTES.getDescription()),
@@ -373,6 +385,58 @@ class ChallengeControllerTest extends ControllerTest {
                         user.getId().intValue())));
     }
 
+    @Test
+    @DisplayName("전체 개수 없이 모든 챌린지 조회 테스트")
+    void searchAllChallengesWithoutTotalCountTest() throws Exception {
+        initData();
+
+        mockMvc.perform(get("/challenge")
+                        .param("size", "4")
+                        .param("page", "0")
+                        .param("withTotalCount", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains(
+                        "제목입니다.2", "제목입니다.6", "제목입니다.1", "제목입니다.10")))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("모든 챌린지 커서 조회 테스트")
+    void searchAllChallengesByCursorTest() throws Exception {
+        initData();
+
+        mockMvc.perform(get("/challenge/cursor")
+                        .param("size", "3")
+                        .param("sort", "popular")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains(
+                        "제목입니다.2", "제목입니다.6", "제목입니다.1")))
+                .andExpect(jsonPath("$.content[*].howManyUsersAreInThisChallenge", contains(5, 2, 2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("정렬 기준과 맞지 않는 커서로 조회하면 예외 발생")
+    void searchChallengesByConditionAndCursorWithNotValidCursorTest() throws Exception {
+        initData();
+
+        String popularCursor = ChallengeCursor.popular(1L, challenge1.getId()).encode();
+
+        mockMvc.perform(get("/challenge/condition/cursor")
+                        .param("category", WORKOUT.getDescription())
+                        .param("cursor", popularCursor)
+                        .param("sort", "time")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."));
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
             "10, 2"
@@ -394,6 +458,7 @@ class ChallengeControllerTest extends ControllerTest {
     @DisplayName("챌린지들을 질문으로 찾는 테스트")
     void searchChallengesByQuestionTest() throws Exception {
         initData();
+        challengeRecommendationBuckets.rebuild();
 
         mockMvc.perform(get("/challenge/question")
                         .param("challengeLocationIndex", "1")
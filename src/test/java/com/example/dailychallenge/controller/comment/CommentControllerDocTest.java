@@ -145,7 +145,6 @@ public class CommentControllerDocTest {
         Challenge challenge = createChallenge();
         User user = challenge.getUsers();
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
         CommentDto commentDto = CommentDto.builder()
                 .content("댓글 내용")
                 .build();
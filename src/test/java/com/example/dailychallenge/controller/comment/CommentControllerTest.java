@@ -110,7 +110,6 @@ class CommentControllerTest extends ControllerTest {
             Challenge challenge = createChallenge();
             User user = challenge.getUsers();
             testDataSetup.saveUserBadgeEvaluation(user);
-            testDataSetup.saveBadgesAndUserBadges(user);
             CommentDto commentDto = CommentDto.builder()
                     .content("댓글 내용")
                     .build();
@@ -20,15 +20,18 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedR
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.dailychallenge.entity.challenge.Challenge;
-import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.challenge.ChallengeCheckInService;
 import com.example.dailychallenge.service.challenge.UserChallengeService;
 import com.example.dailychallenge.util.RestDocsTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
+import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,8 @@ public class UserChallengeControllerDocTest extends RestDocsTest {
     @Autowired
     private UserChallengeService userChallengeService;
     @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
     private TestDataSetup testDataSetup;
 
     private User user;
@@ -156,7 +161,6 @@ public class UserChallengeControllerDocTest extends RestDocsTest {
     @DisplayName("챌린지 달성 완료 테스트")
     void succeedInChallengeTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         mockMvc.perform(post("/challenge/{challengeId}/success", challenge1.getId())
                         .header(AUTHORIZATION, token)
@@ -199,7 +203,7 @@ public class UserChallengeControllerDocTest extends RestDocsTest {
     @Test
     @DisplayName("오늘 수행(성공)한 챌린지 조회 테스트")
     void getTodayUserChallengeTest() throws Exception {
-        UserChallenge userChallenge = userChallengeService.succeedInChallenge(user.getId(), challenge1.getId());
+        challengeCheckInService.succeed(user.getEmail(), challenge1.getId());
 
         mockMvc.perform(RestDocumentationRequestBuilders
                         .get("/user/done")
@@ -209,7 +213,7 @@ public class UserChallengeControllerDocTest extends RestDocsTest {
                 .andExpect(jsonPath("$[0].challengeId").value(challenge1.getId()))
                 .andExpect(jsonPath("$[0].challengeTitle").value(challenge1.getTitle()))
                 .andExpect(jsonPath("$[0].challengeContent").value(challenge1.getContent()))
-                .andExpect(jsonPath("$[0].challengeStatus").value(userChallenge.getChallengeStatus().toString()))
+                .andExpect(jsonPath("$[0].challengeStatus").value(ChallengeStatus.SUCCESS.toString()))
                 .andDo(restDocs.document(
                         relaxedResponseFields(
                                 fieldWithPath("[].userId").description("유저 ID"),
@@ -221,5 +225,63 @@ public class UserChallengeControllerDocTest extends RestDocsTest {
                         )
                 ));
     }
-}
 
+    @Test
+    @DisplayName("연속 달성 일수 조회 테스트")
+    void getAchievementStreakTest() throws Exception {
+        challengeCheckInService.succeed(user.getEmail(), challenge1.getId());
+
+        mockMvc.perform(RestDocumentationRequestBuilders
+                        .get("/challenge/{challengeId}/streak", challenge1.getId())
+                        .header(AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.challengeId").value(challenge1.getId()))
+                .andExpect(jsonPath("$.currentStreak").value(1))
+                .andExpect(jsonPath("$.longestStreak").value(1))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("challengeId").description("챌린지 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("challengeId").description("챌린지 ID"),
+                                fieldWithPath("currentStreak").description("현재 연속 달성 일수 (오늘 미달성이면 어제까지)"),
+                                fieldWithPath("longestStreak").description("최장 연속 달성 일수")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("월별 달성 달력 조회 테스트")
+    void getAchievementCalendarTest() throws Exception {
+        challengeCheckInService.succeed(user.getEmail(), challenge1.getId());
+        LocalDate today = LocalDate.now();
+
+        mockMvc.perform(RestDocumentationRequestBuilders
+                        .get("/challenge/{challengeId}/calendar", challenge1.getId())
+                        .header(AUTHORIZATION, token)
+                        .param("year", String.valueOf(today.getYear()))
+                        .param("month", String.valueOf(today.getMonthValue()))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(today.lengthOfMonth()))
+                .andExpect(jsonPath("$.days[" + (today.getDayOfMonth() - 1) + "]").value(true))
+                .andExpect(jsonPath("$.achievedCount").value(1))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("challengeId").description("챌린지 ID")
+                        ),
+                        requestParameters(
+                                parameterWithName("year").description("연도 (기본값 올해)").optional(),
+                                parameterWithName("month").description("월 (기본값 이번 달)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("challengeId").description("챌린지 ID"),
+                                fieldWithPath("year").description("연도"),
+                                fieldWithPath("month").description("월"),
+                                fieldWithPath("days").description("1일부터 말일까지 달성 여부"),
+                                fieldWithPath("achievedCount").description("달성한 일수")
+                        )
+                ));
+    }
+}
@@ -20,8 +20,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.dailychallenge.entity.challenge.Challenge;
-import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.service.challenge.ChallengeCheckInService;
 import com.example.dailychallenge.service.challenge.UserChallengeService;
 import com.example.dailychallenge.util.ControllerTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
@@ -36,6 +37,8 @@ class UserChallengeControllerTest extends ControllerTest {
     @Autowired
     private UserChallengeService userChallengeService;
     @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
     private TestDataSetup testDataSetup;
 
     private User user;
@@ -134,7 +137,6 @@ class UserChallengeControllerTest extends ControllerTest {
     @DisplayName("챌린지 달성 완료 테스트")
     void succeedInChallengeTest() throws Exception {
         testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
 
         mockMvc.perform(post("/challenge/{challengeId}/success", challenge1.getId())
                         .with(requestPostProcessor)
@@ -158,7 +160,7 @@ class UserChallengeControllerTest extends ControllerTest {
     @Test
     @DisplayName("오늘 수행(성공)한 챌린지 조회 테스트")
     void getTodayUserChallengeTest() throws Exception {
-        UserChallenge userChallenge = userChallengeService.succeedInChallenge(user.getId(), challenge1.getId());
+        challengeCheckInService.succeed(user.getEmail(), challenge1.getId());
 
         mockMvc.perform(get("/user/done")
                         .with(requestPostProcessor)
@@ -168,7 +170,30 @@ class UserChallengeControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$[0].challengeId").value(challenge1.getId()))
                 .andExpect(jsonPath("$[0].challengeTitle").value(challenge1.getTitle()))
                 .andExpect(jsonPath("$[0].challengeContent").value(challenge1.getContent()))
-                .andExpect(jsonPath("$[0].challengeStatus").value(userChallenge.getChallengeStatus().toString()))
+                .andExpect(jsonPath("$[0].challengeStatus").value(ChallengeStatus.SUCCESS.toString()))
                 .andExpect(jsonPath("$[0].createdAt").isNotEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("연속 달성 일수 조회 테스트")
+    void getAchievementStreakTest() throws Exception {
+        challengeCheckInService.succeed(user.getEmail(), challenge1.getId());
+
+        mockMvc.perform(get("/challenge/{challengeId}/streak", challenge1.getId())
+                        .with(requestPostProcessor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentStreak").value(1))
+                .andExpect(jsonPath("$.longestStreak").value(1));
+    }
+
+    @Test
+    @DisplayName("참가하지 않은 챌린지의 달성 달력을 조회하면 실패한다")
+    void getAchievementCalendarWithoutParticipationTest() throws Exception {
+        mockMvc.perform(get("/challenge/{challengeId}/calendar", challenge1.getId())
+                        .with(getRequestPostProcessor(otherUser))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("사용자의 참가를 찾을 수 없습니다."));
+    }
+}
@@ -446,13 +446,12 @@ public class UserControllerDocTest {
         User savedUser = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
 
         testDataSetup.챌린지에_참가한다(challenge, savedUser);
-        Comment comment = testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, "content");
-        testDataSetup.댓글에_이미지를_추가한다(comment);
-        testDataSetup.댓글에_이미지를_추가한다(comment);
+        testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, "content");
         testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, null);
 
         mockMvc.perform(RestDocumentationRequestBuilders
                         .get("/user/participate")
+                        .param("size", "20")
                         .header(AUTHORIZATION, generateToken())
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -462,7 +461,23 @@ public class UserControllerDocTest {
                         preprocessResponse(
                                 removeHeaders("Vary", "X-Content-Type-Options", "X-XSS-Protection", "Pragma", "Expires",
                                         "Cache-Control", "Strict-Transport-Security", "X-Frame-Options"),
-                                prettyPrint())));
+                                prettyPrint()),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor, 처음 조회 시 생략").optional(),
+                                parameterWithName("size").description("조회할 챌린지 수").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("content[].challengeId").description("챌린지 ID"),
+                                fieldWithPath("content[].challengeTitle").description("챌린지 제목"),
+                                fieldWithPath("content[].challengeContent").description("챌린지 내용"),
+                                fieldWithPath("content[].challengeStatus").description("참여 상태, 참여하지 않은 내 챌린지는 null")
+                                        .optional(),
+                                fieldWithPath("content[].createdByMe").description("내가 작성한 챌린지 여부"),
+                                fieldWithPath("content[].commentCount").description("챌린지 댓글 수"),
+                                fieldWithPath("content[].createdAt").description("챌린지 생성 시간"),
+                                fieldWithPath("nextCursor").description("다음 조회에 넘길 커서, 더 없으면 null").optional(),
+                                fieldWithPath("hasNext").description("다음 챌린지 존재 여부")
+                        )));
     }
 
     @Test
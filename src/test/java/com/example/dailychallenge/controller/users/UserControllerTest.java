@@ -8,9 +8,7 @@ import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture
 import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.createOtherUser;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.getRequestPostProcessor;
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.contains;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -22,7 +20,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.example.dailychallenge.dto.ChallengeDto;
 import com.example.dailychallenge.dto.UserDto;
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
 import com.example.dailychallenge.entity.challenge.ChallengeDuration;
@@ -36,7 +33,6 @@ import com.example.dailychallenge.exception.users.UserDuplicateCheck;
 import com.example.dailychallenge.exception.users.UserDuplicateNotCheck;
 import com.example.dailychallenge.exception.users.UserPasswordCheck;
 import com.example.dailychallenge.repository.UserRepository;
-import com.example.dailychallenge.repository.badge.BadgeRepository;
 import com.example.dailychallenge.repository.badge.UserBadgeRepository;
 import com.example.dailychallenge.service.challenge.ChallengeService;
 import com.example.dailychallenge.service.users.UserService;
@@ -84,8 +80,6 @@ class UserControllerTest {
     @Autowired
     private ChallengeService challengeService;
     @Autowired
-    private BadgeRepository badgeRepository;
-    @Autowired
     private UserBadgeRepository userBadgeRepository;
     @Autowired
     private MockMvc mockMvc;
@@ -396,32 +390,27 @@ class UserControllerTest {
         User savedUser = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
 
         UserChallenge userChallenge = testDataSetup.챌린지에_참가한다(challenge, savedUser);
-        Comment comment = testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, "content");
-        CommentImg commentImg1 = testDataSetup.댓글에_이미지를_추가한다(comment);
-        CommentImg commentImg2 = testDataSetup.댓글에_이미지를_추가한다(comment);
+        testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, "content");
         testDataSetup.챌린지에_댓글을_단다(challenge, savedUser, null);
 
         mockMvc.perform(get("/user/participate")
                         .with(getRequestPostProcessor(savedUser))
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].userId").value(savedUser.getId()))
-                .andExpect(jsonPath("$[0].challengeId").value(challenge.getId()))
-                .andExpect(jsonPath("$[0].challengeTitle").value(challenge.getTitle()))
-                .andExpect(jsonPath("$[0].challengeContent").value(challenge.getContent()))
-                .andExpect(jsonPath("$[0].challengeStatus").value(userChallenge.getChallengeStatus().toString()))
-                .andExpect(jsonPath("$[0].createdAt").isNotEmpty())
-                .andExpect(jsonPath("$[0].comments.[0].commentId").isNotEmpty())
-                .andExpect(jsonPath("$[0].comments.[0].commentContent").value(comment.getContent()))
-                .andExpect(jsonPath("$[0].comments.[0].commentImgs",
-                        contains(commentImg1.getImgUrl(), commentImg2.getImgUrl())))
-                .andExpect(jsonPath("$[0].comments.[0].commentCreatedAt").value(comment.getMonthDayFormatCreatedAt()))
+                .andExpect(jsonPath("$.content[0].challengeId").value(challenge.getId()))
+                .andExpect(jsonPath("$.content[0].challengeTitle").value(challenge.getTitle()))
+                .andExpect(jsonPath("$.content[0].challengeContent").value(challenge.getContent()))
+                .andExpect(jsonPath("$.content[0].challengeStatus").value(userChallenge.getChallengeStatus().toString()))
+                .andExpect(jsonPath("$.content[0].createdByMe").value(false))
+                .andExpect(jsonPath("$.content[0].commentCount").value(2))
+                .andExpect(jsonPath("$.content[0].createdAt").isNotEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false))
                 .andDo(print());
     }
 
     @Test
-    @DisplayName("회원가입하면 뱃지 생성되는지 테스트")
-    void createBadgesWhenNewUserTest() throws Exception {
+    @DisplayName("회원가입할 때 유저 뱃지는 저장하지 않는 테스트")
+    void noUserBadgesWhenNewUserTest() throws Exception {
         RequestUser requestUser = RequestUser.builder()
                 .userName("GilDong")
                 .email("test@test.com")
@@ -435,10 +424,7 @@ class UserControllerTest {
                 .andExpect(status().isCreated())
                 .andDo(print());
 
-        List<Badge> badges = badgeRepository.findAll();
-        assertEquals(15, badges.size());
-        assertThat(badges).extracting("imgUrl").isNotEmpty();
-        assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
+        assertTrue(userBadgeRepository.findAll().isEmpty());
     }
 
     @Test
@@ -0,0 +1,57 @@
+package com.example.dailychallenge.repsoitory.badge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_EMAIL;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_USERNAME;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import com.example.dailychallenge.util.RepositoryTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserBadgeEvaluationRepositoryCustomImplTest extends RepositoryTest {
+
+    @Autowired
+    private UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("카운터를 올리고 올린 뒤의 값을 반환하는 테스트")
+    void increaseTest() {
+        User user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        UserBadgeEvaluation userBadgeEvaluation = testDataSetup.saveUserBadgeEvaluation(user);
+
+        assertEquals(Optional.of(1), userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.ACHIEVEMENT, 1));
+        assertEquals(Optional.of(2), userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.ACHIEVEMENT, 1));
+        assertEquals(Optional.of(1), userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.CHALLENGE_CREATE, 1));
+        assertEquals(Optional.of(1), userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.COMMENT_WRITE, 1));
+        assertEquals(Optional.of(4), userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.COMMENT_WRITE, 3));
+
+        entityManager.refresh(userBadgeEvaluation);
+        assertEquals(2, userBadgeEvaluation.getNumberOfAchievement());
+        assertEquals(1, userBadgeEvaluation.getNumberOfChallengeCreate());
+        assertEquals(4, userBadgeEvaluation.getNumberOfCommentWrite());
+    }
+
+    @Test
+    @DisplayName("뱃지 평가가 없는 유저는 empty 를 반환하는 테스트")
+    void increaseWithoutEvaluationTest() {
+        User user = testDataSetup.saveUser(OTHER_USERNAME, OTHER_EMAIL, PASSWORD);
+
+        assertTrue(userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.COMMENT_WRITE, 1).isEmpty());
+    }
+}
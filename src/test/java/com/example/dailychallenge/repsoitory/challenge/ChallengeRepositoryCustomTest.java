@@ -50,6 +50,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 public class ChallengeRepositoryCustomTest extends RepositoryTest {
 
@@ -131,6 +134,7 @@ public class ChallengeRepositoryCustomTest extends RepositoryTest {
     private void saveChallengeParticipate(ChallengeStatus challengeStatus, User user, Challenge challenge) {
         UserChallenge userChallenge = createSpecificUserChallenge(challengeStatus, user, challenge);
         userChallengeRepository.save(userChallenge);
+        challengeRepository.increaseParticipantCount(challenge.getId());
     }
 
     private void saveChallengeHashtags(List<String> hashtagDto, Challenge challenge) {
@@ -178,6 +182,24 @@ public class ChallengeRepositoryCustomTest extends RepositoryTest {
         }
     }
 
+    @Test
+    @DisplayName("해시태그로 챌린지들 조회 시 이미지, 해시태그, 작성자, 참여자 수를 함께 조립하는 테스트")
+    void searchChallengeByHashtagTest() {
+        Page<ResponseChallenge> results = challengeRepository.searchChallengeByHashtag("tag2",
+                PageRequest.of(0, 10, Sort.by("popular")));
+
+        assertAll(() -> {
+            assertEquals(1, results.getTotalElements());
+            ResponseChallenge result = results.getContent().get(0);
+            assertEquals(challenge1.getId(), result.getId());
+            assertEquals(List.of("imgUrl", "imgUrl"), result.getChallengeImgUrls());
+            assertEquals(List.of("tag1", "tag2", "tag3"), result.getChallengeHashtags());
+            assertEquals(2L, result.getHowManyUsersAreInThisChallenge());
+            assertEquals(user.getId(), result.getChallengeOwnerUser().getUserId());
+            assertEquals(user.getEmail(), result.getChallengeOwnerUser().getEmail());
+        });
+    }
+
     @Test
     @DisplayName("질문으로 챌린지들 조회 테스트")
     void searchChallengesByQuestionTest() {
@@ -216,4 +238,21 @@ public class ChallengeRepositoryCustomTest extends RepositoryTest {
             }
         });
     }
+
+    @Test
+    @DisplayName("참여자 수가 실제 참여 수와 다르면 보정하는 테스트")
+    void reconcileParticipantCountsTest() {
+        User otherUser = testDataSetup.saveUser(USERNAME + 100, "100@test.com", PASSWORD);
+        userChallengeRepository.save(createSpecificUserChallenge(TRYING, otherUser, challenge1));
+
+        long reconciled = challengeRepository.reconcileParticipantCounts();
+        ResponseChallenge responseChallenge = challengeRepository.searchChallengeById(challenge1.getId())
+                .orElseThrow(ChallengeNotFound::new);
+
+        assertAll(() -> {
+            assertEquals(1L, reconciled);
+            assertEquals(3L, responseChallenge.getHowManyUsersAreInThisChallenge());
+            assertEquals(0L, challengeRepository.reconcileParticipantCounts());
+        });
+    }
 }
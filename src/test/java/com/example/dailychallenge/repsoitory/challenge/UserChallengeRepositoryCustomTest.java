@@ -19,8 +19,12 @@ import static com.example.dailychallenge.util.fixture.userChallenge.UserChalleng
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.dailychallenge.dto.ChallengeCursor;
 import com.example.dailychallenge.dto.ChallengeSearchCondition;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeCategory;
@@ -39,11 +43,20 @@ import com.example.dailychallenge.repository.HashtagRepository;
 import com.example.dailychallenge.repository.UserChallengeRepository;
 import com.example.dailychallenge.repository.UserRepository;
 import com.example.dailychallenge.util.RepositoryTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
 import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseMyChallengeSlice;
+import com.example.dailychallenge.vo.challenge.ResponseUserChallengeSlice;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -54,6 +67,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 public class UserChallengeRepositoryCustomTest extends RepositoryTest {
@@ -70,9 +84,14 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
     private ChallengeHashtagRepository challengeHashtagRepository;
     @Autowired
     private HashtagRepository hashtagRepository;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
 
     private User savedUser;
     private Challenge challenge1;
+    private Challenge challenge2;
 
     @BeforeEach
     void beforeEach() throws InterruptedException {
@@ -87,7 +106,7 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
         saveChallengeParticipate(TRYING, savedUser, challenge1);
         saveChallengeHashtags(List.of("tag1", "tag2", "tag3"), challenge1);
 
-        Challenge challenge2 = saveChallenge("제목입니다.2", "내용입니다.2", ECONOMY, OUTDOOR, OVER_ONE_HOUR, savedUser);
+        challenge2 = saveChallenge("제목입니다.2", "내용입니다.2", ECONOMY, OUTDOOR, OVER_ONE_HOUR, savedUser);
         saveChallengeParticipate(PAUSE, savedUser, challenge2);
 
         Challenge challenge6 = null;
@@ -144,6 +163,7 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
     private void saveChallengeParticipate(ChallengeStatus challengeStatus, User user, Challenge challenge) {
         UserChallenge userChallenge = createSpecificUserChallenge(challengeStatus, user, challenge);
         userChallengeRepository.save(userChallenge);
+        challengeRepository.increaseParticipantCount(challenge.getId());
     }
 
     private void saveChallengeHashtags(List<String> hashtagDto, Challenge challenge) {
@@ -196,19 +216,19 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
 
             assertAll(() -> {
                 assertThat(results).extracting("title").containsExactlyElementsOf(
-                        List.of("제목입니다.2", "제목입니다.1", "제목입니다.6", "제목입니다.3", "제목입니다.4", "제목입니다.5",
-                                "제목입니다.7", "제목입니다.8", "제목입니다.9", "제목입니다.10"));
+                        List.of("제목입니다.2", "제목입니다.6", "제목입니다.1", "제목입니다.10", "제목입니다.9", "제목입니다.8",
+                                "제목입니다.7", "제목입니다.5", "제목입니다.4", "제목입니다.3"));
                 assertThat(results).extracting("content").containsExactlyElementsOf(
-                        List.of("내용입니다.2", "내용입니다.1", "내용입니다.6", "내용입니다.3", "내용입니다.4", "내용입니다.5",
-                                "내용입니다.7", "내용입니다.8", "내용입니다.9", "내용입니다.10"));
+                        List.of("내용입니다.2", "내용입니다.6", "내용입니다.1", "내용입니다.10", "내용입니다.9", "내용입니다.8",
+                                "내용입니다.7", "내용입니다.5", "내용입니다.4", "내용입니다.3"));
                 assertThat(results).extracting("challengeCategory").containsExactlyElementsOf(
-                        List.of("경제", "공부", "운동", "운동", "운동", "운동", "운동", "운동", "운동", "운동"));
+                        List.of("경제", "운동", "공부", "운동", "운동", "운동", "운동", "운동", "운동", "운동"));
                 assertThat(results).extracting("created_at").isNotEmpty();
                 assertThat(results).extracting("challengeImgUrls").containsExactlyElementsOf(
-                        List.of(emptyList(), List.of("imgUrl", "imgUrl"), emptyList(), emptyList(), emptyList(), emptyList(),
+                        List.of(emptyList(), emptyList(), List.of("imgUrl", "imgUrl"), emptyList(), emptyList(), emptyList(),
                                 emptyList(), emptyList(), emptyList(), emptyList()));
                 assertThat(results).extracting("challengeHashtags").containsExactlyElementsOf(
-                        List.of(emptyList(), List.of("tag1", "tag2", "tag3"), emptyList(), emptyList(), emptyList(), emptyList(),
+                        List.of(emptyList(), emptyList(), List.of("tag1", "tag2", "tag3"), emptyList(), emptyList(), emptyList(),
                                 emptyList(), emptyList(), emptyList(), emptyList()));
                 assertThat(results).extracting("howManyUsersAreInThisChallenge")
                         .containsExactlyElementsOf(List.of(5L, 2L, 2L, 1L, 1L, 1L, 1L, 1L, 1L, 1L));
@@ -261,6 +281,41 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
         }
     }
 
+    @Test
+    @DisplayName("total 없이 다음 페이지 존재 여부만 조회하는 테스트")
+    void sliceAllChallenges() {
+        Slice<ResponseChallenge> firstSlice = userChallengeRepository.sliceAllChallenges(
+                PageRequest.of(0, 4, Sort.by("popular")));
+        Slice<ResponseChallenge> lastSlice = userChallengeRepository.sliceAllChallenges(
+                PageRequest.of(2, 4, Sort.by("popular")));
+
+        assertAll(() -> {
+            assertThat(firstSlice).extracting("title").containsExactlyElementsOf(
+                    List.of("제목입니다.2", "제목입니다.6", "제목입니다.1", "제목입니다.10"));
+            assertTrue(firstSlice.hasNext());
+            assertThat(lastSlice).extracting("title").containsExactlyElementsOf(
+                    List.of("제목입니다.4", "제목입니다.3"));
+            assertFalse(lastSlice.hasNext());
+        });
+    }
+
+    @Test
+    @DisplayName("페이지 조회의 total 은 count 쿼리로 계산하는 테스트")
+    void searchChallengesByConditionTotal() {
+        ChallengeSearchCondition condition = ChallengeSearchCondition.builder()
+                .title("제목").category(ChallengeCategory.WORKOUT.getDescription()).build();
+
+        Page<ResponseChallenge> results = userChallengeRepository.searchChallengesByCondition(condition,
+                PageRequest.of(1, 3, Sort.by("time")));
+
+        assertAll(() -> {
+            assertThat(results.getTotalElements()).isEqualTo(8);
+            assertThat(results.getTotalPages()).isEqualTo(3);
+            assertThat(results).extracting("title").containsExactlyElementsOf(
+                    List.of("제목입니다.7", "제목입니다.6", "제목입니다.5"));
+        });
+    }
+
     static Stream<Arguments> generateConditionData() {
         return Stream.of(
                 Arguments.of(ChallengeSearchCondition.builder()
@@ -270,8 +325,8 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
                 Arguments.of(ChallengeSearchCondition.builder()
                                 .title(null).category(ChallengeCategory.WORKOUT.getDescription()).build(),
                         "popular",
-                        List.of("제목입니다.6", "제목입니다.3", "제목입니다.4", "제목입니다.5", "제목입니다.7", "제목입니다.8",
-                                "제목입니다.9", "제목입니다.10")),
+                        List.of("제목입니다.6", "제목입니다.10", "제목입니다.9", "제목입니다.8", "제목입니다.7", "제목입니다.5",
+                                "제목입니다.4", "제목입니다.3")),
                 Arguments.of(ChallengeSearchCondition.builder()
                                 .title(null).category(ChallengeCategory.WORKOUT.getDescription()).build(),
                         "time",
@@ -301,4 +356,114 @@ public class UserChallengeRepositoryCustomTest extends RepositoryTest {
                     .contains(savedUser.getUserName());
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("generateConditionData")
+    @DisplayName("커서로 이어서 조회하면 페이지 조회와 같은 순서로 모든 챌린지들을 찾는 테스트")
+    void searchChallengesByCursor(ChallengeSearchCondition condition, String sortProperties, List<String> expect) {
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        ResponseChallengeSlice slice;
+        do {
+            slice = userChallengeRepository.searchChallengesByCursor(condition, sortProperties,
+                    ChallengeCursor.decode(cursor, sortProperties), 3);
+            slice.getContent().forEach(responseChallenge -> titles.add(responseChallenge.getTitle()));
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        ResponseChallengeSlice lastSlice = slice;
+        assertAll(() -> {
+            assertThat(titles).containsExactlyElementsOf(expect);
+            assertFalse(lastSlice.isHasNext());
+            assertNull(lastSlice.getNextCursor());
+        });
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 챌린지 참여자들을 참여 순서대로 찾는 테스트")
+    void searchParticipantsByCursor() {
+        List<String> userNames = new ArrayList<>();
+        Long cursor = null;
+        ResponseUserChallengeSlice slice;
+        do {
+            slice = userChallengeRepository.searchParticipantsByCursor(challenge2.getId(), cursor, 2);
+            slice.getContent().forEach(responseUserChallenge -> {
+                assertThat(responseUserChallenge.getChallengeStatus()).isEqualTo(PAUSE.getDescription());
+                userNames.add(responseUserChallenge.getParticipatedUser().getUserName());
+            });
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        ResponseUserChallengeSlice lastSlice = slice;
+        assertAll(() -> {
+            assertThat(userNames).containsExactly("홍길동", "홍길동2", "홍길동3", "홍길동4", "홍길동5");
+            assertThat(lastSlice.getContent()).hasSize(1);
+            assertNull(lastSlice.getNextCursor());
+        });
+    }
+
+    @Test
+    @DisplayName("내가 작성한 챌린지와 참여 중인 챌린지를 중복 없이 id 순서대로 이어서 찾는 테스트")
+    void searchMyChallengesByCursor() {
+        User user = saveUser("김철수", "a@a.com");
+        Challenge created = saveChallenge("내 챌린지", "내용", STUDY, INDOOR, WITHIN_TEN_MINUTES, user);
+        participate(user, created);
+        Challenge notParticipated = saveChallenge("참여 안 한 내 챌린지", "내용", STUDY, INDOOR, WITHIN_TEN_MINUTES, user);
+        participate(user, challenge1);
+        UserChallenge left = participate(user, challenge2);
+        left.challengeLeave();
+        testDataSetup.챌린지에_댓글을_단다(challenge1, savedUser);
+        testDataSetup.챌린지에_댓글을_단다(challenge1, user);
+
+        List<ResponseMyChallenge> content = new ArrayList<>();
+        Long cursor = null;
+        ResponseMyChallengeSlice slice;
+        do {
+            slice = userChallengeRepository.searchMyChallengesByCursor(user.getId(), cursor, 2);
+            content.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        assertThat(content).extracting(ResponseMyChallenge::getChallengeId)
+                .containsExactly(challenge1.getId(), created.getId(), notParticipated.getId());
+        assertThat(content).extracting(ResponseMyChallenge::getChallengeStatus)
+                .containsExactly(TRYING, TRYING, null);
+        assertThat(content).extracting(ResponseMyChallenge::isCreatedByMe)
+                .containsExactly(false, true, true);
+        assertThat(content).extracting(ResponseMyChallenge::getCommentCount)
+                .containsExactly(2L, 0L, 0L);
+        assertNull(slice.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("참여 중인 챌린지를 작성자까지 조회 한 번으로 읽는 테스트")
+    void findParticipatingWithChallengeByUserId() {
+        User author = saveUser("김철수", "a@a.com");
+        Challenge authored = saveChallenge("남의 챌린지", "내용", STUDY, INDOOR, WITHIN_TEN_MINUTES, author);
+        participate(savedUser, authored);
+        testDataSetup.saveUserBadgeEvaluation(author);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<UserChallenge> userChallenges = userChallengeRepository.findParticipatingWithChallengeByUserId(
+                    savedUser.getId());
+
+            assertThat(userChallenges).extracting(userChallenge -> userChallenge.getChallenge().getUsers().getId())
+                    .containsExactly(author.getId());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityFetchCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private UserChallenge participate(User user, Challenge challenge) {
+        UserChallenge userChallenge = createSpecificUserChallenge(TRYING, user, challenge);
+        userChallenge.challengeParticipate();
+        return userChallengeRepository.save(userChallenge);
+    }
 }
@@ -21,6 +21,7 @@ import com.example.dailychallenge.vo.ResponseChallengeComment;
 import com.example.dailychallenge.vo.ResponseChallengeCommentImg;
 import com.example.dailychallenge.vo.ResponseUserComment;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -246,4 +247,49 @@ class CommentRepositoryCustomImplTest extends RepositoryTest {
                             List.of("images/test.png9"));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("챌린지마다 최근 댓글을 정해진 개수만큼 최신순으로 한 번에 조회하는 테스트")
+    void findLatestCommentsByChallengeIdsTest() {
+        Challenge otherChallenge = createChallenge();
+        otherChallenge.setUser(savedUser);
+        challengeRepository.save(otherChallenge);
+        Challenge emptyChallenge = createChallenge();
+        emptyChallenge.setUser(savedUser);
+        challengeRepository.save(emptyChallenge);
+        for (int i = 0; i < 5; i++) {
+            saveComment("댓글 내용" + i, challenge);
+        }
+        Comment otherComment = saveComment("다른 챌린지 댓글", otherChallenge);
+        CommentImg commentImg = CommentImg.builder()
+                .imgName("imgName")
+                .oriImgName("oriImgName")
+                .imgUrl("images/abcdefg.jpg")
+                .build();
+        commentImg.saveComment(otherComment);
+        otherComment.addCommentImg(commentImg);
+        commentImgRepository.save(commentImg);
+
+        Map<Long, List<Comment>> results = commentRepository.findLatestCommentsByChallengeIds(
+                List.of(challenge.getId(), otherChallenge.getId(), emptyChallenge.getId()), 3);
+
+        assertAll(() -> {
+            assertThat(results.get(challenge.getId())).extracting("content")
+                    .containsExactly("댓글 내용4", "댓글 내용3", "댓글 내용2");
+            assertThat(results.get(otherChallenge.getId())).extracting("content")
+                    .containsExactly("다른 챌린지 댓글");
+            assertThat(results.get(otherChallenge.getId()).get(0).getImgUrls())
+                    .containsExactly("images/abcdefg.jpg");
+            assertThat(results).doesNotContainKey(emptyChallenge.getId());
+        });
+    }
+
+    private Comment saveComment(String content, Challenge challenge) {
+        Comment comment = Comment.builder()
+                .content(content)
+                .build();
+        comment.saveCommentChallenge(challenge);
+        comment.saveCommentUser(savedUser);
+        return commentRepository.save(comment);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.dailychallenge.repsoitory.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.dailychallenge.repository.support.TotalCountCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TotalCountCacheTest {
+
+    private final TotalCountCache totalCountCache = new TotalCountCache();
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋된 뒤에 비워지는 테스트")
+    void evictAfterCommitTest() {
+        totalCountCache.get("total", () -> 1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            totalCountCache.evictAll();
+            assertEquals(1, totalCountCache.get("total", () -> 2)); // 커밋 전에는 그대로
+
+            for (TransactionSynchronization synchronization
+                    : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2, totalCountCache.get("total", () -> 2));
+    }
+
+    @Test
+    @DisplayName("세는 동안 비워지면 센 값을 캐시하지 않는 테스트")
+    void notCachedWhenEvictedWhileCountingTest() {
+        assertEquals(1, totalCountCache.get("total", () -> {
+            totalCountCache.evictAll();
+            return 1;
+        }));
+
+        assertEquals(2, totalCountCache.get("total", () -> 2));
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.dailychallenge.service.badge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.Badge;
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.entity.badge.UserBadge;
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import com.example.dailychallenge.entity.comment.Comment;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.AuthorizationException;
+import com.example.dailychallenge.exception.badge.BadgeRecomputeInProgress;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.CommentRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.repository.badge.BadgeOutboxRepository;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import com.example.dailychallenge.repository.badge.UserBadgeRepository;
+import com.example.dailychallenge.repository.challenge.UserChallengeHistoryRepository;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.util.fixture.TestImgCleanup;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute.Status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재계산은 별도 스레드에서 돌고 구간마다 다른 스레드의 트랜잭션에서 처리하므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({TestImgCleanup.class, TestDataSetup.class})
+class BadgeCounterRecomputeServiceTest {
+
+    private static final String ADMIN_EMAIL = "admin@test.com";
+
+    @Autowired
+    private BadgeCounterRecomputeService badgeCounterRecomputeService;
+    @Autowired
+    private UserBadgeService userBadgeService;
+    @Autowired
+    private BadgeOutboxService badgeOutboxService;
+    @Autowired
+    private BadgeOutboxRepository badgeOutboxRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private UserChallengeRepository userChallengeRepository;
+    @Autowired
+    private UserChallengeHistoryRepository userChallengeHistoryRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    @Autowired
+    private UserBadgeRepository userBadgeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    private Long writerId;
+    private Long commenterId;
+    private Long challengeId;
+
+    /**
+     * writer: 챌린지 10개 생성, 달성 기록 12일, 후기 3개. 카운터는 어긋나 있고 챌린지 10개 달성, 후기 10개 작성 뱃지를 이미 얻었다.
+     * 저장된 달성 카운터는 15 라서 달성 기록보다 크다.
+     * commenter: 뱃지 평가 없이 후기 1개
+     */
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User writer = saveUser("recompute-writer@test.com");
+            User commenter = saveUser("recompute-commenter@test.com");
+            writerId = writer.getId();
+            commenterId = commenter.getId();
+
+            userBadgeEvaluationRepository.save(UserBadgeEvaluation.builder()
+                    .users(writer)
+                    .build());
+            userBadgeEvaluationRepository.updateCounters(writerId, Map.of(
+                    BadgeMetric.ACHIEVEMENT, 15,
+                    BadgeMetric.CHALLENGE_CREATE, 2,
+                    BadgeMetric.COMMENT_WRITE, 99));
+            userBadgeService.earnBadge(writerId, "챌린지 10개 달성");
+            userBadgeService.earnBadge(writerId, "후기 10개 작성");
+
+            Challenge challenge = null;
+            for (int i = 1; i <= 10; i++) {
+                challenge = Challenge.builder()
+                        .title("제목입니다." + i)
+                        .content("내용입니다." + i)
+                        .challengeCategory(ChallengeCategory.STUDY)
+                        .build();
+                challenge.setUser(writer);
+                challengeRepository.save(challenge);
+            }
+
+            UserChallenge userChallenge = UserChallenge.builder()
+                    .challengeStatus(ChallengeStatus.TRYING)
+                    .users(writer)
+                    .challenge(challenge)
+                    .build();
+            userChallenge.setUser(writer);
+            userChallenge.setChallenge(challenge);
+            userChallengeRepository.save(userChallenge);
+            UserChallengeHistory history = UserChallengeHistory.builder()
+                    .userChallenge(userChallenge)
+                    .year(2026)
+                    .build();
+            for (int day = 1; day <= 12; day++) {
+                history.achieve(LocalDate.of(2026, 1, day));
+            }
+            userChallenge.getHistories().add(history);
+            userChallengeHistoryRepository.save(history);
+
+            for (int i = 0; i < 3; i++) {
+                saveComment(challenge, writer);
+            }
+            saveComment(challenge, commenter);
+            challengeId = challenge.getId();
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(commenterId));
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(writerId));
+    }
+
+    @Test
+    @DisplayName("원본 테이블에서 카운터를 다시 세고 빠진 뱃지 평가와 얻은 뱃지를 채우는 테스트")
+    void recomputeTest() throws InterruptedException {
+        ResponseBadgeRecompute response = recompute();
+
+        assertEquals(Status.COMPLETED, response.getStatus());
+        UserBadgeEvaluation writerEvaluation = findEvaluation(writerId);
+        // 달성 기록에는 과거 달성이 다 들어 있지 않으므로 달성 카운터는 다시 세지 않는다
+        assertEquals(15, writerEvaluation.getNumberOfAchievement());
+        assertEquals(10, writerEvaluation.getNumberOfChallengeCreate());
+        assertEquals(3, writerEvaluation.getNumberOfCommentWrite());
+        // 이미 얻은 뱃지는 카운터가 줄어도 그대로 두고, 챌린지 10개 생성 뱃지만 새로 채운다
+        assertEquals(List.of("챌린지 10개 달성", "챌린지 10개 생성", "후기 10개 작성"), earnedBadgeNames(writerId));
+        long writerBadgeVersion = transactionTemplate.execute(status -> userRepository.findById(writerId).orElseThrow()
+                .getBadgeVersion());
+        assertEquals(3, writerBadgeVersion);
+
+        UserBadgeEvaluation commenterEvaluation = findEvaluation(commenterId);
+        assertEquals(0, commenterEvaluation.getNumberOfAchievement());
+        assertEquals(0, commenterEvaluation.getNumberOfChallengeCreate());
+        assertEquals(1, commenterEvaluation.getNumberOfCommentWrite());
+        assertTrue(earnedBadgeNames(commenterId).isEmpty());
+
+        assertTrue(response.getUsers() >= 2);
+        assertTrue(response.getUpdatedCounters() >= 2);
+        assertTrue(response.getEarnedBadges() >= 1);
+        assertTrue(response.getPartitions() >= 1);
+    }
+
+    @Test
+    @DisplayName("다시 재계산하면 바뀌는 카운터와 채울 뱃지가 없는 테스트")
+    void recomputeIdempotentTest() throws InterruptedException {
+        recompute();
+
+        ResponseBadgeRecompute response = recompute();
+
+        assertEquals(0, response.getUpdatedCounters());
+        assertEquals(0, response.getEarnedBadges());
+        assertEquals(3, findEvaluation(writerId).getNumberOfCommentWrite());
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 아웃박스 이벤트의 몫은 빼고 저장해 이벤트를 처리한 뒤에 원본과 맞는 테스트")
+    void recomputeWithPendingOutboxTest() throws InterruptedException {
+        Long outboxId = transactionTemplate.execute(status -> {
+            saveComment(challengeRepository.findById(challengeId).orElseThrow(),
+                    userRepository.findById(writerId).orElseThrow());
+            return badgeOutboxService.record(writerId, BadgeOutboxType.COMMENT_WRITTEN);
+        });
+
+        try {
+            recompute();
+            badgeOutboxService.process(outboxId);
+
+            assertEquals(4, findEvaluation(writerId).getNumberOfCommentWrite());
+        } finally {
+            badgeOutboxRepository.deleteById(outboxId);
+        }
+    }
+
+    @Test
+    @DisplayName("재계산은 시작만 하고 바로 반환하며, 진행 중에는 다시 시작할 수 없는 테스트")
+    void startTest() throws InterruptedException {
+        testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(ADMIN_EMAIL);
+
+        ResponseBadgeRecompute started = badgeCounterRecomputeService.start(ADMIN_EMAIL);
+
+        assertEquals(Status.RUNNING, started.getStatus());
+        if (badgeCounterRecomputeService.getStatus(ADMIN_EMAIL).getStatus() == Status.RUNNING) {
+            assertThrows(BadgeRecomputeInProgress.class, () -> badgeCounterRecomputeService.start(ADMIN_EMAIL));
+        }
+        assertEquals(Status.COMPLETED, testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(ADMIN_EMAIL).getStatus());
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 재계산할 수 없는 테스트")
+    void recomputeNotAdminTest() {
+        assertThrows(AuthorizationException.class,
+                () -> badgeCounterRecomputeService.start("recompute-writer@test.com"));
+        assertThrows(AuthorizationException.class,
+                () -> badgeCounterRecomputeService.getStatus("recompute-writer@test.com"));
+    }
+
+    private ResponseBadgeRecompute recompute() throws InterruptedException {
+        testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(ADMIN_EMAIL);
+        badgeCounterRecomputeService.start(ADMIN_EMAIL);
+        return testDataSetup.뱃지_재계산이_끝날_때까지_기다린다(ADMIN_EMAIL);
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .userName(USERNAME)
+                .email(email)
+                .password(PASSWORD)
+                .build());
+    }
+
+    private void saveComment(Challenge challenge, User user) {
+        Comment comment = Comment.builder()
+                .content("content")
+                .build();
+        comment.saveCommentChallenge(challenge);
+        comment.saveCommentUser(user);
+        commentRepository.save(comment);
+    }
+
+    private UserBadgeEvaluation findEvaluation(Long userId) {
+        return transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow()
+                .getUserBadgeEvaluation());
+    }
+
+    private List<String> earnedBadgeNames(Long userId) {
+        return transactionTemplate.execute(status -> userBadgeRepository.findAllByUsersIdAndStatusTrue(userId).stream()
+                .map(UserBadge::getBadge)
+                .map(Badge::getName)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList()));
+    }
+}
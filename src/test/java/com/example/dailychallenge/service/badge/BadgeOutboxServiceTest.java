@@ -0,0 +1,152 @@
+package com.example.dailychallenge.service.badge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.BadgeOutbox;
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.entity.badge.UserBadge;
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.badge.BadgeOutboxRepository;
+import com.example.dailychallenge.util.ServiceTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BadgeOutboxServiceTest extends ServiceTest {
+    @Autowired
+    private BadgeOutboxService badgeOutboxService;
+    @Autowired
+    private BadgeOutboxRepository badgeOutboxRepository;
+    @Autowired
+    private UserBadgeService userBadgeService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private UserBadgeEvaluation userBadgeEvaluation;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        userBadgeEvaluation = testDataSetup.saveUserBadgeEvaluation(user);
+    }
+
+    @Test
+    @DisplayName("이벤트를 처리하면 평가 카운터가 오르고 기준에 닿으면 뱃지를 얻는다")
+    void processTest() {
+        List<Long> outboxIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            outboxIds.add(badgeOutboxService.record(user.getId(), BadgeOutboxType.COMMENT_WRITTEN));
+        }
+
+        outboxIds.forEach(badgeOutboxService::process);
+
+        entityManager.refresh(userBadgeEvaluation);
+        assertEquals(10, userBadgeEvaluation.getNumberOfCommentWrite());
+        assertTrue(badgeOutboxRepository.findById(outboxIds.get(9)).orElseThrow().isProcessed());
+        List<UserBadge> newBadges = userBadgeService.findNewBadges(user.getId());
+        assertEquals(1, newBadges.size());
+        assertEquals("후기 10개 작성", newBadges.get(0).getBadge().getName());
+    }
+
+    @Test
+    @DisplayName("이미 처리한 이벤트는 다시 반영하지 않는다")
+    void processOnceTest() {
+        Long outboxId = badgeOutboxService.record(user.getId(), BadgeOutboxType.CHALLENGE_SUCCEEDED);
+
+        badgeOutboxService.process(outboxId);
+        badgeOutboxService.process(outboxId);
+
+        entityManager.refresh(userBadgeEvaluation);
+        assertEquals(1, userBadgeEvaluation.getNumberOfAchievement());
+        assertTrue(badgeOutboxService.findPendingIds(0L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("새로 얻은 뱃지는 확인 표시 전까지 다시 돌려주고, 확인한 id 까지만 표시한다")
+    void acknowledgeNewBadgesTest() {
+        for (int i = 0; i < 10; i++) {
+            badgeOutboxService.process(badgeOutboxService.record(user.getId(), BadgeOutboxType.CHALLENGE_CREATED));
+        }
+
+        List<UserBadge> newBadges = userBadgeService.findNewBadges(user.getId());
+        assertEquals(1, newBadges.size());
+        assertEquals(1, userBadgeService.findNewBadges(user.getId()).size());
+        Long lastUserBadgeId = newBadges.get(0).getId();
+
+        assertEquals(0, userBadgeService.acknowledgeNewBadges(user.getId(), lastUserBadgeId - 1));
+        assertEquals(1, userBadgeService.findNewBadges(user.getId()).size());
+
+        assertEquals(1, userBadgeService.acknowledgeNewBadges(user.getId(), lastUserBadgeId));
+        assertTrue(userBadgeService.findNewBadges(user.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패를 기록하다 MAX_ATTEMPTS 번째 실패면 재처리 대상에서 뺀다")
+    void recordFailureTest() {
+        Long outboxId = badgeOutboxService.record(user.getId(), BadgeOutboxType.COMMENT_WRITTEN);
+
+        for (int i = 1; i < BadgeOutbox.MAX_ATTEMPTS; i++) {
+            badgeOutboxService.recordFailure(outboxId, "error" + i);
+        }
+        BadgeOutbox outbox = badgeOutboxRepository.findById(outboxId).orElseThrow();
+        assertEquals(BadgeOutbox.MAX_ATTEMPTS - 1, outbox.getAttempts());
+        assertFalse(outbox.isParked());
+        assertEquals(List.of(outboxId), badgeOutboxService.findPendingIds(0L, 10));
+
+        badgeOutboxService.recordFailure(outboxId, "x".repeat(1000));
+
+        assertTrue(outbox.isParked());
+        assertEquals(500, outbox.getLastError().length());
+        assertTrue(badgeOutboxService.findPendingIds(0L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("처리 대기 이벤트를 afterId 다음부터 id 순으로 읽는다")
+    void findPendingIdsAfterTest() {
+        List<Long> outboxIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            outboxIds.add(badgeOutboxService.record(user.getId(), BadgeOutboxType.CHALLENGE_CREATED));
+        }
+
+        assertEquals(outboxIds.subList(0, 2), badgeOutboxService.findPendingIds(0L, 2));
+        assertEquals(outboxIds.subList(2, 4), badgeOutboxService.findPendingIds(outboxIds.get(1), 2));
+        assertEquals(outboxIds.subList(4, 5), badgeOutboxService.findPendingIds(outboxIds.get(3), 2));
+    }
+
+    @Test
+    @DisplayName("처리된 이벤트만 limit 개씩 지운다")
+    void deleteProcessedBeforeTest() {
+        List<Long> processedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long outboxId = badgeOutboxService.record(user.getId(), BadgeOutboxType.COMMENT_WRITTEN);
+            badgeOutboxService.process(outboxId);
+            processedIds.add(outboxId);
+        }
+        Long pendingId = badgeOutboxService.record(user.getId(), BadgeOutboxType.COMMENT_WRITTEN);
+        entityManager.flush();
+        LocalDateTime before = LocalDateTime.now().plusMinutes(1);
+
+        assertEquals(2, badgeOutboxService.deleteProcessedBefore(before, 2));
+        assertEquals(1, badgeOutboxService.deleteProcessedBefore(before, 2));
+        assertEquals(0, badgeOutboxService.deleteProcessedBefore(before, 2));
+
+        entityManager.clear();
+        assertTrue(badgeOutboxRepository.findAllById(processedIds).isEmpty());
+        assertTrue(badgeOutboxRepository.findById(pendingId).isPresent());
+    }
+}
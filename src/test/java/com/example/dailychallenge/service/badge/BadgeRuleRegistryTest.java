@@ -0,0 +1,57 @@
+package com.example.dailychallenge.service.badge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.badge.type.BadgeType;
+import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BadgeRuleRegistryTest {
+
+    private final BadgeRuleRegistry badgeRuleRegistry = new BadgeRuleRegistry();
+
+    @Test
+    @DisplayName("기준 값에 정확히 닿을 때만 뱃지를 찾는 테스트")
+    void findReachedByOneTest() {
+        assertEquals(List.of(AchievementBadgeType.ACHIEVED_10),
+                badgeRuleRegistry.findReached(BadgeMetric.ACHIEVEMENT, 9, 10));
+        assertTrue(badgeRuleRegistry.findReached(BadgeMetric.ACHIEVEMENT, 10, 11).isEmpty());
+        assertTrue(badgeRuleRegistry.findReached(BadgeMetric.ACHIEVEMENT, 50, 51).isEmpty());
+        assertEquals(List.of(ChallengeCreateBadgeType.CREATED_15),
+                badgeRuleRegistry.findReached(BadgeMetric.CHALLENGE_CREATE, 14, 15));
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 기준 값을 지나면 지난 뱃지를 기준 값 순으로 모두 찾는 테스트")
+    void findReachedByDeltaTest() {
+        assertEquals(List.of(AchievementBadgeType.ACHIEVED_20, AchievementBadgeType.ACHIEVED_30),
+                badgeRuleRegistry.findReached(BadgeMetric.ACHIEVEMENT, 10, 35));
+        assertEquals(5, badgeRuleRegistry.findReached(BadgeMetric.COMMENT_WRITE, 0, 1000).size());
+        assertTrue(badgeRuleRegistry.findReached(BadgeMetric.COMMENT_WRITE, 20, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("모든 뱃지가 달성, 후기, 생성 순으로 등록되는 테스트")
+    void badgeTypesTest() {
+        List<BadgeType> badgeTypes = badgeRuleRegistry.getBadgeTypes();
+
+        assertEquals(15, badgeTypes.size());
+        assertEquals("챌린지 10개 달성", badgeTypes.get(0).getName());
+        assertEquals("후기 10개 작성", badgeTypes.get(5).getName());
+        assertEquals("챌린지 10개 생성", badgeTypes.get(10).getName());
+        assertEquals("write/comment10", badgeRuleRegistry.getBadgeDtos().get(5).getBadgeImgFileName());
+    }
+
+    @Test
+    @DisplayName("같은 지표에 같은 기준 값의 뱃지가 두 개면 등록하지 못하는 테스트")
+    void duplicateThresholdTest() {
+        assertThrows(IllegalStateException.class, () -> new BadgeRuleRegistry(
+                List.of(AchievementBadgeType.ACHIEVED_10, AchievementBadgeType.ACHIEVED_10)));
+    }
+}
@@ -1,21 +1,22 @@
 package com.example.dailychallenge.service.badge;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.example.dailychallenge.dto.BadgeDto;
 import com.example.dailychallenge.entity.badge.Badge;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
+import com.example.dailychallenge.exception.badge.BadgeNotFound;
 import com.example.dailychallenge.repository.badge.BadgeRepository;
 import com.example.dailychallenge.util.ServiceTest;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 
 class BadgeServiceTest extends ServiceTest {
     @Value("${defaultBadgeImgLocation}")
@@ -27,83 +28,59 @@ class BadgeServiceTest extends ServiceTest {
     private BadgeService badgeService;
     @Autowired
     private BadgeRepository badgeRepository;
+    @Autowired
+    private BadgeRuleRegistry badgeRuleRegistry;
 
-    @Nested
-    @DisplayName("뱃지들 생성 테스트")
-    class createBadgesTest {
-        @Test
-        @DisplayName("모든 챌린지 생성 뱃지들 생성 테스트")
-        void createAllCreateChallengeBadgesTest() {
-            List<BadgeDto> badgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
+    @Test
+    @DisplayName("서버가 뜰 때 모든 뱃지가 달성, 후기, 생성 순으로 등록되는 테스트")
+    void seedAllBadgesTest() {
+        List<BadgeDto> badgeDtos = badgeRuleRegistry.getBadgeDtos();
 
-            List<Badge> badges = badgeService.createBadges(badgeDtos);
+        List<Badge> badges = badgeService.getAll();
 
-            List<Badge> allBadges = badgeRepository.findAll();
-            assertEquals(badges.size(), allBadges.size());
-            List<String> actualBadgeNames = allBadges.stream()
-                    .map(Badge::getName)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeNames = badgeDtos.stream()
-                    .map(BadgeDto::getBadgeName)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeNames, actualBadgeNames);
-            List<String> actualBadgeImgUrls = allBadges.stream()
-                    .map(Badge::getImgUrl)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeImgUrls = badgeDtos.stream()
-                    .map(badgeDto -> badgeImgLocation + badgeDto.getBadgeImgFileName() + badgeImgFileExtension)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeImgUrls, actualBadgeImgUrls);
-        }
+        assertEquals(badgeDtos.size(), badgeRepository.count());
+        assertEquals(badgeDtos.stream()
+                        .map(BadgeDto::getBadgeName)
+                        .collect(Collectors.toUnmodifiableList()),
+                badges.stream()
+                        .map(Badge::getName)
+                        .collect(Collectors.toUnmodifiableList()));
+        assertEquals(badgeDtos.stream()
+                        .map(badgeDto -> badgeImgLocation + badgeDto.getBadgeImgFileName() + badgeImgFileExtension)
+                        .collect(Collectors.toUnmodifiableList()),
+                badges.stream()
+                        .map(Badge::getImgUrl)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
 
-        @Test
-        @DisplayName("모든 챌린지 달성 뱃지들 생성 테스트")
-        void createAllAchievementChallengeBadgesTest() {
-            List<BadgeDto> badgeDtos = AchievementBadgeType.getBadgeDtos();
+    @Test
+    @DisplayName("다시 등록해도 뱃지가 늘지 않고 응답 바이트도 그대로인 테스트")
+    void seedIdempotentTest() {
+        long count = badgeRepository.count();
+        byte[] badgesJson = badgeService.getCatalog().getBadgesJson();
 
-            List<Badge> badges = badgeService.createBadges(badgeDtos);
+        badgeService.seed();
 
-            List<Badge> allBadges = badgeRepository.findAll();
-            assertEquals(badges.size(), allBadges.size());
-            List<String> actualBadgeNames = allBadges.stream()
-                    .map(Badge::getName)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeNames = badgeDtos.stream()
-                    .map(BadgeDto::getBadgeName)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeNames, actualBadgeNames);
-            List<String> actualBadgeImgUrls = allBadges.stream()
-                    .map(Badge::getImgUrl)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeImgUrls = badgeDtos.stream()
-                    .map(badgeDto -> badgeImgLocation + badgeDto.getBadgeImgFileName() + badgeImgFileExtension)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeImgUrls, actualBadgeImgUrls);
-        }
+        assertEquals(count, badgeRepository.count());
+        assertArrayEquals(badgesJson, badgeService.getCatalog().getBadgesJson());
+    }
 
-        @Test
-        @DisplayName("모든 후기 작성 뱃지들 생성 테스트")
-        void createAllCommentWriteBadgesTest() {
-            List<BadgeDto> badgeDtos = CommentWriteBadgeType.getBadgeDtos();
+    @Test
+    @DisplayName("같은 이름의 뱃지는 유니크 제약으로 저장되지 않는 테스트")
+    void badgeNameUniqueTest() {
+        assertThrows(DataIntegrityViolationException.class, () -> badgeRepository.saveAndFlush(Badge.builder()
+                .name("챌린지 10개 달성")
+                .imgUrl("badgeImage/achievement/achievement10.svg")
+                .build()));
+    }
 
-            List<Badge> badges = badgeService.createBadges(badgeDtos);
+    @Test
+    @DisplayName("뱃지 목록을 id 와 이름으로 찾는 테스트")
+    void findTest() {
+        Badge badge = badgeService.findByName("후기 10개 작성");
 
-            List<Badge> allBadges = badgeRepository.findAll();
-            assertEquals(badges.size(), allBadges.size());
-            List<String> actualBadgeNames = allBadges.stream()
-                    .map(Badge::getName)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeNames = badgeDtos.stream()
-                    .map(BadgeDto::getBadgeName)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeNames, actualBadgeNames);
-            List<String> actualBadgeImgUrls = allBadges.stream()
-                    .map(Badge::getImgUrl)
-                    .collect(Collectors.toUnmodifiableList());
-            List<String> expectBadgeImgUrls = badgeDtos.stream()
-                    .map(badgeDto -> badgeImgLocation + badgeDto.getBadgeImgFileName() + badgeImgFileExtension)
-                    .collect(Collectors.toUnmodifiableList());
-            assertEquals(expectBadgeImgUrls, actualBadgeImgUrls);
-        }
+        assertSame(badge, badgeService.findById(badge.getId()));
+        assertThrows(BadgeNotFound.class, () -> badgeService.findByName("없는 뱃지"));
+        assertThrows(BadgeNotFound.class, () -> badgeService.findById(-1L));
     }
 }
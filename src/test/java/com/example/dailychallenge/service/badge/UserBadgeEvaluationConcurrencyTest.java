@@ -0,0 +1,99 @@
+package com.example.dailychallenge.service.badge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스레드마다 커밋해야 하므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class UserBadgeEvaluationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+    private Long userBadgeEvaluationId;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .userName(USERNAME)
+                    .email("evaluation-concurrency@test.com")
+                    .password(PASSWORD)
+                    .build());
+            userId = user.getId();
+            userBadgeEvaluationId = userBadgeEvaluationRepository.save(UserBadgeEvaluation.builder()
+                    .users(user)
+                    .build()).getId();
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    @DisplayName("동시에 카운터를 올려도 잃어버리는 증가 없이 매번 서로 다른 값을 돌려받는다")
+    void increaseConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < INCREMENTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return transactionTemplate.execute(status ->
+                        userBadgeEvaluationRepository.increase(userId, BadgeMetric.COMMENT_WRITE, 1).orElseThrow());
+            }));
+        }
+
+        start.countDown();
+        TreeSet<Integer> values = new TreeSet<>();
+        for (Future<Integer> result : results) {
+            values.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // 1 부터 INCREMENTS 까지 한 번씩 돌려받았다면 뱃지 기준 값도 정확히 한 번씩 지난다
+        assertEquals(INCREMENTS, values.size());
+        assertEquals(1, values.first());
+        assertEquals(INCREMENTS, values.last());
+        assertEquals(INCREMENTS, userBadgeEvaluationRepository.findById(userBadgeEvaluationId).orElseThrow()
+                .getNumberOfCommentWrite());
+    }
+}
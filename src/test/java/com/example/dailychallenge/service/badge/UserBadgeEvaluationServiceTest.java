@@ -9,17 +9,22 @@ import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.badge.UserBadge;
-import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.users.User;
 import com.example.dailychallenge.repository.badge.BadgeRepository;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
 import com.example.dailychallenge.repository.badge.UserBadgeRepository;
 import com.example.dailychallenge.util.ServiceTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +39,8 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
     @Autowired
     private UserBadgeRepository userBadgeRepository;
     @Autowired
+    private UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    @Autowired
     private UserBadgeEvaluationService userBadgeEvaluationService;
 
     private User user;
@@ -41,14 +48,13 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
     @BeforeEach
     void beforeEach() {
         user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
-        UserBadgeEvaluation userBadgeEvaluation = testDataSetup.saveUserBadgeEvaluation(user);
-        testDataSetup.saveBadgesAndUserBadges(user);
+        testDataSetup.saveUserBadgeEvaluation(user);
 
         for (int i = 0; i < 9; i++) {
             챌린지를_생성하고_참여하고_달성한다();
 
-            userBadgeEvaluation.addNumberOfAchievement();
-            userBadgeEvaluation.addNumberOfChallengeCreate();
+            userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.ACHIEVEMENT, 1);
+            userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.CHALLENGE_CREATE, 1);
         }
     }
 
@@ -60,7 +66,7 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
         void canCreateTest() {
             챌린지를_생성하고_참여하고_달성한다();
 
-            userBadgeEvaluationService.createAchievementBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.ACHIEVEMENT);
 
             assertEquals(15, badgeRepository.findAll().size());
             List<UserBadge> allByUsersId = userBadgeRepository.findAllByUsersId(user.getId());
@@ -75,11 +81,10 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
         void canNotCreateTest() {
             for (int i = 0; i < 2; i++) {
                 챌린지를_생성하고_참여하고_달성한다();
-                UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
-                userBadgeEvaluation.addNumberOfAchievement();
+                userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.ACHIEVEMENT, 1);
             }
 
-            userBadgeEvaluationService.createAchievementBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.ACHIEVEMENT);
 
             assertEquals(15, badgeRepository.findAll().size());
             assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
@@ -95,7 +100,7 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
             Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
             testDataSetup.챌린지에_참가한다(challenge, user);
 
-            userBadgeEvaluationService.createChallengeCreateBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.CHALLENGE_CREATE);
 
             assertEquals(15, badgeRepository.findAll().size());
             List<UserBadge> allByUsersId = userBadgeRepository.findAllByUsersId(user.getId());
@@ -111,11 +116,10 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
             for (int i = 0; i < 2; i++) {
                 Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
                 testDataSetup.챌린지에_참가한다(challenge, user);
-                UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
-                userBadgeEvaluation.addNumberOfChallengeCreate();
+                userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.CHALLENGE_CREATE, 1);
             }
 
-            userBadgeEvaluationService.createChallengeCreateBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.CHALLENGE_CREATE);
 
             assertEquals(15, badgeRepository.findAll().size());
             assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
@@ -128,7 +132,6 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
         @Test
         @DisplayName("생성 테스트")
         void canCreateTest() {
-            UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
             User otherUser = testDataSetup.saveUser(OTHER_USERNAME, OTHER_EMAIL, PASSWORD);
             for (int i = 0; i < 9; i++) {
                 Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), otherUser);
@@ -136,12 +139,12 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
                 testDataSetup.챌린지에_참가한다(challenge, user);
 
                 testDataSetup.챌린지에_댓글을_단다(challenge, user, "content" + i);
-                userBadgeEvaluation.addNumberOfCommentWrite();
+                userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.COMMENT_WRITE, 1);
             }
             Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), otherUser);
             testDataSetup.챌린지에_댓글을_단다(challenge, user, "content" + 9);
 
-            userBadgeEvaluationService.createCommentWriteBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.COMMENT_WRITE);
 
             assertEquals(15, badgeRepository.findAll().size());
             List<UserBadge> allByUsersId = userBadgeRepository.findAllByUsersId(user.getId());
@@ -154,7 +157,6 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
         @Test
         @DisplayName("생성하지 못하는 테스트")
         void canNotCreateTest() {
-            UserBadgeEvaluation userBadgeEvaluation = user.getUserBadgeEvaluation();
             User otherUser = testDataSetup.saveUser(OTHER_USERNAME, OTHER_EMAIL, PASSWORD);
             for (int i = 0; i < 2; i++) {
                 Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), otherUser);
@@ -162,18 +164,32 @@ class UserBadgeEvaluationServiceTest extends ServiceTest {
                 testDataSetup.챌린지에_참가한다(challenge, user);
 
                 testDataSetup.챌린지에_댓글을_단다(challenge, user, "content" + i);
-                userBadgeEvaluation.addNumberOfCommentWrite();
+                userBadgeEvaluationRepository.increase(user.getId(), BadgeMetric.COMMENT_WRITE, 1);
             }
             Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), otherUser);
             testDataSetup.챌린지에_댓글을_단다(challenge, user, "content" + 3);
 
-            userBadgeEvaluationService.createCommentWriteBadgeIfFollowStandard(user);
+            userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.COMMENT_WRITE);
 
             assertEquals(15, badgeRepository.findAll().size());
             assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
         }
     }
 
+    @Test
+    @DisplayName("여러 지표의 증가분을 한 번에 평가하면 지난 기준 값의 뱃지를 모두 얻는 테스트")
+    void evaluateBatchTest() {
+        Map<BadgeMetric, Integer> deltas = new EnumMap<>(BadgeMetric.class);
+        deltas.put(BadgeMetric.ACHIEVEMENT, 15); // 9 -> 24
+        deltas.put(BadgeMetric.COMMENT_WRITE, 25); // 0 -> 25
+
+        List<Badge> earned = userBadgeEvaluationService.evaluate(user.getId(), deltas);
+
+        assertEquals(List.of("챌린지 10개 달성", "챌린지 20개 달성", "후기 10개 작성", "후기 20개 작성"),
+                earned.stream().map(Badge::getName).collect(Collectors.toUnmodifiableList()));
+        assertEquals(4, userBadgeRepository.findAllByUsersId(user.getId()).size());
+    }
+
     private void 챌린지를_생성하고_참여하고_달성한다() {
         Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
         UserChallenge userChallenge = testDataSetup.챌린지에_참가한다(challenge, user);
@@ -4,20 +4,21 @@ import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
 import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.example.dailychallenge.dto.BadgeDto;
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.badge.UserBadge;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
 import com.example.dailychallenge.entity.users.User;
-import com.example.dailychallenge.repository.badge.BadgeRepository;
+import com.example.dailychallenge.exception.badge.BadgeNotFound;
 import com.example.dailychallenge.repository.badge.UserBadgeRepository;
 import com.example.dailychallenge.util.ServiceTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.vo.badge.ResponseUserBadge;
 import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,64 +27,75 @@ class UserBadgeServiceTest extends ServiceTest {
     @Autowired
     private TestDataSetup testDataSetup;
     @Autowired
-    private BadgeRepository badgeRepository;
-    @Autowired
-    private BadgeService badgeService;
-    @Autowired
     private UserBadgeRepository userBadgeRepository;
     @Autowired
     private UserBadgeService userBadgeService;
+    @Autowired
+    private EntityManager entityManager;
 
-    @Test
-    @DisplayName("유저를 생성할 때 모든 챌린지 생성 뱃지들의 상태가 false인 테스트")
-    void allChallengeCreateUserBadgeStatusIsFalseWhenUserCreateTest() {
-        User user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
-        List<BadgeDto> badgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
-        List<Badge> badges = badgeService.createBadges(badgeDtos);
+    private User user;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+    }
 
-        userBadgeService.createUserBadges(user, badges);
+    @Test
+    @DisplayName("얻은 뱃지만 유저 뱃지로 저장하는 테스트")
+    void earnBadgeTest() {
+        UserBadge userBadge = userBadgeService.earnBadge(user.getId(), "챌린지 10개 생성").orElseThrow();
 
-        assertEquals(5, badgeRepository.findAll().size());
-        assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
+        assertEquals("챌린지 10개 생성", userBadge.getBadge().getName());
+        assertTrue(userBadge.getStatus());
+        assertEquals(1, userBadgeRepository.findAllByUsersId(user.getId()).size());
     }
 
     @Test
-    @DisplayName("유저를 생성할 때 모든 챌린지 달성 뱃지들의 상태가 false인 테스트")
-    void allAchievementUserBadgeStatusIsFalseWhenUserCreateTest() {
-        User user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
-        List<BadgeDto> badgeDtos = AchievementBadgeType.getBadgeDtos();
-        List<Badge> badges = badgeService.createBadges(badgeDtos);
+    @DisplayName("이미 얻은 뱃지는 다시 저장하지 않고 뱃지 버전도 그대로인 테스트")
+    void earnBadgeTwiceTest() {
+        userBadgeService.earnBadge(user.getId(), "챌린지 10개 생성");
 
-        userBadgeService.createUserBadges(user, badges);
+        assertTrue(userBadgeService.earnBadge(user.getId(), "챌린지 10개 생성").isEmpty());
 
-        assertEquals(5, badgeRepository.findAll().size());
-        assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
+        entityManager.refresh(user);
+        assertEquals(1, userBadgeRepository.findAllByUsersId(user.getId()).size());
+        assertEquals(1, user.getBadgeVersion());
+    }
+
+    @Test
+    @DisplayName("뱃지 목록에 없는 뱃지는 얻을 수 없는 테스트")
+    void earnUnknownBadgeTest() {
+        assertThrows(BadgeNotFound.class, () -> userBadgeService.earnBadge(user.getId(), "없는 뱃지"));
     }
 
     @Test
-    @DisplayName("유저를 생성할 때 모든 후기 작성 뱃지들의 상태가 false인 테스트")
-    void allCommentWriteUserBadgeStatusIsFalseWhenUserCreateTest() {
-        User user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
-        List<BadgeDto> badgeDtos = CommentWriteBadgeType.getBadgeDtos();
-        List<Badge> badges = badgeService.createBadges(badgeDtos);
+    @DisplayName("뱃지 목록과 얻은 뱃지를 합쳐서 유저의 모든 뱃지를 만드는 테스트")
+    void getUserBadgesTest() {
+        userBadgeService.earnBadge(user.getId(), "챌린지 10개 달성");
+        userBadgeService.earnBadge(user.getId(), "후기 10개 작성");
 
-        userBadgeService.createUserBadges(user, badges);
+        List<ResponseUserBadge> userBadges = userBadgeService.getUserBadges(user.getId());
 
-        assertEquals(5, badgeRepository.findAll().size());
-        assertTrue(userBadgeRepository.findAll().stream().allMatch(userBadge -> userBadge.getStatus().equals(false)));
+        assertEquals(15, userBadges.size());
+        assertEquals("챌린지 10개 달성", userBadges.get(0).getBadgeName());
+        assertTrue(userBadges.get(0).getBadgeStatus());
+        assertFalse(userBadges.get(1).getBadgeStatus());
+        assertEquals("후기 10개 작성", userBadges.get(5).getBadgeName());
+        assertTrue(userBadges.get(5).getBadgeStatus());
+        assertEquals(2, userBadges.stream().filter(ResponseUserBadge::getBadgeStatus).count());
     }
 
     @Test
-    @DisplayName("유저 ID와 뱃지 이름으로 찾는 테스트")
-    void findByUserIdAndBadgeNameTest() {
-        User user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
-        List<BadgeDto> badgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
-        List<Badge> badges = badgeService.createBadges(badgeDtos);
-        userBadgeService.createUserBadges(user, badges);
+    @DisplayName("뱃지를 얻을 때마다 뱃지 버전이 올라 유저 뱃지 ETag 가 바뀌는 테스트")
+    void badgeVersionTest() {
+        String eTag = userBadgeService.getUserBadgesETag(user);
 
-        UserBadge byUserIdAndBadgeName = userBadgeService.findByUsersIdAndBadgeName(user.getId(), "챌린지 10개 생성");
+        userBadgeService.earnBadge(user.getId(), "챌린지 10개 달성");
+        userBadgeService.earnBadge(user.getId(), "후기 10개 작성");
+        entityManager.refresh(user);
 
-        assertEquals("챌린지 10개 생성", byUserIdAndBadgeName.getBadge().getName());
-        assertEquals(false, byUserIdAndBadgeName.getStatus());
+        assertEquals(2, user.getBadgeVersion());
+        assertNotEquals(eTag, userBadgeService.getUserBadgesETag(user));
+        assertEquals(userBadgeService.getUserBadgesETag(user), userBadgeService.getUserBadgesETag(user));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallenge;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.userChallenge.ChallengeSuccessDuplicate;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스레드마다 커밋해야 하므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ChallengeCheckInConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final String EMAIL = "check-in-concurrency@test.com";
+
+    @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private UserChallengeRepository userChallengeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+    private Long challengeId;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .userName(USERNAME)
+                    .email(EMAIL)
+                    .password(PASSWORD)
+                    .build());
+            userId = user.getId();
+            Challenge challenge = createChallenge();
+            challenge.setUser(user);
+            challengeId = challengeRepository.save(challenge).getId();
+            UserChallenge userChallenge = UserChallenge.builder()
+                    .challengeStatus(ChallengeStatus.TRYING)
+                    .users(user)
+                    .challenge(challenge)
+                    .build();
+            userChallenge.setUser(user);
+            userChallenge.setChallenge(challenge);
+            userChallengeRepository.save(userChallenge);
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    @DisplayName("같은 챌린지 달성이 동시에 들어와도 한 번만 달성하고 나머지는 중복으로 거절한다")
+    void succeedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    challengeCheckInService.succeed(EMAIL, challengeId);
+                    return true;
+                } catch (ChallengeSuccessDuplicate e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, succeeded);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.badge.BadgeOutbox;
+import com.example.dailychallenge.entity.badge.BadgeOutboxType;
+import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.userChallenge.ChallengePauseDuplicate;
+import com.example.dailychallenge.exception.userChallenge.ChallengeSuccessDuplicate;
+import com.example.dailychallenge.exception.userChallenge.UserChallengeNotFound;
+import com.example.dailychallenge.exception.users.UserNotFound;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.badge.BadgeOutboxRepository;
+import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
+import com.example.dailychallenge.util.ServiceTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import java.time.LocalDate;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+class ChallengeCheckInServiceTest extends ServiceTest {
+
+    @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
+    private UserChallengeRepository userChallengeRepository;
+    @Autowired
+    private UserBadgeEvaluationRepository userBadgeEvaluationRepository;
+    @Autowired
+    private BadgeOutboxRepository badgeOutboxRepository;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Challenge challenge;
+    private UserChallenge userChallenge;
+    private UserBadgeEvaluation userBadgeEvaluation;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        userBadgeEvaluation = testDataSetup.saveUserBadgeEvaluation(user);
+        challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        userChallenge = testDataSetup.챌린지에_참가한다(challenge, user);
+    }
+
+    @Test
+    @DisplayName("유저 챌린지 잠금, 조회 한 번과 커밋 시점의 flush 로 달성을 반영하고, 올해 첫 달성만 잠금 조회가 더해진다")
+    void succeed() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            challengeCheckInService.succeed(EMAIL, challenge.getId());
+            long statementsBeforeFlush = statistics.getPrepareStatementCount();
+            entityManager.flush();
+
+            assertEquals(0, statistics.getEntityFetchCount());
+            // 유저 챌린지 잠금, 조회, 잠금 조회 전 flush 되는 상태 UPDATE, 유저 챌린지 잠금, 올해 기록 잠금 조회,
+            // 올해 달성 기록 INSERT, 뱃지 평가 아웃박스 INSERT
+            assertEquals(7, statementsBeforeFlush);
+            assertEquals(2, statistics.getEntityUpdateCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        entityManager.clear();
+        UserChallenge findUserChallenge = userChallengeRepository.findById(userChallenge.getId()).orElseThrow();
+        assertEquals(ChallengeStatus.SUCCESS, findUserChallenge.getChallengeStatus());
+        assertTrue(findUserChallenge.isAchievedOn(LocalDate.now()));
+    }
+
+    @Test
+    @DisplayName("달성 뱃지 평가는 아웃박스에 기록만 하고 커밋 이후로 미룬다")
+    void succeedRecordsBadgeOutbox() {
+        challengeCheckInService.succeed(EMAIL, challenge.getId());
+
+        List<BadgeOutbox> outboxes = badgeOutboxRepository
+                .findByProcessedFalseAndParkedFalseAndIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10));
+        BadgeOutbox outbox = outboxes.get(outboxes.size() - 1);
+        assertEquals(BadgeOutboxType.CHALLENGE_SUCCEEDED, outbox.getType());
+        assertEquals(user.getId(), outbox.getUserId());
+        assertEquals(0, userBadgeEvaluationRepository.findById(userBadgeEvaluation.getId()).orElseThrow()
+                .getNumberOfAchievement());
+    }
+
+    @Test
+    @DisplayName("이미 달성했거나 중지한 챌린지는 다시 처리하지 않는다")
+    void duplicate() {
+        challengeCheckInService.succeed(EMAIL, challenge.getId());
+        assertThrows(ChallengeSuccessDuplicate.class, () -> challengeCheckInService.succeed(EMAIL, challenge.getId()));
+
+        challengeCheckInService.pause(EMAIL, challenge.getId());
+        assertEquals(ChallengeStatus.PAUSE, userChallenge.getChallengeStatus());
+        assertFalse(userChallenge.isAchievedOn(LocalDate.now()));
+        assertThrows(ChallengePauseDuplicate.class, () -> challengeCheckInService.pause(EMAIL, challenge.getId()));
+    }
+
+    @Test
+    @DisplayName("없는 유저는 UserNotFound, 참여하지 않은 챌린지는 UserChallengeNotFound 로 구분한다")
+    void notFound() {
+        Challenge other = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+
+        assertThrows(UserNotFound.class, () -> challengeCheckInService.succeed("none@test.com", challenge.getId()));
+        assertThrows(UserNotFound.class, () -> challengeCheckInService.pause("none@test.com", challenge.getId()));
+        assertThrows(UserChallengeNotFound.class, () -> challengeCheckInService.succeed(EMAIL, other.getId()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_EMAIL;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_USERNAME;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.challenge.ChallengeNotFound;
+import com.example.dailychallenge.util.ServiceTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallengeWithParticipatedUsersInfo;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ChallengeDetailCacheTest extends ServiceTest {
+
+    @Autowired
+    private ChallengeDetailCache challengeDetailCache;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private UserChallengeService userChallengeService;
+    @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Challenge challenge;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        testDataSetup.챌린지에_참가한다(challenge, user);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시된 응답을 돌려준다")
+    void hit() {
+        long hitCount = challengeDetailCache.getHitCount();
+        long missCount = challengeDetailCache.getMissCount();
+
+        ResponseChallengeWithParticipatedUsersInfo first = challengeService.searchDetailById(challenge.getId());
+        ResponseChallengeWithParticipatedUsersInfo second = challengeService.searchDetailById(challenge.getId());
+
+        assertSame(first, second);
+        assertEquals(hitCount + 1, challengeDetailCache.getHitCount());
+        assertEquals(missCount + 1, challengeDetailCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("참여, 상태 변경, 나가기 시 다시 조회한다")
+    void invalidateByUserChallenge() {
+        challengeService.searchDetailById(challenge.getId());
+        User otherUser = testDataSetup.saveUser(OTHER_USERNAME, OTHER_EMAIL, PASSWORD);
+
+        userChallengeService.saveUserChallenge(challenge, otherUser);
+        assertEquals(2, challengeService.searchDetailById(challenge.getId()).getResponseUserChallenges().size());
+
+        challengeCheckInService.succeed(otherUser.getEmail(), challenge.getId());
+        assertEquals(ChallengeStatus.SUCCESS.getDescription(),
+                challengeService.searchDetailById(challenge.getId()).getResponseUserChallenges().get(1)
+                        .getChallengeStatus());
+
+        entityManager.flush();
+        entityManager.clear();
+        userChallengeService.challengeLeave(challenge.getId(), otherUser.getId());
+        assertEquals(1, challengeService.searchDetailById(challenge.getId()).getResponseUserChallenges().size());
+    }
+
+    @Test
+    @DisplayName("챌린지 수정, 삭제 시 다시 조회한다")
+    void invalidateByChallenge() {
+        challengeService.searchDetailById(challenge.getId());
+        RequestUpdateChallenge requestUpdateChallenge = RequestUpdateChallenge.builder()
+                .title("수정된 제목")
+                .content("수정된 내용")
+                .challengeCategory(ChallengeCategory.WORKOUT.getDescription())
+                .build();
+
+        challengeService.updateChallenge(challenge.getId(), requestUpdateChallenge, List.of(), user);
+        assertEquals("수정된 제목",
+                challengeService.searchDetailById(challenge.getId()).getResponseChallenge().getTitle());
+
+        entityManager.flush();
+        entityManager.clear();
+        challengeService.deleteChallenge(challenge.getId(), user);
+        assertThrows(ChallengeNotFound.class, () -> challengeService.searchDetailById(challenge.getId()));
+    }
+}
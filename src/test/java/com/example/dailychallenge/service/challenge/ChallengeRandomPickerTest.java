@@ -0,0 +1,154 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.util.fixture.TestImgCleanup;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋된 뒤에만 반영되므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({TestImgCleanup.class, TestDataSetup.class})
+class ChallengeRandomPickerTest {
+
+    private static final int DRAW_COUNT = 2000;
+
+    @Autowired
+    private ChallengeRandomPicker challengeRandomPicker;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private TestImgCleanup testImgCleanup;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private User user;
+    private Challenge first;
+    private Challenge second;
+    private Challenge third;
+
+    @BeforeEach
+    void beforeEach() {
+        user = saveUser(USERNAME, EMAIL);
+        first = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        second = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        third = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+    }
+
+    @AfterEach
+    void afterEach() {
+        for (int i = userIds.size() - 1; i >= 0; i--) {
+            userRepository.deleteById(userIds.get(i));
+        }
+        challengeRandomPicker.rebuild();
+        testImgCleanup.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("생성된 챌린지 중에서 고르고, 삭제된 챌린지는 고르지 않는다")
+    void pickUniformly() {
+        challengeService.deleteChallenge(first.getId(), user);
+
+        Map<Long, Integer> picked = draw(false);
+
+        assertThat(picked.keySet()).containsExactlyInAnyOrder(second.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("가중치 선택은 참여자가 많은 챌린지를 더 자주 고른다")
+    void pickWeighted() {
+        for (int i = 1; i <= 19; i++) {
+            User participant = saveUser(USERNAME + i, i + "@test.com");
+            testDataSetup.챌린지에_참가한다(third, participant);
+        }
+
+        Map<Long, Integer> picked = draw(true);
+
+        assertThat(picked.keySet()).containsOnly(first.getId(), second.getId(), third.getId());
+        assertThat(picked.get(third.getId())).isGreaterThan(DRAW_COUNT * 3 / 4);
+    }
+
+    @Test
+    @DisplayName("다시 만든 테이블도 참여자 수를 한 번만 가중치에 반영한다")
+    void pickWeightedAfterRebuild() {
+        for (int i = 1; i <= 19; i++) {
+            User participant = saveUser(USERNAME + i, i + "@test.com");
+            testDataSetup.챌린지에_참가한다(third, participant);
+        }
+
+        challengeRandomPicker.rebuild();
+        Map<Long, Integer> picked = draw(true);
+
+        assertThat(picked.keySet()).containsOnly(first.getId(), second.getId(), third.getId());
+        assertThat(picked.get(third.getId())).isGreaterThan(DRAW_COUNT * 3 / 4);
+        assertThat(picked.get(third.getId())).isLessThan(DRAW_COUNT * 19 / 20);
+    }
+
+    @Test
+    @DisplayName("선택된 챌린지 하나만 조회해 응답한다")
+    void searchByRandom() {
+        List<Long> challengeIds = List.of(first.getId(), second.getId(), third.getId());
+
+        assertThat(challengeIds).contains(challengeService.searchByRandom(false).getId());
+        assertEquals("제목입니다.", challengeService.searchByRandom(true).getTitle());
+    }
+
+    @Test
+    @DisplayName("롤백된 참가는 가중치에 반영되지 않는다")
+    void rollbackNotApplied() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= 30; i++) {
+                User participant = testDataSetup.saveUser(USERNAME + i, i + "@test.com", PASSWORD);
+                testDataSetup.챌린지에_참가한다(third, participant);
+            }
+            throw new IllegalStateException();
+        }));
+
+        Map<Long, Integer> picked = draw(true);
+
+        assertThat(picked.get(third.getId())).isLessThan(DRAW_COUNT / 2);
+    }
+
+    private User saveUser(String userName, String email) {
+        User saved = testDataSetup.saveUser(userName, email, PASSWORD);
+        userIds.add(saved.getId());
+        return saved;
+    }
+
+    private Map<Long, Integer> draw(boolean weighted) {
+        Map<Long, Integer> picked = new HashMap<>();
+        for (int i = 0; i < DRAW_COUNT; i++) {
+            picked.merge(challengeRandomPicker.pick(weighted).orElseThrow(), 1, Integer::sum);
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.entity.challenge.ChallengeCategory.ECONOMY;
+import static com.example.dailychallenge.entity.challenge.ChallengeCategory.VOLUNTEER;
+import static com.example.dailychallenge.entity.challenge.ChallengeDuration.OVER_ONE_HOUR;
+import static com.example.dailychallenge.entity.challenge.ChallengeLocation.OUTDOOR;
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.util.fixture.TestImgCleanup;
+import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋된 뒤에만 테이블에 반영되므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({TestImgCleanup.class, TestDataSetup.class})
+class ChallengeRecommendationBucketsTest {
+
+    @Autowired
+    private ChallengeRecommendationBuckets challengeRecommendationBuckets;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private TestImgCleanup testImgCleanup;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+    }
+
+    @AfterEach
+    void afterEach() {
+        userRepository.deleteById(user.getId());
+        challengeRecommendationBuckets.rebuild();
+        testImgCleanup.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("한 칸에 4개보다 많으면 호출할 때마다 순서대로 돌아가며 추천한다")
+    void rotateRecommendations() {
+        List<Long> challengeIds = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            challengeIds.add(saveChallenge("제목입니다." + i, ECONOMY).getId());
+        }
+
+        assertEquals(challengeIds.subList(0, 4), recommendIds(ECONOMY));
+        assertEquals(List.of(challengeIds.get(4), challengeIds.get(5), challengeIds.get(0), challengeIds.get(1)),
+                recommendIds(ECONOMY));
+        assertEquals(challengeIds.subList(2, 6), recommendIds(ECONOMY));
+    }
+
+    @Test
+    @DisplayName("롤백된 생성은 테이블에 반영되지 않는다")
+    void rollbackNotApplied() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            saveChallenge("제목입니다.", ECONOMY);
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(recommendIds(ECONOMY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정된 카테고리의 칸으로 옮겨지고 삭제되면 빠진다")
+    void moveAndRemove() {
+        Challenge challenge = saveChallenge("제목입니다.", ECONOMY);
+        RequestUpdateChallenge requestUpdateChallenge = RequestUpdateChallenge.builder()
+                .title("수정된 제목")
+                .content("수정된 내용")
+                .challengeCategory(VOLUNTEER.getDescription())
+                .build();
+
+        challengeService.updateChallenge(challenge.getId(), requestUpdateChallenge, List.of(), user);
+
+        assertTrue(recommendIds(ECONOMY).isEmpty());
+        List<ResponseRecommendedChallenge> recommended = recommend(VOLUNTEER);
+        assertEquals(1, recommended.size());
+        assertEquals("수정된 제목", recommended.get(0).getTitle());
+
+        challengeService.deleteChallenge(challenge.getId(), user);
+
+        assertTrue(recommend(VOLUNTEER).isEmpty());
+    }
+
+    private List<ResponseRecommendedChallenge> recommend(ChallengeCategory challengeCategory) {
+        return challengeRecommendationBuckets.recommend(challengeCategory, OVER_ONE_HOUR, OUTDOOR).orElse(List.of());
+    }
+
+    private List<Long> recommendIds(ChallengeCategory challengeCategory) {
+        return recommend(challengeCategory).stream()
+                .map(ResponseRecommendedChallenge::getId)
+                .collect(Collectors.toList());
+    }
+
+    private Challenge saveChallenge(String title, ChallengeCategory challengeCategory) {
+        return testDataSetup.챌린지를_생성한다(title, "내용입니다.", challengeCategory.getDescription(),
+                OUTDOOR.getDescription(), OVER_ONE_HOUR.getDescription(), user);
+    }
+}
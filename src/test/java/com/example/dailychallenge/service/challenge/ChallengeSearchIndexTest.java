@@ -0,0 +1,147 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.dto.ChallengeDto;
+import com.example.dailychallenge.dto.ChallengeSearchCondition;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.challenge.ChallengeDuration;
+import com.example.dailychallenge.entity.challenge.ChallengeLocation;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.util.ServiceTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
+import com.example.dailychallenge.vo.challenge.ResponseChallenge;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChallengeSearchIndexTest extends ServiceTest {
+
+    @Autowired
+    private ChallengeSearchIndex challengeSearchIndex;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private UserChallengeService userChallengeService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    private User user;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+    }
+
+    @Test
+    @DisplayName("저장한 챌린지를 2-gram, 3-gram 으로 찾는다")
+    void searchBySavedChallenge() {
+        Challenge morning = saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+        Challenge evening = saveChallenge("저녁 독서", "하루 30쪽 읽기", ChallengeCategory.STUDY);
+
+        assertTrue(challengeSearchIndex.searchTitle("운동").orElseThrow().contains(morning.getId()));
+        assertTrue(challengeSearchIndex.searchTitle("아침 운동").orElseThrow().contains(morning.getId()));
+        assertFalse(challengeSearchIndex.searchTitle("아침 운동").orElseThrow().contains(evening.getId()));
+        assertTrue(challengeSearchIndex.searchContent("30쪽").orElseThrow().contains(evening.getId()));
+        assertTrue(challengeSearchIndex.searchTitle("점심 산책").orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("gram 보다 짧은 검색어는 인덱스를 쓰지 않는다")
+    void shortKeyword() {
+        saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+
+        assertTrue(challengeSearchIndex.searchTitle("운").isEmpty());
+        assertTrue(challengeSearchIndex.searchTitle(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("인덱스로 좁힌 후보에 카테고리 조건을 함께 적용한다")
+    void searchByCondition() {
+        Challenge morning = saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+        saveChallenge("아침 운동 기록 공부", "운동 일지 쓰기", ChallengeCategory.STUDY);
+        saveChallenge("저녁 독서", "하루 30쪽 읽기", ChallengeCategory.WORKOUT);
+
+        ChallengeSearchCondition condition = ChallengeSearchCondition.builder()
+                .title("아침 운동")
+                .category(ChallengeCategory.WORKOUT.getDescription())
+                .build();
+        List<ResponseChallenge> content = userChallengeService.searchByCondition(condition, PageRequest.of(0, 20))
+                .getContent();
+
+        assertEquals(List.of(morning.getId()),
+                content.stream().map(ResponseChallenge::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("수정된 제목으로 검색되고 이전 제목으로는 검색되지 않는다")
+    void searchByUpdatedChallenge() {
+        Challenge challenge = saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+        RequestUpdateChallenge requestUpdateChallenge = RequestUpdateChallenge.builder()
+                .title("주말 등산")
+                .content("스트레칭 10분")
+                .challengeCategory(ChallengeCategory.WORKOUT.getDescription())
+                .build();
+        challengeService.updateChallenge(challenge.getId(), requestUpdateChallenge, List.of(), user);
+
+        assertTrue(challengeSearchIndex.searchTitle("등산").orElseThrow().contains(challenge.getId()));
+        assertEquals(1, searchTitle("주말 등산").size());
+        assertTrue(searchTitle("아침 운동").isEmpty());
+    }
+
+    @Test
+    @DisplayName("다시 만든 인덱스에서도 저장한 챌린지를 찾는다")
+    void searchAfterRebuild() {
+        Challenge morning = saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+
+        challengeSearchIndex.rebuild();
+        Challenge evening = saveChallenge("저녁 운동하기", "하루 30쪽 읽기", ChallengeCategory.STUDY);
+
+        assertTrue(challengeSearchIndex.searchTitle("운동").orElseThrow()
+                .containsAll(List.of(morning.getId(), evening.getId())));
+    }
+
+    @Test
+    @DisplayName("후보가 상한보다 많으면 인덱스를 쓰지 않고 LIKE 로 검색한다")
+    void tooManyCandidates() {
+        saveChallenge("매일 아침 운동하기", "스트레칭 10분", ChallengeCategory.WORKOUT);
+        saveChallenge("저녁 운동하기", "하루 30쪽 읽기", ChallengeCategory.STUDY);
+        ReflectionTestUtils.setField(challengeSearchIndex, "maxCandidates", 1);
+        try {
+            assertTrue(challengeSearchIndex.searchTitle("운동").isEmpty());
+            assertEquals(2, searchTitle("운동").size());
+        } finally {
+            ReflectionTestUtils.setField(challengeSearchIndex, "maxCandidates", 1000);
+        }
+    }
+
+    private List<ResponseChallenge> searchTitle(String title) {
+        ChallengeSearchCondition condition = ChallengeSearchCondition.builder().title(title).build();
+        return userChallengeService.searchByCondition(condition, PageRequest.of(0, 20)).getContent();
+    }
+
+    private Challenge saveChallenge(String title, String content, ChallengeCategory category) {
+        ChallengeDto challengeDto = ChallengeDto.builder()
+                .title(title)
+                .content(content)
+                .challengeCategory(category.getDescription())
+                .challengeLocation(ChallengeLocation.INDOOR.getDescription())
+                .challengeDuration(ChallengeDuration.WITHIN_TEN_MINUTES.getDescription())
+                .build();
+        Challenge challenge = challengeService.saveChallenge(challengeDto, null, user);
+        userChallengeService.saveUserChallenge(challenge, user);
+        return challenge;
+    }
+}
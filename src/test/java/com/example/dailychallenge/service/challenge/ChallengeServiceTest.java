@@ -174,6 +174,7 @@ public class ChallengeServiceTest extends ServiceTest {
                     .users(user)
                     .build();
             userChallengeRepository.save(userChallenge);
+            challengeRepository.increaseParticipantCount(savedChallenge.getId());
             Long challengeId = savedChallenge.getId();
 
             ResponseChallenge responseChallenge = challengeService.searchById(challengeId);
@@ -472,6 +473,7 @@ public class ChallengeServiceTest extends ServiceTest {
     private void saveChallengeParticipate(ChallengeStatus challengeStatus, User user, Challenge challenge) {
         UserChallenge userChallenge = createSpecificUserChallenge(challengeStatus, user, challenge);
         userChallengeRepository.save(userChallenge);
+        challengeRepository.increaseParticipantCount(challenge.getId());
     }
 
     private void saveChallengeHashtags(List<String> hashtagDto, Challenge challenge) {
@@ -0,0 +1,108 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeImgFixture.updateChallengeImgFiles;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.dailychallenge.dto.ChallengeSearchCondition;
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeCategory;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.util.fixture.TestImgCleanup;
+import com.example.dailychallenge.vo.challenge.RequestUpdateChallenge;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 캐시된 total 은 커밋된 뒤에만 비워지므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({TestImgCleanup.class, TestDataSetup.class})
+class ChallengeTotalCountTest {
+
+    private static final PageRequest PAGE_REQUEST = PageRequest.of(0, 10, Sort.by("popular"));
+
+    @Autowired
+    private UserChallengeService userChallengeService;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private ChallengeRandomPicker challengeRandomPicker;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private TestImgCleanup testImgCleanup;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        userIds.add(user.getId());
+    }
+
+    @AfterEach
+    void afterEach() {
+        for (int i = userIds.size() - 1; i >= 0; i--) {
+            userRepository.deleteById(userIds.get(i));
+        }
+        challengeRandomPicker.rebuild();
+        testImgCleanup.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("참여로 목록이 바뀌면 캐시된 전체 개수가 갱신되는 테스트")
+    void searchAllTotalAfterParticipate() {
+        Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        testDataSetup.챌린지에_참가한다(challenge, user);
+        assertEquals(1L, userChallengeService.searchAll(PAGE_REQUEST).getTotalElements());
+
+        Challenge otherChallenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        testDataSetup.챌린지에_참가한다(otherChallenge, user);
+
+        assertEquals(2L, userChallengeService.searchAll(PAGE_REQUEST).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("카테고리를 바꾸면 카테고리별로 캐시된 전체 개수가 갱신되는 테스트")
+    void searchByConditionTotalAfterCategoryChange() {
+        Challenge challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        testDataSetup.챌린지에_참가한다(challenge, user);
+        assertEquals(1L, totalOf(ChallengeCategory.STUDY));
+        assertEquals(0L, totalOf(ChallengeCategory.WORKOUT));
+
+        RequestUpdateChallenge requestUpdateChallenge = RequestUpdateChallenge.builder()
+                .challengeCategory(ChallengeCategory.WORKOUT.getDescription())
+                .build();
+        challengeService.updateChallenge(challenge.getId(), requestUpdateChallenge, updateChallengeImgFiles(), user);
+
+        assertEquals(0L, totalOf(ChallengeCategory.STUDY));
+        assertEquals(1L, totalOf(ChallengeCategory.WORKOUT));
+    }
+
+    private long totalOf(ChallengeCategory challengeCategory) {
+        ChallengeSearchCondition condition = ChallengeSearchCondition.builder()
+                .category(challengeCategory.getDescription())
+                .build();
+        return userChallengeService.searchByCondition(condition, PAGE_REQUEST).getTotalElements();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallenge;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.ChallengeStatus;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.challenge.UserChallengeHistory;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.repository.challenge.UserChallengeHistoryRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스레드마다 커밋해야 하므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class UserChallengeHistoryConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int YEAR = 2026;
+
+    @Autowired
+    private UserChallengeHistoryService userChallengeHistoryService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private UserChallengeRepository userChallengeRepository;
+    @Autowired
+    private UserChallengeHistoryRepository userChallengeHistoryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+    private Long userChallengeId;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .userName(USERNAME)
+                    .email("history-concurrency@test.com")
+                    .password(PASSWORD)
+                    .build());
+            userId = user.getId();
+            Challenge challenge = createChallenge();
+            challenge.setUser(user);
+            challengeRepository.save(challenge);
+            UserChallenge userChallenge = UserChallenge.builder()
+                    .challengeStatus(ChallengeStatus.TRYING)
+                    .users(user)
+                    .challenge(challenge)
+                    .build();
+            userChallenge.setUser(user);
+            userChallenge.setChallenge(challenge);
+            userChallengeId = userChallengeRepository.save(userChallenge).getId();
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    @DisplayName("그 해 첫 달성이 동시에 들어와도 기록은 한 행만 만들고 모든 날짜를 남긴다")
+    void achieveFirstOfYearConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int day = 1; day <= THREADS; day++) {
+            LocalDate date = LocalDate.of(YEAR, 1, day);
+            results.add(executor.submit(() -> {
+                start.await();
+                // 기록이 없던 시점에 읽어 둔 것처럼 history 를 null 로 넘긴다
+                transactionTemplate.executeWithoutResult(status -> userChallengeHistoryService.achieve(
+                        userChallengeRepository.findById(userChallengeId).orElseThrow(), null, date));
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UserChallengeHistory> histories = userChallengeHistoryRepository
+                    .findAllByUserChallengeIdOrderByYearAsc(userChallengeId);
+            assertEquals(1, histories.size());
+            assertEquals(THREADS, histories.get(0).toBitSet().cardinality());
+        });
+    }
+
+    @Test
+    @DisplayName("잠금 없이 읽어 둔 기록에 동시에 달성해도 다른 날짜의 비트를 덮어쓰지 않는다")
+    void achieveReadHistoryConcurrently() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> userChallengeHistoryRepository.save(
+                UserChallengeHistory.builder()
+                        .userChallenge(userChallengeRepository.findById(userChallengeId).orElseThrow())
+                        .year(YEAR)
+                        .build()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch read = new CountDownLatch(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int day = 1; day <= THREADS; day++) {
+            LocalDate date = LocalDate.of(YEAR, 1, day);
+            results.add(executor.submit(() -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    UserChallenge userChallenge = userChallengeRepository.findById(userChallengeId).orElseThrow();
+                    UserChallengeHistory history = userChallengeHistoryRepository
+                            .findByUserChallengeIdAndYear(userChallengeId, YEAR).orElseThrow();
+                    // 모든 스레드가 같은 비트셋을 읽은 뒤에 쓰게 한다
+                    read.countDown();
+                    awaitQuietly(read);
+                    userChallengeHistoryService.achieve(userChallenge, history, date);
+                });
+                return null;
+            }));
+        }
+
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        transactionTemplate.executeWithoutResult(status -> assertEquals(THREADS, userChallengeHistoryRepository
+                .findByUserChallengeIdAndYear(userChallengeId, YEAR).orElseThrow().toBitSet().cardinality()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
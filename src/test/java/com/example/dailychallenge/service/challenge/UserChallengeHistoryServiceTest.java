@@ -0,0 +1,102 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.challenge.UserChallenge;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.util.ServiceTest;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementCalendar;
+import com.example.dailychallenge.vo.challenge.ResponseAchievementStreak;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserChallengeHistoryServiceTest extends ServiceTest {
+
+    @Autowired
+    private UserChallengeHistoryService userChallengeHistoryService;
+    @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    private User user;
+    private Challenge challenge;
+    private UserChallenge userChallenge;
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        challenge = testDataSetup.챌린지를_생성한다(createChallengeDto(), user);
+        userChallenge = testDataSetup.챌린지에_참가한다(challenge, user);
+    }
+
+    @Test
+    @DisplayName("챌린지 달성과 중지가 오늘 달성 기록에 반영된다")
+    void succeedAndPause() {
+        YearMonth thisMonth = YearMonth.now();
+        int today = LocalDate.now().getDayOfMonth() - 1;
+
+        challengeCheckInService.succeed(user.getEmail(), challenge.getId());
+        ResponseAchievementCalendar calendar
+                = userChallengeHistoryService.getCalendar(user.getId(), challenge.getId(), thisMonth);
+        assertTrue(calendar.getDays().get(today));
+        assertEquals(1, calendar.getAchievedCount());
+
+        challengeCheckInService.pause(user.getEmail(), challenge.getId());
+        calendar = userChallengeHistoryService.getCalendar(user.getId(), challenge.getId(), thisMonth);
+        assertFalse(calendar.getDays().get(today));
+        assertEquals(0, calendar.getAchievedCount());
+    }
+
+    @Test
+    @DisplayName("연말연시에 걸친 연속 달성 일수와 최장 연속 달성 일수를 계산한다")
+    void streak() {
+        achieve(LocalDate.of(2023, 3, 1), 5);
+        achieve(LocalDate.of(2023, 12, 28), 4);
+        achieve(LocalDate.of(2024, 1, 1), 3);
+
+        ResponseAchievementStreak streak
+                = userChallengeHistoryService.getStreak(user.getId(), challenge.getId(), LocalDate.of(2024, 1, 4));
+
+        assertEquals(7, streak.getCurrentStreak());
+        assertEquals(7, streak.getLongestStreak());
+
+        streak = userChallengeHistoryService.getStreak(user.getId(), challenge.getId(), LocalDate.of(2024, 1, 5));
+        assertEquals(0, streak.getCurrentStreak());
+        assertEquals(7, streak.getLongestStreak());
+    }
+
+    @Test
+    @DisplayName("윤년 2월 달력을 조회한다")
+    void calendar() {
+        achieve(LocalDate.of(2024, 2, 28), 2);
+        achieve(LocalDate.of(2024, 3, 2), 1);
+
+        ResponseAchievementCalendar calendar = userChallengeHistoryService.getCalendar(
+                user.getId(), challenge.getId(), YearMonth.of(2024, 2));
+
+        assertEquals(29, calendar.getDays().size());
+        assertEquals(2, calendar.getAchievedCount());
+        assertTrue(calendar.getDays().get(27));
+        assertTrue(calendar.getDays().get(28));
+        assertFalse(calendar.getDays().get(26));
+    }
+
+    private void achieve(LocalDate from, int days) {
+        for (int i = 0; i < days; i++) {
+            userChallengeHistoryService.achieve(userChallenge, from.plusDays(i));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.dailychallenge.service.challenge;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallenge;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.exception.userChallenge.UserChallengeDuplicate;
+import com.example.dailychallenge.repository.ChallengeRepository;
+import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스레드마다 커밋해야 하므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class UserChallengeParticipationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_USER = 4;
+    private static final int USERS = 5;
+
+    @Autowired
+    private UserChallengeService userChallengeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private UserChallengeRepository userChallengeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long challengeId;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < USERS; i++) {
+                User user = userRepository.save(User.builder()
+                        .userName(USERNAME + i)
+                        .email("concurrency" + i + "@test.com")
+                        .password(PASSWORD)
+                        .build());
+                userIds.add(user.getId());
+            }
+            Challenge challenge = createChallenge();
+            challenge.setUser(userRepository.getReferenceById(userIds.get(0)));
+            challengeId = challengeRepository.save(challenge).getId();
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteAllById(userIds));
+        userIds.clear();
+    }
+
+    @Test
+    @DisplayName("한 유저가 동시에 여러 번 참가해도 참가 행은 하나이고 참가자 수는 1이다")
+    void participateConcurrentlyBySingleUser() throws Exception {
+        Long userId = userIds.get(0);
+
+        int created = participateConcurrently(List.of(userId), THREADS * REQUESTS_PER_USER);
+
+        assertEquals(1, created);
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(1, countUserChallenges(userId));
+            assertEquals(1, challengeRepository.findById(challengeId).orElseThrow().getParticipantCount());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 유저가 동시에 여러 번 참가해도 참가는 한 번만 기록된다")
+    void participateConcurrently() throws Exception {
+        int created = participateConcurrently(userIds, REQUESTS_PER_USER);
+
+        assertEquals(USERS, created);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long userId : userIds) {
+                assertEquals(1, countUserChallenges(userId));
+            }
+            assertEquals(USERS, challengeRepository.findById(challengeId).orElseThrow().getParticipantCount());
+        });
+    }
+
+    /**
+     * 유저마다 requestsPerUser 번씩 동시에 참가하고 새로 참가한 횟수를 돌려준다.
+     */
+    private int participateConcurrently(List<Long> participantIds, int requestsPerUser) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < participantIds.size() * requestsPerUser; i++) {
+            Long userId = participantIds.get(i % participantIds.size());
+            results.add(executor.submit(() -> {
+                start.await();
+                return participate(userId);
+            }));
+        }
+
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return created;
+    }
+
+    private long countUserChallenges(Long userId) {
+        return userChallengeRepository.findAll().stream()
+                .filter(userChallenge -> userChallenge.getChallenge().getId().equals(challengeId))
+                .filter(userChallenge -> userChallenge.getUsers().getId().equals(userId))
+                .count();
+    }
+
+    /**
+     * 컨트롤러처럼 한 트랜잭션 안에서 유저와 챌린지를 읽고 참가한다. 중복이면 false
+     */
+    private boolean participate(Long userId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userChallengeService.saveUserChallenge(
+                    challengeRepository.findById(challengeId).orElseThrow(),
+                    userRepository.findById(userId).orElseThrow()));
+            return true;
+        } catch (UserChallengeDuplicate e) {
+            return false;
+        }
+    }
+}
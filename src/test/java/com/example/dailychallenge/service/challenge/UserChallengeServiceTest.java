@@ -7,10 +7,13 @@ import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_EMA
 import static com.example.dailychallenge.util.fixture.user.UserFixture.OTHER_USERNAME;
 import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.dailychallenge.entity.batch.BatchJobProgress;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.ChallengeStatus;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
@@ -19,11 +22,14 @@ import com.example.dailychallenge.exception.userChallenge.ChallengeSuccessDuplic
 import com.example.dailychallenge.exception.userChallenge.UserChallengeDuplicate;
 import com.example.dailychallenge.repository.ChallengeRepository;
 import com.example.dailychallenge.repository.UserChallengeRepository;
+import com.example.dailychallenge.repository.batch.BatchJobProgressRepository;
 import com.example.dailychallenge.util.ServiceTest;
 import com.example.dailychallenge.util.fixture.TestDataSetup;
 import com.example.dailychallenge.vo.ResponseChallengeByUserChallenge;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,12 +41,18 @@ public class UserChallengeServiceTest extends ServiceTest {
     @Autowired
     private UserChallengeService userChallengeService;
     @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
     private UserChallengeRepository userChallengeRepository;
     @Autowired
     private ChallengeRepository challengeRepository;
+    @Autowired
+    private BatchJobProgressRepository batchJobProgressRepository;
 
     @Autowired
     private TestDataSetup testDataSetup;
+    @Autowired
+    private EntityManager entityManager;
 
     private User user;
     private Challenge challenge;
@@ -101,8 +113,8 @@ public class UserChallengeServiceTest extends ServiceTest {
         @Test
         @DisplayName("챌린지 달성")
         void succeedInChallenge(){
-            userChallengeService.saveUserChallenge(challenge, user);
-            UserChallenge userChallenge = userChallengeService.succeedInChallenge(user.getId(), challenge.getId());
+            UserChallenge userChallenge = userChallengeService.saveUserChallenge(challenge, user);
+            challengeCheckInService.succeed(user.getEmail(), challenge.getId());
             assertEquals(userChallenge.getChallengeStatus().getDescription(),"성공");
         }
 
@@ -110,18 +122,18 @@ public class UserChallengeServiceTest extends ServiceTest {
         @DisplayName("이미 달성한 챌린지를 달성하려고 하면 오류 발생")
         void failByDuplicateSucceedInChallenge(){
             userChallengeService.saveUserChallenge(challenge, user);
-            userChallengeService.succeedInChallenge(user.getId(), challenge.getId());
+            challengeCheckInService.succeed(user.getEmail(), challenge.getId());
 
             Throwable exception = assertThrows(ChallengeSuccessDuplicate.class,
-                    () -> userChallengeService.succeedInChallenge(user.getId(), challenge.getId()));
+                    () -> challengeCheckInService.succeed(user.getEmail(), challenge.getId()));
             assertEquals("이미 달성한 챌린지입니다.", exception.getMessage());
         }
 
         @Test
         @DisplayName("챌린지 중지")
         void pauseChallenge(){
-            userChallengeService.saveUserChallenge(challenge, user);
-            UserChallenge userChallenge = userChallengeService.pauseChallenge(user.getId(), challenge.getId());
+            UserChallenge userChallenge = userChallengeService.saveUserChallenge(challenge, user);
+            challengeCheckInService.pause(user.getEmail(), challenge.getId());
             assertEquals(userChallenge.getChallengeStatus().getDescription(),"중지");
         }
 
@@ -129,7 +141,7 @@ public class UserChallengeServiceTest extends ServiceTest {
         @DisplayName("오늘 수행(성공)한 챌린지 조회")
         void getTodayUserChallenge(){
             userChallengeService.saveUserChallenge(challenge, user);
-            userChallengeService.succeedInChallenge(user.getId(), challenge.getId());
+            challengeCheckInService.succeed(user.getEmail(), challenge.getId());
 
             List<ResponseChallengeByUserChallenge> userChallenges = userChallengeService.getTodayUserChallenge(user.getId());
             assertEquals(userChallenges.get(0).getUserId(),user.getId());
@@ -140,6 +152,27 @@ public class UserChallengeServiceTest extends ServiceTest {
             assertNotNull(userChallenges.get(0).getCreatedAt());
         }
 
+        @Test
+        @DisplayName("오늘 수행한 챌린지는 성공 상태만 조회하고, 상태가 바뀌면 다시 조회한다")
+        void getTodayUserChallengeAfterStatusChanged() {
+            Challenge otherChallenge = createChallenge();
+            otherChallenge.setUser(user);
+            otherChallenge = challengeRepository.save(otherChallenge);
+            userChallengeService.saveUserChallenge(challenge, user);
+            userChallengeService.saveUserChallenge(otherChallenge, user);
+            challengeCheckInService.succeed(user.getEmail(), challenge.getId());
+
+            List<ResponseChallengeByUserChallenge> first = userChallengeService.getTodayUserChallenge(user.getId());
+            assertEquals(1, first.size());
+            assertSame(first, userChallengeService.getTodayUserChallenge(user.getId()));
+
+            challengeCheckInService.succeed(user.getEmail(), otherChallenge.getId());
+            challengeCheckInService.pause(user.getEmail(), challenge.getId());
+
+            List<ResponseChallengeByUserChallenge> second = userChallengeService.getTodayUserChallenge(user.getId());
+            assertEquals(1, second.size());
+            assertEquals(otherChallenge.getId(), second.get(0).getChallengeId());
+        }
     }
     @Test
     @DisplayName("참여한 챌린지에서 나가는 테스트")
@@ -151,23 +184,115 @@ public class UserChallengeServiceTest extends ServiceTest {
         assertTrue(userChallengeRepository.findById(userChallenge.getId()).isEmpty());
     }
 
+    @Test
+    @DisplayName("챌린지 참가, 나가기에 따라 참여자 수가 DB 에 반영되는 테스트")
+    void participantCountTest() {
+        User otherUser = testDataSetup.saveUser(OTHER_USERNAME, OTHER_EMAIL, PASSWORD);
+        userChallengeService.saveUserChallenge(challenge, user);
+        userChallengeService.saveUserChallenge(challenge, otherUser);
+        assertEquals(2L, challenge.getParticipantCount());
+
+        userChallengeService.challengeLeave(challenge.getId(), user.getId());
+        assertEquals(1L, challenge.getParticipantCount());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Challenge findChallenge = challengeRepository.findById(challenge.getId()).orElseThrow();
+        assertEquals(1L, findChallenge.getParticipantCount());
+    }
+
     @Test
     @DisplayName("챌린지를 달성하면 일주일 동안 챌린지 달성을 변경한다")
     void succeedInChallengeWithUpdateWeeklyAchievement(){
-        userChallengeService.saveUserChallenge(challenge, user);
+        UserChallenge userChallenge = userChallengeService.saveUserChallenge(challenge, user);
 
-        UserChallenge userChallenge = userChallengeService.succeedInChallenge(user.getId(), challenge.getId());
+        challengeCheckInService.succeed(user.getEmail(), challenge.getId());
 
-        String weeklyAchievement = userChallenge.getWeeklyAchievement();
-        String[] split = weeklyAchievement.split(",");
+        List<Boolean> weeklyAchievement = userChallenge.converWeeklyChallengeToList();
         int todayNumber = LocalDate.now().getDayOfWeek().getValue() - 1;
-        for (int i = 0; i < split.length; i++) {
-            String actual = split[i];
-            if (i == todayNumber) {
-                assertEquals("true", actual);
-                continue;
+        assertEquals(7, weeklyAchievement.size());
+        for (int i = 0; i < weeklyAchievement.size(); i++) {
+            assertEquals(i == todayNumber, weeklyAchievement.get(i));
+        }
+        assertEquals(1 << todayNumber, userChallenge.getWeeklyAchievement());
+    }
+
+    @Test
+    @DisplayName("챌린지를 일시정지하면 오늘 달성만 취소한다")
+    void pauseChallengeWithUpdateWeeklyAchievement() {
+        UserChallenge userChallenge = userChallengeService.saveUserChallenge(challenge, user);
+        challengeCheckInService.succeed(user.getEmail(), challenge.getId());
+
+        challengeCheckInService.pause(user.getEmail(), challenge.getId());
+
+        assertFalse(userChallenge.isAchievedOn(LocalDate.now()));
+        assertEquals(UserChallenge.EMPTY_WEEKLY_ACHIEVEMENT, userChallenge.getWeeklyAchievement());
+    }
+
+    @Nested
+    @DisplayName("자정 초기화 테스트")
+    class reset {
+        private final List<UserChallenge> userChallenges = new ArrayList<>();
+
+        @BeforeEach
+        void beforeEach() {
+            userChallenges.clear();
+            for (int i = 1; i <= 3; i++) {
+                User participant = testDataSetup.saveUser(USERNAME + i, i + "@test.com", PASSWORD);
+                userChallenges.add(userChallengeService.saveUserChallenge(challenge, participant));
+                challengeCheckInService.succeed(participant.getEmail(), challenge.getId());
             }
-            assertEquals("false", actual);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("달성한 챌린지 상태를 일괄로 TRYING 으로 되돌리고 완료를 기록한다")
+        void resetChallengeStatus() {
+            userChallengeService.resetChallengeStatus();
+            entityManager.flush();
+            entityManager.clear();
+
+            userChallenges.forEach(userChallenge -> assertEquals(ChallengeStatus.TRYING,
+                    userChallengeRepository.findById(userChallenge.getId()).orElseThrow().getChallengeStatus()));
+            BatchJobProgress progress = batchJobProgressRepository.findById("resetChallengeStatus").orElseThrow();
+            assertTrue(progress.isCompleted());
+            assertEquals(3, progress.getRowsTouched());
+        }
+
+        @Test
+        @DisplayName("같은 날 멈춘 회차는 기록된 위치 다음부터 이어서 초기화한다")
+        void resumeResetChallengeStatus() {
+            Long firstId = userChallenges.get(0).getId();
+            batchJobProgressRepository.save(BatchJobProgress.builder()
+                    .jobName("resetChallengeStatus")
+                    .runKey(LocalDate.now().toString())
+                    .lastProcessedId(firstId)
+                    .build());
+
+            userChallengeService.resetChallengeStatus();
+            entityManager.flush();
+            entityManager.clear();
+
+            assertEquals(ChallengeStatus.SUCCESS,
+                    userChallengeRepository.findById(firstId).orElseThrow().getChallengeStatus());
+            assertEquals(ChallengeStatus.TRYING,
+                    userChallengeRepository.findById(userChallenges.get(2).getId()).orElseThrow()
+                            .getChallengeStatus());
+            assertEquals(2, batchJobProgressRepository.findById("resetChallengeStatus").orElseThrow()
+                    .getRowsTouched());
+        }
+
+        @Test
+        @DisplayName("일주일 달성 기록을 일괄로 초기화한다")
+        void resetWeeklyAchievement() {
+            userChallengeService.resetWeeklyAchievement();
+            entityManager.flush();
+            entityManager.clear();
+
+            userChallenges.forEach(userChallenge -> assertEquals(UserChallenge.EMPTY_WEEKLY_ACHIEVEMENT,
+                    userChallengeRepository.findById(userChallenge.getId()).orElseThrow().getWeeklyAchievement()));
         }
     }
 }
@@ -0,0 +1,167 @@
+package com.example.dailychallenge.service.hashtag;
+
+import static com.example.dailychallenge.util.fixture.TokenFixture.EMAIL;
+import static com.example.dailychallenge.util.fixture.TokenFixture.PASSWORD;
+import static com.example.dailychallenge.util.fixture.challenge.ChallengeFixture.createChallengeDto;
+import static com.example.dailychallenge.util.fixture.user.UserFixture.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.dailychallenge.entity.challenge.Challenge;
+import com.example.dailychallenge.entity.hashtag.ChallengeHashtag;
+import com.example.dailychallenge.entity.hashtag.Hashtag;
+import com.example.dailychallenge.entity.users.User;
+import com.example.dailychallenge.repository.HashtagRepository;
+import com.example.dailychallenge.repository.UserRepository;
+import com.example.dailychallenge.service.challenge.ChallengeService;
+import com.example.dailychallenge.util.fixture.TestDataSetup;
+import com.example.dailychallenge.util.fixture.TestImgCleanup;
+import com.example.dailychallenge.vo.challenge.ResponseRecommendedChallenge;
+import com.example.dailychallenge.vo.hashtag.ResponseChallengeHashtag;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 해시태그 연결, tagCount 변경, 챌린지 수정/삭제는 커밋된 뒤에만 반영되므로 ServiceTest 의 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({TestImgCleanup.class, TestDataSetup.class})
+class HashtagLeaderboardTest {
+
+    @Autowired
+    private HashtagLeaderboard hashtagLeaderboard;
+    @Autowired
+    private HashtagService hashtagService;
+    @Autowired
+    private ChallengeHashtagService challengeHashtagService;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private TestDataSetup testDataSetup;
+    @Autowired
+    private TestImgCleanup testImgCleanup;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private final List<Challenge> challenges = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        user = testDataSetup.saveUser(USERNAME, EMAIL, PASSWORD);
+        challenges.clear();
+        for (int i = 0; i < 4; i++) {
+            challenges.add(testDataSetup.챌린지를_생성한다(createChallengeDto(), user));
+        }
+        testDataSetup.챌린지에_해시태그를_단다(challenges.get(0), List.of("tag1", "tag2"));
+        testDataSetup.챌린지에_해시태그를_단다(challenges.get(1), List.of("tag1", "tag2", "tag3"));
+        testDataSetup.챌린지에_해시태그를_단다(challenges.get(2), List.of("tag2", "tag4"));
+        testDataSetup.챌린지에_해시태그를_단다(challenges.get(3), List.of("tag2"));
+    }
+
+    @AfterEach
+    void afterEach() {
+        userRepository.deleteById(user.getId());
+        hashtagRepository.deleteAll();
+        hashtagLeaderboard.rebuild();
+        testImgCleanup.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("tagCount 순으로 상위 3개 해시태그와 해시태그별 챌린지 3개를 돌려준다")
+    void top() {
+        List<ResponseChallengeHashtag> top = hashtagLeaderboard.top().orElseThrow();
+
+        assertThat(top).extracting("hashtagContent").containsExactly("tag2", "tag1", "tag3");
+        assertThat(top).extracting("hashtagTagCount").containsExactly(4, 2, 1);
+        assertThat(recommendedIds(top.get(0))).containsExactly(idOf(0), idOf(1), idOf(2));
+        assertThat(recommendedIds(top.get(1))).containsExactly(idOf(0), idOf(1));
+    }
+
+    @Test
+    @DisplayName("해시태그가 빠지거나 챌린지가 삭제되면 다음 챌린지로 채운다")
+    void detachAndDelete() {
+        List<Hashtag> hashtags = hashtagService.updateHashtag(List.of("tag1"), idOf(0));
+        challengeHashtagService.updateChallengeHashtag(idOf(0), hashtags);
+
+        ResponseChallengeHashtag tag2 = hashtagLeaderboard.top().orElseThrow().get(0);
+        assertThat(tag2.getHashtagTagCount()).isEqualTo(3);
+        assertThat(recommendedIds(tag2)).containsExactly(idOf(1), idOf(2), idOf(3));
+
+        transactionTemplate.executeWithoutResult(status -> hashtagService.deleteHashtag(
+                challengeHashtagService.findByChallengeId(idOf(1)).stream()
+                        .map(ChallengeHashtag::getHashtag)
+                        .collect(Collectors.toList())));
+        challengeService.deleteChallenge(idOf(1), user);
+
+        List<ResponseChallengeHashtag> top = hashtagLeaderboard.top().orElseThrow();
+        assertThat(top).extracting("hashtagContent").containsExactly("tag2", "tag1", "tag4");
+        assertThat(recommendedIds(top.get(0))).containsExactly(idOf(2), idOf(3));
+        assertThat(recommendedIds(top.get(1))).containsExactly(idOf(0));
+    }
+
+    @Test
+    @DisplayName("롤백된 tagCount 변경은 순위에 반영되지 않는다")
+    void rollbackNotApplied() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            hashtagService.saveHashtag(List.of("tag3", "tag3", "tag3", "tag3"));
+            throw new IllegalStateException();
+        }));
+
+        List<ResponseChallengeHashtag> top = hashtagLeaderboard.top().orElseThrow();
+        assertThat(top).extracting("hashtagContent").containsExactly("tag2", "tag1", "tag3");
+        assertThat(top).extracting("hashtagTagCount").containsExactly(4, 2, 1);
+    }
+
+    @Test
+    @DisplayName("롤백된 해시태그 연결은 추천 챌린지에 반영되지 않는다")
+    void rollbackLinkNotApplied() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            List<Hashtag> hashtags = hashtagService.updateHashtag(List.of("tag1", "tag3"), idOf(3));
+            challengeHashtagService.updateChallengeHashtag(idOf(3), hashtags);
+            throw new IllegalStateException();
+        }));
+
+        List<ResponseChallengeHashtag> top = hashtagLeaderboard.top().orElseThrow();
+        assertThat(top).extracting("hashtagContent").containsExactly("tag2", "tag1", "tag3");
+        assertThat(recommendedIds(top.get(1))).containsExactly(idOf(0), idOf(1));
+        assertThat(recommendedIds(top.get(2))).containsExactly(idOf(1));
+    }
+
+    @Test
+    @DisplayName("다시 만든 순위표도 커밋된 tagCount 와 같다")
+    void topAfterRebuild() {
+        transactionTemplate.executeWithoutResult(status -> hashtagService.saveHashtag(List.of("tag4", "tag4")));
+
+        hashtagLeaderboard.rebuild();
+
+        List<ResponseChallengeHashtag> top = hashtagLeaderboard.top().orElseThrow();
+        assertThat(top).extracting("hashtagContent").containsExactly("tag2", "tag4", "tag1");
+        assertThat(top).extracting("hashtagTagCount").containsExactly(4, 3, 2);
+    }
+
+    private Long idOf(int index) {
+        return challenges.get(index).getId();
+    }
+
+    private List<Long> recommendedIds(ResponseChallengeHashtag responseChallengeHashtag) {
+        return responseChallengeHashtag.getRecommendedChallenges().stream()
+                .map(ResponseRecommendedChallenge::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -2,13 +2,9 @@ package com.example.dailychallenge.util.fixture;
 
 import static com.example.dailychallenge.util.fixture.challenge.ChallengeImgFixture.createChallengeImgFiles;
 
-import com.example.dailychallenge.dto.BadgeDto;
 import com.example.dailychallenge.dto.ChallengeDto;
-import com.example.dailychallenge.entity.badge.Badge;
 import com.example.dailychallenge.entity.badge.UserBadgeEvaluation;
-import com.example.dailychallenge.entity.badge.type.AchievementBadgeType;
-import com.example.dailychallenge.entity.badge.type.ChallengeCreateBadgeType;
-import com.example.dailychallenge.entity.badge.type.CommentWriteBadgeType;
+import com.example.dailychallenge.entity.badge.type.BadgeMetric;
 import com.example.dailychallenge.entity.challenge.Challenge;
 import com.example.dailychallenge.entity.challenge.UserChallenge;
 import com.example.dailychallenge.entity.comment.Comment;
@@ -19,13 +15,16 @@ import com.example.dailychallenge.repository.CommentImgRepository;
 import com.example.dailychallenge.repository.CommentRepository;
 import com.example.dailychallenge.repository.UserRepository;
 import com.example.dailychallenge.repository.badge.UserBadgeEvaluationRepository;
-import com.example.dailychallenge.service.badge.BadgeService;
+import com.example.dailychallenge.service.badge.BadgeCounterRecomputeService;
+import com.example.dailychallenge.service.badge.BadgeOutboxService;
 import com.example.dailychallenge.service.badge.UserBadgeEvaluationService;
-import com.example.dailychallenge.service.badge.UserBadgeService;
+import com.example.dailychallenge.service.challenge.ChallengeCheckInService;
 import com.example.dailychallenge.service.challenge.ChallengeService;
 import com.example.dailychallenge.service.challenge.UserChallengeService;
 import com.example.dailychallenge.service.hashtag.ChallengeHashtagService;
 import com.example.dailychallenge.service.hashtag.HashtagService;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute;
+import com.example.dailychallenge.vo.badge.ResponseBadgeRecompute.Status;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestComponent;
@@ -41,6 +40,8 @@ public class TestDataSetup {
     @Autowired
     private UserChallengeService userChallengeService;
     @Autowired
+    private ChallengeCheckInService challengeCheckInService;
+    @Autowired
     private CommentRepository commentRepository;
     @Autowired
     private CommentImgRepository commentImgRepository;
@@ -53,9 +54,9 @@ public class TestDataSetup {
     @Autowired
     private UserBadgeEvaluationService userBadgeEvaluationService;
     @Autowired
-    private BadgeService badgeService;
+    private BadgeOutboxService badgeOutboxService;
     @Autowired
-    private UserBadgeService userBadgeService;
+    private BadgeCounterRecomputeService badgeCounterRecomputeService;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -137,7 +138,7 @@ public class TestDataSetup {
     public void 챌린지를_달성한다(UserChallenge userChallenge) {
         User user = userChallenge.getUsers();
         Challenge challenge = userChallenge.getChallenge();
-        userChallengeService.succeedInChallenge(user.getId(), challenge.getId());
+        challengeCheckInService.succeed(user.getEmail(), challenge.getId());
     }
 
     @Transactional
@@ -149,29 +150,42 @@ public class TestDataSetup {
 
     @Transactional
     public void 챌린지_달성_뱃지를_만들_수_있으면_만든다(User user) {
-        userBadgeEvaluationService.createAchievementBadgeIfFollowStandard(user);
+        userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.ACHIEVEMENT);
     }
 
     @Transactional
     public void 챌린지_생성_뱃지를_만들_수_있으면_만든다(User user) {
-        userBadgeEvaluationService.createChallengeCreateBadgeIfFollowStandard(user);
+        userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.CHALLENGE_CREATE);
     }
 
     @Transactional
     public void 후기_작성_뱃지를_만들_수_있으면_만든다(User user) {
-        userBadgeEvaluationService.createCommentWriteBadgeIfFollowStandard(user);
+        userBadgeEvaluationService.evaluate(user.getId(), BadgeMetric.COMMENT_WRITE);
     }
 
+    /**
+     * 테스트 트랜잭션은 커밋되지 않아 비동기 평가가 돌지 않으므로, 쌓인 뱃지 평가 이벤트를 직접 처리한다
+     */
     @Transactional
-    public void saveBadgesAndUserBadges(User user) {
-        List<BadgeDto> achievementBadgeDtos = AchievementBadgeType.getBadgeDtos();
-        List<BadgeDto> commentWriteBadgeDtos = CommentWriteBadgeType.getBadgeDtos();
-        List<BadgeDto> challengeCreateBadgeDtos = ChallengeCreateBadgeType.getBadgeDtos();
-        List<Badge> achievementBadges = badgeService.createBadges(achievementBadgeDtos);
-        List<Badge> commentWriteBadges = badgeService.createBadges(commentWriteBadgeDtos);
-        List<Badge> challengeCreateBadges = badgeService.createBadges(challengeCreateBadgeDtos);
-        userBadgeService.createUserBadges(user, achievementBadges);
-        userBadgeService.createUserBadges(user, commentWriteBadges);
-        userBadgeService.createUserBadges(user, challengeCreateBadges);
+    public void 뱃지_평가_이벤트를_처리한다() {
+        for (Long outboxId : badgeOutboxService.findPendingIds(0L, Integer.MAX_VALUE)) {
+            badgeOutboxService.process(outboxId);
+        }
+    }
+
+    /**
+     * 재계산은 별도 스레드에서 돌므로 끝날 때까지 상태를 확인한다. 진행 중인 재계산이 없으면 마지막 결과를 바로 반환한다
+     */
+    public ResponseBadgeRecompute 뱃지_재계산이_끝날_때까지_기다린다(String adminEmail) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ResponseBadgeRecompute response = badgeCounterRecomputeService.getStatus(adminEmail);
+        while (response.getStatus() == Status.RUNNING) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("뱃지 재계산이 끝나지 않았습니다.");
+            }
+            Thread.sleep(50);
+            response = badgeCounterRecomputeService.getStatus(adminEmail);
+        }
+        return response;
     }
 }
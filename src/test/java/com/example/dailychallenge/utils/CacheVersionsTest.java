@@ -0,0 +1,50 @@
+package com.example.dailychallenge.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheVersionsTest {
+
+    @Test
+    @DisplayName("같은 칸의 키나 전체를 무효화하면 이전 stamp 는 더 이상 유효하지 않다")
+    void stampTest() {
+        CacheVersions cacheVersions = new CacheVersions();
+        long stamp = cacheVersions.stamp(1L);
+        long otherStamp = cacheVersions.stamp(2L);
+
+        cacheVersions.invalidate(1L, () -> {
+        });
+        assertFalse(cacheVersions.isCurrent(1L, stamp));
+        assertTrue(cacheVersions.isCurrent(2L, otherStamp));
+
+        cacheVersions.invalidateAll(() -> {
+        });
+        assertFalse(cacheVersions.isCurrent(2L, otherStamp));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 즉시 한 번, 커밋 이후에 한 번 더 지운다")
+    void invalidateAgainAfterCommitTest() {
+        CacheVersions cacheVersions = new CacheVersions();
+        AtomicInteger evicted = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheVersions.invalidate(1L, evicted::incrementAndGet);
+            long stamp = cacheVersions.stamp(1L);
+            assertEquals(1, evicted.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(2, evicted.get());
+            assertFalse(cacheVersions.isCurrent(1L, stamp));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}